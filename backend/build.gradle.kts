@@ -4,6 +4,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.7"
     kotlin("jvm") version "1.9.25"
     kotlin("plugin.spring") version "1.9.25"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.moyam"
@@ -11,7 +12,7 @@ version = "1.0.0-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion.set(JavaLanguageVersion.of(17))
+        languageVersion.set(JavaLanguageVersion.of(21))
     }
 }
 
@@ -25,6 +26,21 @@ configurations {
     }
 }
 
+// --- 부하 테스트 (src/loadtest/java, ./gradlew loadTestServer / loadTest)
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadtestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+configurations["loadtestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+configurations["loadtestCompileOnly"].extendsFrom(configurations.compileOnly.get())
+configurations["loadtestAnnotationProcessor"].extendsFrom(configurations.annotationProcessor.get())
+
 dependencies {
     // --- Spring Boot Starters
     implementation("org.springframework.boot:spring-boot-starter-web")
@@ -32,6 +48,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     // --- Database
     implementation("org.springframework.boot:spring-boot-starter-jdbc")
@@ -45,10 +62,12 @@ dependencies {
     // --- socket
     implementation("org.springframework:spring-websocket")
     implementation("org.springframework:spring-messaging")
+    implementation("io.projectreactor.netty:reactor-netty-http")   // STOMP 브로커 릴레이 TCP 클라이언트 (core 만으로는 Spring 이 인식하지 못함)
 
     // --- JSON
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-yaml")
 
     // --- Swagger/OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.6.0")
@@ -76,14 +95,50 @@ dependencies {
     // --- Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.mybatis.spring.boot:mybatis-spring-boot-starter-test:3.0.5")
+
+    // --- Load test
+    loadtestImplementation("io.zonky.test:embedded-postgres:2.0.7")
+    loadtestImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.test {
     useJUnitPlatform()
+    // 테스트는 컨텍스트 스냅샷을 쓰지 않고, 보관 파일은 빌드 디렉터리에만 남김
+    systemProperty("chatbot.context-store.snapshot.enabled", "false")
+    systemProperty("chatbot.message-partitions.archive-dir", layout.buildDirectory.dir("tmp/archive").get().asFile.path)
+}
+
+// --- JMH 벤치마크 (src/jmh/java, ./gradlew jmh)
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    benchmarkMode.set(listOf("thrpt"))
+    timeUnit.set("ms")
+    // 처리량과 함께 gc.alloc.rate.norm(연산당 할당 바이트)을 기록해 회귀 비교에 사용
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
+tasks.register<JavaExec>("loadTestServer") {
+    group = "load test"
+    description = "임베디드 PostgreSQL + 샘플 시나리오로 백엔드 실행"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("io.moyam.chatbot.loadtest.LoadTestServer")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "load test"
+    description = "STOMP 부하 발생기 실행 (-PloadArgs=\"--sessions=2000 --duration=60s\")"
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("io.moyam.chatbot.loadtest.ChatLoadGenerator")
+    args = (findProperty("loadArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
 }
 
 kotlin {
-    jvmToolchain(17)
+    jvmToolchain(21)
     compilerOptions {
         freeCompilerArgs.add("-Xjsr305=strict")
     }
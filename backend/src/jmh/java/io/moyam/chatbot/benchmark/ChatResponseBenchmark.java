@@ -0,0 +1,68 @@
+package io.moyam.chatbot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponse;
+import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponseMessageConverter;
+import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponsePreset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 응답(인사말) STOMP 본문 생성 벤치마크
+ *
+ * <p>legacy* 는 매번 응답 객체와 선택지 목록을 만들어 기본 Jackson 변환기로 직렬화하던 이전 방식,
+ * preset* 은 미리 만든 본문에 세션 ID 와 시간만 붙이는 현재 방식이다.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ChatResponseBenchmark {
+
+    private static final String GREETING = "안녕하세요! 저는 AI 개인비서입니다.\n\n무엇을 도와드릴까요?\n\n아래 버튼을 클릭하거나 '시작'이라고 말씀해주세요!";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final MappingJackson2MessageConverter jacksonConverter = new MappingJackson2MessageConverter(objectMapper);
+
+    private final ChatResponseMessageConverter chatResponseConverter = new ChatResponseMessageConverter(objectMapper);
+
+    private final ChatResponsePreset preset = ChatResponsePreset.of("info", GREETING,
+            ChoiceOption.builder().value("start_demo").label("시나리오 시작하기").build(),
+            ChoiceOption.builder().value("help").label("도움말 보기").build());
+
+    @Benchmark
+    public Message<?> legacyGreeting() {
+        ChatResponse response = ChatResponse.builder()
+                .message(GREETING)
+                .sessionId("session-1")
+                .isFromBot(true)
+                .messageType("info")
+                .choices(Arrays.asList(
+                        ChoiceOption.builder().value("start_demo").label("시나리오 시작하기").build(),
+                        ChoiceOption.builder().value("help").label("도움말 보기").build()))
+                .timestamp(LocalDateTime.now())
+                .build();
+        return jacksonConverter.toMessage(response, null);
+    }
+
+    @Benchmark
+    public Message<?> presetGreeting() {
+        return chatResponseConverter.toMessage(preset.forSession("session-1"), null);
+    }
+}
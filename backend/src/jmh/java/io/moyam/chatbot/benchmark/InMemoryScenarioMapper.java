@@ -0,0 +1,56 @@
+package io.moyam.chatbot.benchmark;
+
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 메모리 ScenarioMapper
+ */
+public class InMemoryScenarioMapper implements ScenarioMapper {
+
+    private final Map<Long, Scenario> scenarios = new ConcurrentHashMap<>();
+
+    public InMemoryScenarioMapper(List<Scenario> scenarios) {
+        scenarios.forEach(scenario -> this.scenarios.put(scenario.getId(), scenario));
+    }
+
+    @Override
+    public void insert(Scenario scenario) {
+        scenarios.put(scenario.getId(), scenario);
+    }
+
+    @Override
+    public Optional<Scenario> findById(Long id) {
+        return Optional.ofNullable(scenarios.get(id));
+    }
+
+    @Override
+    public List<Scenario> findByBotId(Long botId) {
+        return scenarios.values().stream()
+                .filter(scenario -> botId.equals(scenario.getBotId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void update(Scenario scenario) {
+        scenarios.put(scenario.getId(), scenario);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        scenarios.remove(id);
+    }
+
+    @Override
+    public List<Scenario> findDefaults() {
+        return scenarios.values().stream()
+                .filter(scenario -> Boolean.TRUE.equals(scenario.getIsDefault()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,66 @@
+package io.moyam.chatbot.benchmark;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 메모리 ScenarioStepMapper
+ */
+public class InMemoryScenarioStepMapper implements ScenarioStepMapper {
+
+    private final Map<Long, ScenarioStep> steps = new ConcurrentHashMap<>();
+
+    public InMemoryScenarioStepMapper(List<ScenarioStep> steps) {
+        steps.forEach(step -> this.steps.put(step.getId(), step));
+    }
+
+    @Override
+    public void insert(ScenarioStep scenarioStep) {
+        steps.put(scenarioStep.getId(), scenarioStep);
+    }
+
+    @Override
+    public Optional<ScenarioStep> findById(Long id) {
+        return Optional.ofNullable(steps.get(id));
+    }
+
+    @Override
+    public List<ScenarioStep> findByScenarioId(Long scenarioId) {
+        return steps.values().stream()
+                .filter(step -> scenarioId.equals(step.getScenarioId()))
+                .sorted(Comparator.comparing(ScenarioStep::getOrderIndex,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void update(ScenarioStep scenarioStep) {
+        steps.put(scenarioStep.getId(), scenarioStep);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        steps.remove(id);
+    }
+
+    @Override
+    public Optional<ScenarioStep> findStartStep(Long scenarioId) {
+        return steps.values().stream()
+                .filter(step -> scenarioId.equals(step.getScenarioId()) && Boolean.TRUE.equals(step.getIsStartStep()))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<ScenarioStep> findNextStep(Long currentStepId) {
+        return findById(currentStepId)
+                .map(ScenarioStep::getNextStepId)
+                .flatMap(this::findById);
+    }
+}
@@ -0,0 +1,64 @@
+package io.moyam.chatbot.benchmark;
+
+import io.moyam.chatbot.domain.bot.intent.ChatIntent;
+import io.moyam.chatbot.domain.bot.intent.IntentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일반 대화 의도 판별 벤치마크
+ *
+ * <p>legacyCascade 는 소문자 변환 후 의도별 contains 를 차례로 검사하던 이전 방식,
+ * matcher 는 기본 키워드로 컴파일한 Aho-Corasick 판별기이다.
+ * 일치하지 않는 메시지(기본 응답)가 모든 키워드를 검사하는 최악의 경우이다.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IntentMatcherBenchmark {
+
+    @Param({"고마워요", "오늘 서울 날씨가 어떤지 알려줄 수 있나요? 우산을 챙겨야 할지 궁금합니다"})
+    public String message;
+
+    private final IntentMatcher matcher = IntentMatcher.compile(List.of());
+
+    @Benchmark
+    public Optional<ChatIntent> matcher() {
+        return matcher.match(message);
+    }
+
+    @Benchmark
+    public Optional<ChatIntent> legacyCascade() {
+        String lowerMessage = message.toLowerCase().trim();
+        if (lowerMessage.contains("시작") || lowerMessage.contains("start") ||
+            lowerMessage.contains("데모") || lowerMessage.equals("1")) {
+            return Optional.of(ChatIntent.START);
+        }
+        if (lowerMessage.contains("안녕") || lowerMessage.contains("hi") ||
+            lowerMessage.contains("hello") || lowerMessage.contains("하이")) {
+            return Optional.of(ChatIntent.GREETING);
+        }
+        if (lowerMessage.contains("도움") || lowerMessage.contains("help") ||
+            lowerMessage.contains("헬프") || lowerMessage.equals("?")) {
+            return Optional.of(ChatIntent.HELP);
+        }
+        if (lowerMessage.contains("고마") || lowerMessage.contains("감사") ||
+            lowerMessage.contains("thank") || lowerMessage.contains("굿")) {
+            return Optional.of(ChatIntent.THANKS);
+        }
+        if (lowerMessage.contains("종료") || lowerMessage.contains("끝") ||
+            lowerMessage.contains("bye") || lowerMessage.contains("바이")) {
+            return Optional.of(ChatIntent.GOODBYE);
+        }
+        return Optional.empty();
+    }
+}
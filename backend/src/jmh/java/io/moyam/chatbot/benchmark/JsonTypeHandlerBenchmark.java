@@ -0,0 +1,136 @@
+package io.moyam.chatbot.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.moyam.chatbot.config.ConversationContextTypeHandler;
+import io.moyam.chatbot.config.JsonTypeHandler;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSONB 컬럼 파싱 벤치마크
+ * 샘플 데이터의 단계 조건(scenario_steps.conditions)과 컨텍스트 스냅샷(conversations.context_data)을
+ * ResultSet 에서 읽는 경로 그대로 측정한다.
+ *
+ * <p>legacy* 는 getString 후 매번 ObjectMapper.readValue 로 Map 을 만들던 이전 방식,
+ * 나머지는 getBytes 를 재사용 ObjectReader 로 바로 바인딩하는 현재 핸들러이다.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonTypeHandlerBenchmark {
+
+    /**
+     * 1: 변수 수집(variable_mapping), 2: 선택지 4개, 303: 선택지 2개
+     */
+    @Param({"1", "2", "303"})
+    public long stepId;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper legacyObjectMapper = new ObjectMapper();
+
+    private final JsonTypeHandler typeHandler = new JsonTypeHandler(objectMapper);
+
+    private final ConversationContextTypeHandler contextTypeHandler = new ConversationContextTypeHandler(objectMapper);
+
+    private ResultSet conditionsResultSet;
+
+    private ResultSet contextResultSet;
+
+    @Setup
+    public void setUp() throws Exception {
+        ScenarioFixture fixture = ScenarioFixture.load();
+        conditionsResultSet = singleColumn(objectMapper.writeValueAsString(fixture.step(stepId).getConditions()));
+        contextResultSet = singleColumn(objectMapper.writeValueAsString(sampleContext(fixture)));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> legacyParseConditions() throws Exception {
+        return legacyObjectMapper.readValue(conditionsResultSet.getString("conditions"), Map.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseConditions() throws SQLException {
+        return typeHandler.getNullableResult(conditionsResultSet, "conditions");
+    }
+
+    /**
+     * 이전 방식: Map 으로 읽은 뒤 convertValue 로 컨텍스트 변환
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public ConversationContext legacyParseContext() throws Exception {
+        Map<String, Object> contextData = legacyObjectMapper.readValue(contextResultSet.getString("context_data"), Map.class);
+        return objectMapper.convertValue(contextData, ConversationContext.class);
+    }
+
+    @Benchmark
+    public ConversationContext parseContext() throws SQLException {
+        return contextTypeHandler.getNullableResult(contextResultSet, "context_data");
+    }
+
+    /**
+     * 단계 수만큼 진행한 대화 컨텍스트
+     */
+    private static ConversationContext sampleContext(ScenarioFixture fixture) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("userName", "홍길동");
+        variables.put("lastChoice", "schedule");
+        variables.put("lastChoiceLabel", "일정 관리");
+        List<String> visitedSteps = new ArrayList<>();
+        fixture.steps.forEach(step -> visitedSteps.add(String.valueOf(step.getId())));
+        return ConversationContext.builder()
+                .scenarioId(1L)
+                .currentStepId(2L)
+                .variables(variables)
+                .systemVariables(new HashMap<>(Map.of("sessionId", "bench-session")))
+                .sessionData(new HashMap<>())
+                .visitedSteps(visitedSteps)
+                .lastInteraction(LocalDateTime.of(2024, 5, 1, 9, 30))
+                .build();
+    }
+
+    /**
+     * getString/getBytes 만 응답하는 ResultSet
+     */
+    private static ResultSet singleColumn(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getString":
+                            return value;
+                        case "getBytes":
+                            return bytes;
+                        case "wasNull":
+                            return false;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
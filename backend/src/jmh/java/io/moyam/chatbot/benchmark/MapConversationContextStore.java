@@ -0,0 +1,41 @@
+package io.moyam.chatbot.benchmark;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 컨텍스트 저장소 (만료/영속화 없음)
+ */
+public class MapConversationContextStore implements ConversationContextStore {
+
+    private final Map<String, ConversationContext> contexts = new ConcurrentHashMap<>();
+
+    @Override
+    public ConversationContext get(String sessionId) {
+        return contexts.get(sessionId);
+    }
+
+    @Override
+    public ConversationContext getOrCreate(String sessionId, Function<String, ConversationContext> factory) {
+        return contexts.computeIfAbsent(sessionId, factory);
+    }
+
+    @Override
+    public void put(String sessionId, ConversationContext context) {
+        contexts.put(sessionId, context);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        contexts.remove(sessionId);
+    }
+
+    @Override
+    public long size() {
+        return contexts.size();
+    }
+}
@@ -0,0 +1,120 @@
+package io.moyam.chatbot.benchmark;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.scenario.engine.CompiledStep;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시나리오 실행 경로 벤치마크 (샘플 시나리오 데이터, DB 없음)
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScenarioEngineBenchmark {
+
+    /**
+     * 방문 기록(visitedSteps)이 무한히 쌓이지 않도록 일정 턴마다 세션을 비운다
+     */
+    private static final int TURNS_PER_SESSION = 256;
+
+    private static final AtomicInteger SESSION_SEQUENCE = new AtomicInteger();
+
+    private ScenarioFixture fixture;
+
+    private CompiledStep nameStep;
+    private CompiledStep menuStep;
+    private CompiledStep scheduleStep;
+
+    @Setup
+    public void setUp() {
+        fixture = ScenarioFixture.load();
+        nameStep = fixture.graphRegistry.findStep(1L);
+        menuStep = fixture.graphRegistry.findStep(2L);
+        scheduleStep = fixture.graphRegistry.findStep(101L);
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        String sessionId;
+        ConversationContext context;
+        int turns;
+
+        @Setup
+        public void setUp() {
+            sessionId = "bench-" + SESSION_SEQUENCE.incrementAndGet();
+            context = newContext(sessionId);
+        }
+
+        void nextTurn(ScenarioFixture fixture) {
+            if (++turns % TURNS_PER_SESSION == 0) {
+                fixture.scenarioService.clearContext(sessionId);
+                context = newContext(sessionId);
+            }
+        }
+
+        private static ConversationContext newContext(String sessionId) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("sessionId", sessionId);
+            variables.put("userName", "홍길동");
+            return ConversationContext.builder()
+                    .scenarioId(1L)
+                    .currentStepId(2L)
+                    .variables(variables)
+                    .systemVariables(new HashMap<>())
+                    .userName("홍길동")
+                    .visitedSteps(new ArrayList<>())
+                    .build();
+        }
+    }
+
+    /**
+     * 메인 메뉴 선택 -> 하위 메뉴 진입 (조건 평가 + 템플릿 렌더링)
+     */
+    @Benchmark
+    public ScenarioExecutionResult executeStepUserChoice(Session session) {
+        session.nextTurn(fixture);
+        return fixture.scenarioService.executeStep(session.sessionId, 2L, "schedule");
+    }
+
+    /**
+     * 이름 입력 -> 변수 수집 후 메인 메뉴 자동 진행
+     */
+    @Benchmark
+    public ScenarioExecutionResult executeStepVariableCollection(Session session) {
+        session.nextTurn(fixture);
+        return fixture.scenarioService.executeStep(session.sessionId, 1L, "홍길동");
+    }
+
+    @Benchmark
+    public CompiledStep evaluateConditions(Session session) {
+        return fixture.conditionEvaluator.evaluateConditions(menuStep, "memo", session.context);
+    }
+
+    @Benchmark
+    public String processTemplate(Session session) {
+        return fixture.templateProcessor.processTemplate(scheduleStep, session.context);
+    }
+
+    @Benchmark
+    public boolean collectVariable(Session session) {
+        return fixture.variableCollector.collectVariable(nameStep, "홍길동", session.context);
+    }
+}
@@ -0,0 +1,73 @@
+package io.moyam.chatbot.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.config.ScenarioProperties;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.service.ConditionEvaluator;
+import io.moyam.chatbot.domain.scenario.service.MessageTemplateProcessor;
+import io.moyam.chatbot.domain.scenario.service.ScenarioMetrics;
+import io.moyam.chatbot.domain.scenario.service.ScenarioPublisher;
+import io.moyam.chatbot.domain.scenario.service.ScenarioService;
+import io.moyam.chatbot.domain.scenario.service.VariableCollector;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+/**
+ * 샘플 시나리오 데이터로 시나리오 엔진을 스프링 컨텍스트 없이 조립
+ */
+public final class ScenarioFixture {
+
+    public final List<Scenario> scenarios;
+    public final List<ScenarioStep> steps;
+    public final InMemoryScenarioMapper scenarioMapper;
+    public final InMemoryScenarioStepMapper scenarioStepMapper;
+    public final ScenarioGraphRegistry graphRegistry;
+    public final ConditionEvaluator conditionEvaluator;
+    public final MessageTemplateProcessor templateProcessor;
+    public final VariableCollector variableCollector;
+    public final ConversationContextStore contextStore;
+    public final ScenarioMetrics metrics;
+    public final ScenarioPublisher scenarioPublisher;
+    public final ScenarioService scenarioService;
+
+    private ScenarioFixture() {
+        SqlSampleLoader loader = SqlSampleLoader.fromClasspath();
+        this.steps = loader.scenarioSteps();
+        this.scenarios = loader.scenarios();
+        // 샘플 SQL 의 UPDATE scenarios SET start_step_id 반영
+        for (Scenario scenario : scenarios) {
+            steps.stream()
+                    .filter(step -> scenario.getId().equals(step.getScenarioId()) && Boolean.TRUE.equals(step.getIsStartStep()))
+                    .findFirst()
+                    .ifPresent(step -> scenario.setStartStepId(step.getId()));
+        }
+
+        this.scenarioMapper = new InMemoryScenarioMapper(scenarios);
+        this.scenarioStepMapper = new InMemoryScenarioStepMapper(steps);
+        this.graphRegistry = new ScenarioGraphRegistry(scenarioStepMapper);
+        this.contextStore = new MapConversationContextStore();
+        // 운영과 같은 계측 비용을 포함하도록 메모리 레지스트리 사용
+        this.metrics = new ScenarioMetrics(new SimpleMeterRegistry(), contextStore);
+        this.conditionEvaluator = new ConditionEvaluator(graphRegistry, metrics);
+        this.templateProcessor = new MessageTemplateProcessor(metrics);
+        this.variableCollector = new VariableCollector();
+        this.scenarioPublisher = new ScenarioPublisher(graphRegistry, new ConcurrentMapCacheManager());
+        this.scenarioService = new ScenarioService(scenarioMapper, scenarioStepMapper, conditionEvaluator,
+                templateProcessor, variableCollector, graphRegistry, contextStore, metrics, scenarioPublisher,
+                new ScenarioProperties(), TransactionOperations.withoutTransaction());
+    }
+
+    public static ScenarioFixture load() {
+        return new ScenarioFixture();
+    }
+
+    public ScenarioStep step(Long stepId) {
+        return scenarioStepMapper.findById(stepId)
+                .orElseThrow(() -> new IllegalArgumentException("Step not found in sample data: " + stepId));
+    }
+}
@@ -0,0 +1,230 @@
+package io.moyam.chatbot.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * sql/sample/scenario_data_v2.0.sql 의 INSERT 문을 읽어 도메인 객체로 변환
+ * 벤치마크가 DB 없이 실제 시드 데이터로 동작하도록 하기 위한 최소 파서다.
+ * (작은따옴표 문자열, 숫자, true/false/null, NOW() 같은 함수 호출, -- 주석만 지원)
+ */
+public final class SqlSampleLoader {
+
+    public static final String SAMPLE_RESOURCE = "sql/sample/scenario_data_v2.0.sql";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final String sql;
+    private int pos;
+
+    private SqlSampleLoader(String sql) {
+        this.sql = sql;
+    }
+
+    public static SqlSampleLoader fromClasspath() {
+        try (InputStream in = SqlSampleLoader.class.getClassLoader().getResourceAsStream(SAMPLE_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Sample data not found on classpath: " + SAMPLE_RESOURCE);
+            }
+            return new SqlSampleLoader(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Map<String, Object> row : rows("scenarios")) {
+            scenarios.add(Scenario.builder()
+                    .id(toLong(row.get("id")))
+                    .botId(toLong(row.get("bot_id")))
+                    .name((String) row.get("name"))
+                    .description((String) row.get("description"))
+                    .isDefault((Boolean) row.get("is_default"))
+                    .build());
+        }
+        return scenarios;
+    }
+
+    public List<ScenarioStep> scenarioSteps() {
+        List<ScenarioStep> steps = new ArrayList<>();
+        for (Map<String, Object> row : rows("scenario_steps")) {
+            String inputType = (String) row.get("input_type");
+            steps.add(ScenarioStep.builder()
+                    .id(toLong(row.get("id")))
+                    .scenarioId(toLong(row.get("scenario_id")))
+                    .stepType(ScenarioStep.StepType.valueOf((String) row.get("step_type")))
+                    .content((String) row.get("content"))
+                    .inputType(inputType != null ? ScenarioStep.InputType.valueOf(inputType) : null)
+                    .conditions(parseJson((String) row.get("conditions")))
+                    .nextStepId(toLong(row.get("next_step_id")))
+                    .isStartStep((Boolean) row.get("is_start_step"))
+                    .orderIndex(row.get("order_index") != null ? ((Number) row.get("order_index")).intValue() : null)
+                    .build());
+        }
+        return steps;
+    }
+
+    /**
+     * 테이블의 첫 INSERT 문에서 행 목록 추출 (컬럼명 -> 값)
+     */
+    List<Map<String, Object>> rows(String table) {
+        int insert = sql.toLowerCase(Locale.ROOT).indexOf("insert into " + table + " (");
+        if (insert < 0) {
+            throw new IllegalStateException("No INSERT for table " + table);
+        }
+        pos = sql.indexOf('(', insert);
+        List<String> columns = new ArrayList<>();
+        for (Object column : tuple()) {
+            columns.add((String) column);
+        }
+
+        skipKeyword("values");
+        List<Map<String, Object>> rows = new ArrayList<>();
+        while (true) {
+            skipTrivia();
+            if (pos >= sql.length() || sql.charAt(pos) != '(') {
+                return rows;
+            }
+            List<Object> values = tuple();
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), values.get(i));
+            }
+            rows.add(row);
+            skipTrivia();
+            if (pos < sql.length() && sql.charAt(pos) == ',') {
+                pos++;
+            }
+        }
+    }
+
+    private List<Object> tuple() {
+        expect('(');
+        List<Object> values = new ArrayList<>();
+        while (true) {
+            skipTrivia();
+            values.add(value());
+            skipTrivia();
+            char c = sql.charAt(pos++);
+            if (c == ')') {
+                return values;
+            }
+            if (c != ',') {
+                throw new IllegalStateException("Unexpected '" + c + "' at " + (pos - 1));
+            }
+        }
+    }
+
+    private Object value() {
+        char c = sql.charAt(pos);
+        if (c == '\'') {
+            return string();
+        }
+        if (c == '-' || Character.isDigit(c)) {
+            int start = pos++;
+            while (pos < sql.length() && (Character.isDigit(sql.charAt(pos)) || sql.charAt(pos) == '.')) {
+                pos++;
+            }
+            String number = sql.substring(start, pos);
+            return number.contains(".") ? (Object) Double.valueOf(number) : (Object) Long.valueOf(number);
+        }
+
+        int start = pos;
+        while (pos < sql.length() && (Character.isLetterOrDigit(sql.charAt(pos)) || sql.charAt(pos) == '_')) {
+            pos++;
+        }
+        String word = sql.substring(start, pos);
+        if (pos < sql.length() && sql.charAt(pos) == '(') {
+            // NOW() 같은 함수 호출은 값 없음으로 처리
+            pos = sql.indexOf(')', pos) + 1;
+            return null;
+        }
+        switch (word.toLowerCase(Locale.ROOT)) {
+            case "null":
+                return null;
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            default:
+                return word; // 컬럼명
+        }
+    }
+
+    private String string() {
+        StringBuilder value = new StringBuilder();
+        pos++;
+        while (true) {
+            char c = sql.charAt(pos++);
+            if (c == '\'') {
+                if (pos < sql.length() && sql.charAt(pos) == '\'') {
+                    value.append('\'');
+                    pos++;
+                } else {
+                    return value.toString();
+                }
+            } else {
+                value.append(c);
+            }
+        }
+    }
+
+    private void skipKeyword(String keyword) {
+        skipTrivia();
+        if (!sql.regionMatches(true, pos, keyword, 0, keyword.length())) {
+            throw new IllegalStateException("Expected " + keyword + " at " + pos);
+        }
+        pos += keyword.length();
+    }
+
+    private void skipTrivia() {
+        while (pos < sql.length()) {
+            char c = sql.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '-' && pos + 1 < sql.length() && sql.charAt(pos + 1) == '-') {
+                int eol = sql.indexOf('\n', pos);
+                pos = eol < 0 ? sql.length() : eol + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void expect(char expected) {
+        skipTrivia();
+        if (sql.charAt(pos) != expected) {
+            throw new IllegalStateException("Expected '" + expected + "' at " + pos);
+        }
+        pos++;
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    static Map<String, Object> parseJson(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
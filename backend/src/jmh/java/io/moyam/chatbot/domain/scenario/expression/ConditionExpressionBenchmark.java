@@ -0,0 +1,90 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조건식 컴파일러와 SpEL 기준선 비교
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ConditionExpressionBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConditionExpressionBenchmark {
+
+    private static final String EXPRESSION = "${userType} == 'premium' && hour >= 9 && hour <= 18";
+    private static final String SPEL_EXPRESSION = "['userType'] == 'premium' and #hour >= 9 and #hour <= 18";
+
+    private Map<String, Object> variables;
+    private ExpressionClock clock;
+
+    private CompiledExpression compiled;
+
+    private Expression spelInterpreted;
+    private Expression spelCompiled;
+    private StandardEvaluationContext spelContext;
+    private SpelExpressionParser spelParser;
+
+    @Setup
+    public void setUp() {
+        variables = new HashMap<>();
+        variables.put("userType", "premium");
+        variables.put("userName", "홍길동");
+        variables.put("sessionId", "bench-session");
+
+        clock = ExpressionClock.fixed(LocalDateTime.of(2025, 1, 15, 14, 30));
+        compiled = CompiledExpression.compile(EXPRESSION);
+
+        spelParser = new SpelExpressionParser();
+        spelInterpreted = spelParser.parseExpression(SPEL_EXPRESSION);
+        spelCompiled = new SpelExpressionParser(
+                new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()))
+                .parseExpression(SPEL_EXPRESSION);
+
+        spelContext = new StandardEvaluationContext(variables);
+        spelContext.setVariable("hour", clock.hour());
+    }
+
+    @Benchmark
+    public boolean compiledExpression() {
+        return compiled.evaluate(variables, clock);
+    }
+
+    @Benchmark
+    public boolean compileAndEvaluate() {
+        return CompiledExpression.compile(EXPRESSION).evaluate(variables, clock);
+    }
+
+    @Benchmark
+    public Boolean spelInterpreted() {
+        return spelInterpreted.getValue(spelContext, Boolean.class);
+    }
+
+    @Benchmark
+    public Boolean spelCompiled() {
+        return spelCompiled.getValue(spelContext, Boolean.class);
+    }
+
+    @Benchmark
+    public Boolean spelParseAndEvaluate() {
+        return spelParser.parseExpression(SPEL_EXPRESSION).getValue(spelContext, Boolean.class);
+    }
+}
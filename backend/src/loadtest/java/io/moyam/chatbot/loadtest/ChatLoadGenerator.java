@@ -0,0 +1,81 @@
+package io.moyam.chatbot.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 부하 발생기
+ * /ws/chat 에 세션을 ramp-up 동안 나누어 접속시키고, 시드 시나리오를 따라 대화를 반복하며
+ * 왕복 지연시간 백분위(p50/p99/p999)와 초당 메시지 수를 출력한다.
+ *
+ * <pre>
+ * ./gradlew loadTestServer
+ * ./gradlew loadTest -PloadArgs="--sessions=2000 --ramp-up=20s --duration=60s"
+ * ./gradlew loadTest -PloadArgs="--sessions=500 --script=홍길동,schedule,today"
+ * </pre>
+ */
+public final class ChatLoadGenerator {
+
+    private static final long REPORT_INTERVAL_SECONDS = 5;
+
+    private ChatLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LatencyRecorder recorder = new LatencyRecorder();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+
+        System.out.printf("Connecting %d sessions to %s over %ss%n",
+                options.sessions(), options.url(), options.rampUp().toSeconds());
+
+        List<VirtualUser> users = new ArrayList<>(options.sessions());
+        long delayNanos = options.rampUp().toNanos() / Math.max(1, options.sessions());
+        for (int i = 0; i < options.sessions(); i++) {
+            VirtualUser user = new VirtualUser("load-" + UUID.randomUUID(),
+                    new ConversationScript(options.script()), options, recorder, scheduler);
+            users.add(user);
+            stompClient.connectAsync(options.url(), new WebSocketHttpHeaders(), new StompHeaders(), user)
+                    .exceptionally(e -> {
+                        recorder.connectFailed();
+                        return null;
+                    });
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+        }
+
+        // ramp-up 구간은 제외하고 측정
+        recorder.startMeasuring();
+        ScheduledFuture<?> report = scheduler.scheduleAtFixedRate(() -> recorder.printInterval(System.out),
+                REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        TimeUnit.MILLISECONDS.sleep(options.duration().toMillis());
+        recorder.stopMeasuring();
+        report.cancel(false);
+
+        users.forEach(VirtualUser::stop);
+        recorder.printSummary(System.out);
+
+        scheduler.shutdownNow();
+        stompClient.stop();
+    }
+}
@@ -0,0 +1,51 @@
+package io.moyam.chatbot.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 봇 응답을 보고 다음 사용자 입력을 결정
+ * 스크립트가 주어지면 순서대로 반복 재생하고, 없으면 시드 시나리오의 선택지를 무작위로 탐색한다.
+ */
+public class ConversationScript {
+
+    static final String START = "시작";
+    static final String RESTART = "처음";
+    private static final String[] NAMES = {"홍길동", "김철수", "이영희", "박민수"};
+
+    private final List<String> script;
+    private int position;
+
+    public ConversationScript(List<String> script) {
+        this.script = script;
+    }
+
+    public String first() {
+        return START;
+    }
+
+    @SuppressWarnings("unchecked")
+    public String next(Map<String, Object> response) {
+        if (!script.isEmpty()) {
+            String input = script.get(position);
+            position = (position + 1) % script.size();
+            return input;
+        }
+
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+        if (choices != null && !choices.isEmpty()) {
+            return (String) choices.get(ThreadLocalRandom.current().nextInt(choices.size())).get("value");
+        }
+
+        // 시나리오 밖 일반 응답이면 다시 시작, 시나리오가 끝났으면 메뉴로
+        if (response.get("currentStepId") == null) {
+            return START;
+        }
+        if (Boolean.TRUE.equals(response.get("scenarioEnd"))) {
+            return RESTART;
+        }
+        // 선택지가 없는 단계(이름 입력 등 자유 입력)
+        return NAMES[ThreadLocalRandom.current().nextInt(NAMES.length)];
+    }
+}
@@ -0,0 +1,111 @@
+package io.moyam.chatbot.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 왕복 지연시간(전송 -> /topic 수신) 및 처리량 집계
+ * 지연시간은 프레임(왕복)마다, 처리량은 프레임에 담긴 봇 응답 수로 센다.
+ */
+public class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Histogram total = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final Recorder interval = new Recorder(MAX_TRACKABLE_NANOS, 3);
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder intervalResponses = new LongAdder();
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private volatile boolean measuring;
+    private long measureStartNanos;
+    private long intervalStartNanos;
+
+    public void startMeasuring() {
+        total.reset();
+        interval.reset();
+        responses.reset();
+        intervalResponses.reset();
+        measureStartNanos = intervalStartNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measuring = false;
+    }
+
+    /**
+     * @param responseCount 프레임에 담긴 봇 응답 수 (여러 단계를 이어 진행한 턴이면 2 이상)
+     */
+    public void recordRoundTrip(long nanos, int responseCount) {
+        if (measuring) {
+            long value = Math.min(nanos, MAX_TRACKABLE_NANOS);
+            total.recordValue(value);
+            interval.recordValue(value);
+            responses.add(responseCount);
+            intervalResponses.add(responseCount);
+        }
+    }
+
+    public void connected() {
+        connected.increment();
+    }
+
+    public void disconnected() {
+        connected.decrement();
+    }
+
+    public void connectFailed() {
+        connectFailures.increment();
+    }
+
+    public void timedOut() {
+        timeouts.increment();
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    /**
+     * 구간 통계 출력 후 구간 히스토그램 초기화
+     */
+    public synchronized void printInterval(PrintStream out) {
+        long now = System.nanoTime();
+        Histogram snapshot = interval.getIntervalHistogram();
+        double seconds = (now - intervalStartNanos) / 1e9;
+        intervalStartNanos = now;
+        out.printf("sessions=%d msg/s=%.0f p50=%.2fms p99=%.2fms p999=%.2fms timeouts=%d errors=%d%n",
+                connected.sum(), intervalResponses.sumThenReset() / seconds,
+                millis(snapshot, 50), millis(snapshot, 99), millis(snapshot, 99.9),
+                timeouts.sum(), errors.sum());
+    }
+
+    public synchronized void printSummary(PrintStream out) {
+        double seconds = (System.nanoTime() - measureStartNanos) / 1e9;
+        out.println("---------------------------------------------");
+        out.printf("sessions connected : %d (connect failures %d)%n", connected.sum(), connectFailures.sum());
+        out.printf("round trips        : %d in %.1fs%n", total.getTotalCount(), seconds);
+        out.printf("responses          : %d%n", responses.sum());
+        out.printf("messages/s         : %.1f%n", responses.sum() / seconds);
+        out.printf("latency p50        : %.2f ms%n", millis(total, 50));
+        out.printf("latency p99        : %.2f ms%n", millis(total, 99));
+        out.printf("latency p999       : %.2f ms%n", millis(total, 99.9));
+        out.printf("latency max        : %.2f ms%n", total.getMaxValue() / 1e6);
+        out.printf("timeouts / errors  : %d / %d%n", timeouts.sum(), errors.sum());
+        out.println("---------------------------------------------");
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+}
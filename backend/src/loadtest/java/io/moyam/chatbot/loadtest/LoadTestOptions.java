@@ -0,0 +1,68 @@
+package io.moyam.chatbot.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 발생기 실행 옵션 (--key=value)
+ *
+ * <ul>
+ *   <li>url: STOMP 엔드포인트 (기본 http://localhost:9780/ws/chat)</li>
+ *   <li>sessions: 동시 접속 세션 수 (기본 1000)</li>
+ *   <li>ramp-up: 전체 세션 접속에 걸리는 시간 (기본 30s)</li>
+ *   <li>duration: 측정 시간, ramp-up 이후부터 (기본 60s)</li>
+ *   <li>think-time: 응답 수신 후 다음 입력까지 대기 (기본 0ms)</li>
+ *   <li>script: 쉼표로 구분한 입력 목록, 지정하지 않으면 선택지 무작위 탐색</li>
+ * </ul>
+ */
+public record LoadTestOptions(String url,
+                              int sessions,
+                              Duration rampUp,
+                              Duration duration,
+                              Duration thinkTime,
+                              Duration requestTimeout,
+                              List<String> script) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be --key=value: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String script = values.get("script");
+        return new LoadTestOptions(
+                values.getOrDefault("url", "http://localhost:9780/ws/chat"),
+                Integer.parseInt(values.getOrDefault("sessions", "1000")),
+                duration(values.getOrDefault("ramp-up", "30s")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("think-time", "0ms")),
+                duration(values.getOrDefault("request-timeout", "10s")),
+                script == null || script.isBlank() ? List.of() : Arrays.asList(script.split(",")));
+    }
+
+    /**
+     * 100ms, 30s, 5m 형식
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        switch (text.charAt(text.length() - 1)) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            default:
+                throw new IllegalArgumentException("Unsupported duration: " + value);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.moyam.chatbot.loadtest;
+
+import io.moyam.chatbot.ChatBotApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트용 백엔드 실행기
+ * 임베디드 PostgreSQL(컨테이너 불필요)에 스키마와 샘플 시나리오를 적재한 뒤 loadtest 프로필로 애플리케이션을 띄운다.
+ *
+ * <pre>
+ * ./gradlew loadTestServer
+ * </pre>
+ */
+@Slf4j
+public final class LoadTestServer {
+
+    private LoadTestServer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        populate(postgres.getPostgresDatabase());
+
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        arguments.add("--spring.profiles.active=loadtest");
+        arguments.add("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"));
+        arguments.add("--spring.datasource.username=postgres");
+        arguments.add("--spring.datasource.password=");
+
+        ConfigurableApplicationContext context = SpringApplication.run(ChatBotApplication.class,
+                arguments.toArray(String[]::new));
+
+        // 애플리케이션(히스토리 flush 포함)이 완전히 종료된 뒤 DB 를 내린다
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            context.close();
+            try {
+                postgres.close();
+            } catch (IOException e) {
+                log.warn("Failed to stop embedded PostgreSQL: {}", e.getMessage());
+            }
+        }, "loadtest-shutdown"));
+    }
+
+    private static void populate(DataSource dataSource) {
+        ResourceDatabasePopulator schema = new ResourceDatabasePopulator(
+                new ClassPathResource("sql/ddl/schema.sql"),
+                new ClassPathResource("sql/loadtest/seed.sql"));
+        schema.execute(dataSource);
+
+        // 샘플 파일 끝의 users INSERT 는 현재 스키마와 컬럼이 달라 실패하므로 오류는 무시한다 (seed.sql 에서 대체)
+        ResourceDatabasePopulator sample = new ResourceDatabasePopulator(
+                new ClassPathResource("sql/sample/scenario_data_v2.0.sql"));
+        sample.setContinueOnError(true);
+        sample.execute(dataSource);
+    }
+}
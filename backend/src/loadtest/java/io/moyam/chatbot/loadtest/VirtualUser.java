@@ -0,0 +1,131 @@
+package io.moyam.chatbot.loadtest;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 사용자 1명 = STOMP 세션 1개
+ * /topic/chat/{sessionId} 를 구독하고, 응답을 받을 때마다 다음 입력을 전송한다 (동시에 요청 1개).
+ * 여러 단계를 이어 진행한 턴의 프레임은 응답 배열이며, 다음 입력은 마지막 응답(선택지가 있는 단계)으로 정한다.
+ */
+public class VirtualUser extends StompSessionHandlerAdapter implements StompFrameHandler {
+
+    private final String sessionId;
+    private final ConversationScript script;
+    private final LoadTestOptions options;
+    private final LatencyRecorder recorder;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile StompSession session;
+    private volatile boolean running = true;
+    private volatile long sentAtNanos;
+    private ScheduledFuture<?> timeout;
+
+    public VirtualUser(String sessionId, ConversationScript script, LoadTestOptions options,
+                       LatencyRecorder recorder, ScheduledExecutorService scheduler) {
+        this.sessionId = sessionId;
+        this.script = script;
+        this.options = options;
+        this.recorder = recorder;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        recorder.connected();
+        session.subscribe("/topic/chat/" + sessionId, this);
+        send(script.first());
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return Object.class;   // 단일 응답(Map) 또는 응답 배열(List)
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleFrame(StompHeaders headers, Object payload) {
+        List<?> responses = payload instanceof List<?> list ? list : List.of(payload);
+        recorder.recordRoundTrip(System.nanoTime() - sentAtNanos, responses.size());
+        cancelTimeout();
+        if (!running) {
+            return;
+        }
+
+        Map<String, Object> last = responses.isEmpty()
+                ? Map.of() : (Map<String, Object>) responses.get(responses.size() - 1);
+        String input = script.next(last);
+        long thinkMillis = options.thinkTime().toMillis();
+        if (thinkMillis > 0) {
+            scheduler.schedule(() -> send(input), thinkMillis, TimeUnit.MILLISECONDS);
+        } else {
+            send(input);
+        }
+    }
+
+    private void send(String message) {
+        if (!running || session == null || !session.isConnected()) {
+            return;
+        }
+        synchronized (this) {
+            timeout = scheduler.schedule(this::onTimeout, options.requestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        sentAtNanos = System.nanoTime();
+        try {
+            session.send("/app/chat/" + sessionId, Map.of("sessionId", sessionId, "message", message));
+        } catch (RuntimeException e) {
+            recorder.error();
+            cancelTimeout();
+        }
+    }
+
+    /**
+     * 응답이 오지 않으면 대화를 다시 시작
+     */
+    private void onTimeout() {
+        recorder.timedOut();
+        send(script.first());
+    }
+
+    private synchronized void cancelTimeout() {
+        if (timeout != null) {
+            timeout.cancel(false);
+            timeout = null;
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        recorder.error();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        // 접속 실패는 ChatLoadGenerator 가 connect 결과로 집계
+        if (this.session != null && running) {
+            recorder.error();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        cancelTimeout();
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+            recorder.disconnected();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- 부하 테스트 기본 데이터 (scenario_data_v2.0.sql 보다 먼저 실행)
+INSERT INTO users (id, email, password_hash, "name")
+VALUES (1, 'loadtest@moyam.io', 'loadtest', '부하테스트')
+    ON CONFLICT (id) DO NOTHING;
+
+INSERT INTO bots (id, user_id, "name", description)
+VALUES (1, 1, '개인비서', '일정, 메모, 계산을 도와주는 개인비서입니다.')
+    ON CONFLICT (id) DO NOTHING;
+
+SELECT setval('users_id_seq', 1);
+SELECT setval('bots_id_seq', 1);
@@ -3,6 +3,7 @@ package io.moyam.chatbot;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.env.Environment;
@@ -12,6 +13,7 @@ import java.net.UnknownHostException;
 
 @Slf4j
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ChatBotApplication {
 
     private final Environment env;
@@ -0,0 +1,101 @@
+package io.moyam.chatbot.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.IOException;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * JSONB 컬럼 공통 타입 핸들러
+ *
+ * <p>읽기는 드라이버가 받은 원본 바이트(getBytes)를 Jackson 스트리밍 파서에 바로 넘겨
+ * 중간 String 생성 없이 대상 타입으로 바인딩한다. ObjectReader/ObjectWriter 는
+ * 생성 시 한 번 만들어 재사용한다.</p>
+ *
+ * <p>쓰기는 JSON 문자열을 Types.OTHER 로 전달하여 서버가 컬럼 타입(jsonb)으로 해석하게 한다.</p>
+ */
+public abstract class AbstractJsonTypeHandler<T> extends BaseTypeHandler<T> {
+
+    /**
+     * jsonb 바이너리 전송 형식의 버전 바이트
+     */
+    private static final byte JSONB_BINARY_VERSION = 1;
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    protected AbstractJsonTypeHandler(ObjectMapper objectMapper, JavaType type) {
+        this.reader = objectMapper.readerFor(type);
+        this.writer = objectMapper.writerFor(type);
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, T parameter, JdbcType jdbcType) throws SQLException {
+        try {
+            ps.setObject(i, writer.writeValueAsString(parameter), Types.OTHER);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Error converting " + parameter.getClass().getSimpleName() + " to JSON", e);
+        }
+    }
+
+    @Override
+    public T getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return read(rs.getBytes(columnName));
+    }
+
+    @Override
+    public T getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return read(rs.getBytes(columnIndex));
+    }
+
+    @Override
+    public T getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        String json = cs.getString(columnIndex);
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Error parsing JSON: " + json, e);
+        }
+    }
+
+    /**
+     * 컬럼 원본 바이트를 대상 타입으로 바인딩
+     */
+    protected T read(byte[] json) throws SQLException {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        // 바이너리 전송(jsonb 버전 바이트 + 텍스트)인 경우 버전 바이트 제외
+        int offset = json[0] == JSONB_BINARY_VERSION ? 1 : 0;
+        if (isBlank(json, offset)) {
+            return null;
+        }
+        try {
+            return reader.readValue(json, offset, json.length - offset);
+        } catch (IOException e) {
+            throw new SQLException("Error parsing JSON (" + json.length + " bytes)", e);
+        }
+    }
+
+    private static boolean isBlank(byte[] json, int offset) {
+        for (int i = offset; i < json.length; i++) {
+            if (!Character.isWhitespace(json[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,42 +1,128 @@
 package io.moyam.chatbot.config;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.bot.repository.BotOptionMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
  * 캐시 설정
+ *
+ * <p>캐시마다 chatbot.cache.specs 의 크기/만료 설정을 적용한다. refresh-after-write 가 있는 캐시는
+ * 만료 전에 기존 값을 돌려주면서 가상 스레드에서 다시 읽으므로, 자주 쓰는 항목이 만료되어 요청 스레드가
+ * DB 를 기다리는 일이 없다. 캐시별 hit/miss/load 통계는 actuator 가 cache.* 지표로 노출한다.</p>
  */
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
+@Slf4j
 public class CacheConfig {
 
+    private final ScenarioMapper scenarioMapper;
+    private final ScenarioStepMapper scenarioStepMapper;
+    private final BotMapper botMapper;
+    private final BotOptionMapper botOptionMapper;
+
+    private final ExecutorService refreshExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refresh-", 0).factory());
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        
-        // 기본 캐시 설정
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .maximumSize(1000)           // 최대 1000개 엔트리
-            .expireAfterWrite(Duration.ofMinutes(30))  // 30분 후 만료
-            .expireAfterAccess(Duration.ofMinutes(10)) // 10분 미접근 시 만료
-            .recordStats());             // 통계 수집
-            
-        // 캐시 이름 미리 등록
-        cacheManager.setCacheNames(
-            List.of(
-                "scenarios",        // 시나리오 정보
-                "scenarioSteps",    // 시나리오 단계
-                "bots"              // 봇 정보
-            )
+    public CacheManager cacheManager(CacheProperties properties) {
+        // 캐시 이름 -> 새로고침용 로더 (@Cacheable 메서드와 같은 값을 만들어야 함)
+        Map<String, Function<Object, Object>> reloaders = Map.of(
+            "scenarios", key -> scenarioMapper.findById((Long) key).orElse(null),   // 시나리오 정보
+            "scenarioSteps", this::reloadStep,                                       // 시나리오 단계
+            "bots", key -> botMapper.findById((Long) key).orElse(null),             // 봇 정보
+            "botOptions", key -> List.copyOf(botOptionMapper.findByBotId((Long) key)) // 봇 옵션 (봇 단위 목록)
         );
-        
+
+        List<CaffeineCache> caches = new ArrayList<>();
+        reloaders.forEach((name, reloader) -> caches.add(buildCache(name, properties.resolve(name), reloader)));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    private CaffeineCache buildCache(String name, CacheProperties.Spec spec, Function<Object, Object> reloader) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();   // 통계 수집
+
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(new CacheWeigher());
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+
+        boolean allowNullValues = spec.isNullValuesAllowed();
+        log.debug("Cache '{}': size={}, weight={}, write={}, access={}, refresh={}, nullValues={}",
+                name, spec.getMaximumSize(), spec.getMaximumWeight(), spec.getExpireAfterWrite(),
+                spec.getExpireAfterAccess(), spec.getRefreshAfterWrite(), allowNullValues);
+
+        if (spec.getRefreshAfterWrite() == null) {
+            return new CaffeineCache(name, builder.build(), allowNullValues);
+        }
+
+        CacheLoader<Object, Object> loader = new CacheLoader<>() {
+            /**
+             * 최초 적재는 @Cacheable 메서드가 담당 (null = 캐시 miss)
+             */
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                Object value = reloader.apply(key);
+                // negative 항목은 여전히 없으면 유지, 있던 값이 사라졌으면 제거(null)
+                return value == null && oldValue == NullValue.INSTANCE ? NullValue.INSTANCE : value;
+            }
+        };
+        return new CaffeineCache(name, builder
+                .refreshAfterWrite(spec.getRefreshAfterWrite())
+                .executor(refreshExecutor)
+                .build(loader), allowNullValues);
+    }
+
+    /**
+     * scenarioSteps 키별 재조회 (stepId, 'next_' + stepId, 'start_' + scenarioId)
+     */
+    private Object reloadStep(Object key) {
+        if (key instanceof Long stepId) {
+            return scenarioStepMapper.findById(stepId).orElse(null);
+        }
+        String text = String.valueOf(key);
+        if (text.startsWith("next_")) {
+            return scenarioStepMapper.findNextStep(Long.valueOf(text.substring("next_".length()))).orElse(null);
+        }
+        if (text.startsWith("start_")) {
+            // 시작 단계가 없으면 제거하여 ScenarioService 의 대체 규칙을 다시 따르게 한다
+            return scenarioStepMapper.findStartStep(Long.valueOf(text.substring("start_".length()))).orElse(null);
+        }
+        return null;
+    }
 }
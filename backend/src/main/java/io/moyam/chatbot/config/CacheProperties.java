@@ -0,0 +1,92 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 Caffeine 설정 (chatbot.cache.*)
+ * specs 에 없는 항목은 defaults 값을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.cache")
+public class CacheProperties {
+
+    /**
+     * 모든 캐시 공통 기본값
+     */
+    private Spec defaults = Spec.defaults();
+
+    /**
+     * 캐시 이름별 설정 (yml 에서는 [scenarioSteps] 처럼 대괄호로 이름 유지)
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * 캐시 이름의 최종 설정 (캐시 설정 + 기본값)
+     */
+    public Spec resolve(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec != null ? spec.withDefaults(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * 최대 항목 수 (maximumWeight 가 있으면 무시)
+         */
+        private Long maximumSize;
+
+        /**
+         * 최대 가중치 (항목 크기 기준, CacheWeigher 참고)
+         */
+        private Long maximumWeight;
+
+        private Duration expireAfterWrite;
+
+        private Duration expireAfterAccess;
+
+        /**
+         * 쓰기 후 이 시간이 지난 항목은 다음 조회 시 기존 값을 돌려주고 비동기로 다시 읽는다.
+         * expireAfterWrite 보다 짧아야 의미가 있다.
+         */
+        private Duration refreshAfterWrite;
+
+        /**
+         * 없는 데이터(null)도 캐시 (negative caching)
+         */
+        private Boolean allowNullValues;
+
+        static Spec defaults() {
+            Spec spec = new Spec();
+            spec.setMaximumSize(1000L);
+            spec.setExpireAfterWrite(Duration.ofMinutes(30));
+            spec.setExpireAfterAccess(Duration.ofMinutes(10));
+            spec.setAllowNullValues(true);
+            return spec;
+        }
+
+        Spec withDefaults(Spec defaults) {
+            Spec merged = new Spec();
+            boolean sized = maximumSize != null || maximumWeight != null;
+            merged.setMaximumSize(sized ? maximumSize : defaults.getMaximumSize());
+            merged.setMaximumWeight(sized ? maximumWeight : defaults.getMaximumWeight());
+            merged.setExpireAfterWrite(expireAfterWrite != null ? expireAfterWrite : defaults.getExpireAfterWrite());
+            merged.setExpireAfterAccess(expireAfterAccess != null ? expireAfterAccess : defaults.getExpireAfterAccess());
+            merged.setRefreshAfterWrite(refreshAfterWrite != null ? refreshAfterWrite : defaults.getRefreshAfterWrite());
+            merged.setAllowNullValues(allowNullValues != null ? allowNullValues : defaults.getAllowNullValues());
+            return merged;
+        }
+
+        public boolean isNullValuesAllowed() {
+            return !Boolean.FALSE.equals(allowNullValues);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.moyam.chatbot.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * maximumWeight 캐시용 가중치 (대략적인 크기, 1 = 약 256자)
+ * 단계는 본문과 조건 수, 목록은 원소 수로 계산한다.
+ */
+class CacheWeigher implements Weigher<Object, Object> {
+
+    private static final int CHARS_PER_UNIT = 256;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof ScenarioStep step) {
+            int content = step.getContent() != null ? step.getContent().length() / CHARS_PER_UNIT : 0;
+            int conditions = step.getConditions() != null ? weighMap(step.getConditions()) : 0;
+            return 1 + content + conditions;
+        }
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        return 1;
+    }
+
+    /**
+     * 조건 JSON 의 항목 수 (선택지 목록은 원소 수 포함)
+     */
+    private static int weighMap(Map<?, ?> map) {
+        int weight = 0;
+        for (Object value : map.values()) {
+            weight += value instanceof Collection<?> collection ? collection.size() : 1;
+        }
+        return weight / 8;
+    }
+}
@@ -0,0 +1,74 @@
+package io.moyam.chatbot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.domain.conversation.repository.ConversationEventMapper;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.store.CaffeineConversationContextStore;
+import io.moyam.chatbot.domain.conversation.store.ContextSnapshotFile;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextPersister;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.conversation.store.EventLogConversationContextStore;
+import io.moyam.chatbot.domain.conversation.store.JdbcConversationContextStore;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대화 컨텍스트 저장소 설정
+ */
+@Configuration
+public class ContextStoreConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "chatbot.context-store", name = "type", havingValue = "memory", matchIfMissing = true)
+    public CaffeineConversationContextStore conversationContextStore(ContextStoreProperties properties,
+                                                                     ConversationContextPersister persister,
+                                                                     MeterRegistry meterRegistry,
+                                                                     ObjectMapper objectMapper) {
+        ContextStoreProperties.Snapshot snapshot = properties.getSnapshot();
+        return new CaffeineConversationContextStore(
+                properties.getMaximumSize(),
+                properties.getIdleTimeout(),
+                persister,
+                meterRegistry,
+                snapshot.isEnabled() ? new ContextSnapshotFile(snapshot.getPath(), objectMapper) : null);
+    }
+
+    /**
+     * 여러 인스턴스가 공유하는 저장소 (브로커 릴레이와 함께 사용, 세션 고정 불필요)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "chatbot.context-store", name = "type", havingValue = "jdbc")
+    public ConversationContextStore jdbcConversationContextStore(ContextStoreProperties properties,
+                                                                 ConversationMapper conversationMapper,
+                                                                 ScenarioMapper scenarioMapper,
+                                                                 MeterRegistry meterRegistry) {
+        return new JdbcConversationContextStore(conversationMapper, scenarioMapper,
+                properties.getIdleTimeout(), meterRegistry);
+    }
+
+    /**
+     * 공유 저장소 중 턴마다 변경분만 추가하는 구현 (컨텍스트 전체 재기록으로 인한 테이블 팽창 방지)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "chatbot.context-store", name = "type", havingValue = "events")
+    public ConversationContextStore eventLogConversationContextStore(ContextStoreProperties properties,
+                                                                     ConversationMapper conversationMapper,
+                                                                     ConversationEventMapper eventMapper,
+                                                                     ScenarioMapper scenarioMapper,
+                                                                     ObjectMapper objectMapper,
+                                                                     PlatformTransactionManager transactionManager,
+                                                                     MeterRegistry meterRegistry) {
+        // 턴 트랜잭션 안이면 저장점, 밖이면 자기 트랜잭션
+        TransactionTemplate savepoints = new TransactionTemplate(transactionManager);
+        savepoints.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        return new EventLogConversationContextStore(conversationMapper, eventMapper, scenarioMapper, objectMapper,
+                properties.getEventLog().getSnapshotInterval(), properties.getMaximumSize(),
+                properties.getIdleTimeout(), savepoints, meterRegistry);
+    }
+}
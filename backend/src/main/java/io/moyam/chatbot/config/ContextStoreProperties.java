@@ -0,0 +1,67 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 대화 컨텍스트 저장소 설정 (chatbot.context-store.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.context-store")
+public class ContextStoreProperties {
+
+    /**
+     * 저장소 구현 (memory: 인스턴스 메모리, jdbc: conversations 테이블 공유, events: 변경 이벤트 로그 + 주기적 스냅샷)
+     */
+    private String type = "memory";
+
+    /**
+     * 메모리에 보관할 최대 컨텍스트 수
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * 마지막 접근 후 메모리에서 내려 DB 로 저장하기까지의 유휴 시간 (jdbc 는 활성 세션 집계 기준)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 재시작 간 컨텍스트 보존 (종료 시 파일 기록, 기동 후 첫 접근 시 복원)
+     */
+    private Snapshot snapshot = new Snapshot();
+
+    /**
+     * events 저장소 설정
+     */
+    private EventLog eventLog = new EventLog();
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        /**
+         * 기본은 꺼짐 (운영에서 영속 디스크 경로와 함께 켠다)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 스냅샷 파일 경로 (인스턴스마다 로컬 디스크, 기본은 작업 디렉터리와 무관한 임시 디렉터리)
+         */
+        private Path path = Path.of(System.getProperty("java.io.tmpdir"), "moyam-chatbot", "context-snapshot.bin");
+    }
+
+    @Getter
+    @Setter
+    public static class EventLog {
+
+        /**
+         * 이벤트 몇 개마다 conversations.context_data 스냅샷을 갱신할지 (읽기 시 재적용할 최대 이벤트 수)
+         */
+        private int snapshotInterval = 50;
+    }
+}
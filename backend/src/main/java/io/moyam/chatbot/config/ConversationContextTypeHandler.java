@@ -0,0 +1,21 @@
+package io.moyam.chatbot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * JSONB &lt;-&gt; ConversationContext 타입 핸들러 (conversations.context_data)
+ * 컨텍스트 스냅샷을 Map 변환 없이 바로 직렬화/역직렬화한다.
+ */
+@MappedTypes(ConversationContext.class)
+public class ConversationContextTypeHandler extends AbstractJsonTypeHandler<ConversationContext> {
+
+    public ConversationContextTypeHandler() {
+        this(JsonTypeHandler.DEFAULT_OBJECT_MAPPER);
+    }
+
+    public ConversationContextTypeHandler(ObjectMapper objectMapper) {
+        super(objectMapper, objectMapper.constructType(ConversationContext.class));
+    }
+}
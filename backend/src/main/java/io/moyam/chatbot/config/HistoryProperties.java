@@ -0,0 +1,51 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대화 기록 write-behind 저장 설정 (chatbot.history.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.history")
+public class HistoryProperties {
+
+    /**
+     * 메시지 기록 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 메모리 큐 최대 크기
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 한 번에 INSERT 할 최대 메시지 수
+     */
+    private int maxBatchSize = 500;
+
+    /**
+     * 배치가 차지 않아도 저장하는 주기
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * 큐가 가득 찼을 때 요청 스레드가 기다리는 최대 시간 (초과 시 요청 스레드에서 직접 저장)
+     */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /**
+     * 저장에 실패한 메시지를 다시 시도하는 주기
+     */
+    private Duration retryInterval = Duration.ofSeconds(1);
+
+    /**
+     * 시나리오 밖 대화(일반 대화)를 기록할 봇 ID
+     */
+    private Long defaultBotId = 1L;
+}
@@ -1,62 +1,35 @@
 package io.moyam.chatbot.config;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.ibatis.type.BaseTypeHandler;
-import org.apache.ibatis.type.JdbcType;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.apache.ibatis.type.MappedTypes;
-import org.postgresql.util.PGobject;
 
-import java.sql.CallableStatement;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.Map;
 
+/**
+ * JSONB &lt;-&gt; Map 타입 핸들러 (scenario_steps.conditions, messages.metadata 등)
+ *
+ * <p>스프링 빈으로 등록된 인스턴스는 애플리케이션 ObjectMapper 를 사용한다.
+ * 기본 생성자는 MyBatis 가 직접 생성하는 경우(패키지 스캔, 단독 사용)를 위한 것이다.</p>
+ */
 @MappedTypes(Map.class)
-public class JsonTypeHandler extends BaseTypeHandler<Map<String, Object>> {
-
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
-    @Override
-    public void setNonNullParameter(PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType) throws SQLException {
-        try {
-            PGobject jsonObject = new PGobject();
-            jsonObject.setType("jsonb");
-            jsonObject.setValue(objectMapper.writeValueAsString(parameter));
-            ps.setObject(i, jsonObject);
-        } catch (JsonProcessingException e) {
-            throw new SQLException("Error converting Map to JSON", e);
-        }
-    }
-
-    @Override
-    public Map<String, Object> getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        String json = rs.getString(columnName);
-        return parseJson(json);
-    }
-
-    @Override
-    public Map<String, Object> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        String json = rs.getString(columnIndex);
-        return parseJson(json);
-    }
-
-    @Override
-    public Map<String, Object> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        String json = cs.getString(columnIndex);
-        return parseJson(json);
+public class JsonTypeHandler extends AbstractJsonTypeHandler<Map<String, Object>> {
+
+    /**
+     * 스프링 컨텍스트 밖에서 생성될 때 사용하는 ObjectMapper
+     */
+    static final ObjectMapper DEFAULT_OBJECT_MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public JsonTypeHandler() {
+        this(DEFAULT_OBJECT_MAPPER);
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJson(String json) throws SQLException {
-        if (json == null || json.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(json, Map.class);
-        } catch (JsonProcessingException e) {
-            throw new SQLException("Error parsing JSON: " + json, e);
-        }
+    public JsonTypeHandler(ObjectMapper objectMapper) {
+        super(objectMapper, TypeFactory.defaultInstance().constructMapType(Map.class, String.class, Object.class));
     }
 }
@@ -0,0 +1,42 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * messages 월 파티션 관리 설정 (chatbot.message-partitions.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.message-partitions")
+public class MessagePartitionProperties {
+
+    /**
+     * 파티션 자동 관리 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이번 달 이후 미리 만들어 둘 월 수
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * 보관 개월 수 (이번 달 포함, 지난 파티션은 보관 파일로 내보낸 뒤 삭제. 0 이면 삭제하지 않음)
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * 보관 파일 디렉터리 (messages_YYYY_MM.ndjson.gz, 운영에서는 영속 디스크 절대 경로로 지정)
+     */
+    private Path archiveDir = Path.of(System.getProperty("java.io.tmpdir"), "moyam-chatbot", "archive", "messages");
+
+    /**
+     * 점검 주기 (기동 직후 한 번 실행)
+     */
+    private Duration checkInterval = Duration.ofHours(6);
+}
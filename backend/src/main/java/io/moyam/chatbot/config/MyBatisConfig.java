@@ -1,20 +1,24 @@
 package io.moyam.chatbot.config;
 
-import org.apache.ibatis.session.Configuration;
-import org.apache.ibatis.type.JdbcType;
-import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 
-import java.util.Map;
-
+/**
+ * MyBatis 설정
+ *
+ * <p>TypeHandler 빈은 type-handlers-package 스캔 이후에 등록되므로, 매퍼 XML 의
+ * typeHandler 참조와 타입 기반 조회 모두 애플리케이션 ObjectMapper 를 쓰는 인스턴스로 해석된다.</p>
+ */
 @org.springframework.context.annotation.Configuration
 public class MyBatisConfig {
 
     @Bean
-    public ConfigurationCustomizer mybatisConfigCustomizer() {
-        return (Configuration configuration) -> {
-            configuration.getTypeHandlerRegistry()
-                    .register(Map.class, JdbcType.OTHER, JsonTypeHandler.class);
-        };
+    public JsonTypeHandler jsonTypeHandler(ObjectMapper objectMapper) {
+        return new JsonTypeHandler(objectMapper);
+    }
+
+    @Bean
+    public ConversationContextTypeHandler conversationContextTypeHandler(ObjectMapper objectMapper) {
+        return new ConversationContextTypeHandler(objectMapper);
     }
 }
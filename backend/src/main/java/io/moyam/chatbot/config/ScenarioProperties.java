@@ -0,0 +1,20 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시나리오 실행 설정 (chatbot.scenario.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.scenario")
+public class ScenarioProperties {
+
+    /**
+     * 입력을 기다리지 않는 MESSAGE 단계를 한 턴에 이어서 진행할 최대 단계 수 (0 이면 한 단계씩)
+     * 입력 없는 순환이 있어도 이 수에서 멈춘다.
+     */
+    private int maxAutoAdvanceSteps = 5;
+}
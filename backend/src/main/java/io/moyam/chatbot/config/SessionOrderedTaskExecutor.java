@@ -0,0 +1,210 @@
+package io.moyam.chatbot.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * clientInboundChannel 실행기
+ * 같은 채팅 세션의 메시지는 도착 순서대로 하나씩, 서로 다른 세션은 가상 스레드에서 병렬로 처리한다.
+ * ConversationContext(HashMap/ArrayList)를 한 세션에서 동시에 수정하지 않도록 보장하기 위함.
+ *
+ * <p>세션 키는 /app/chat/{sessionId}(/start 등 하위 경로 포함) 목적지의 sessionId, 그 외 프레임(SUBSCRIBE 등)은
+ * STOMP 세션 ID 를 사용한다.
+ * ChannelRegistration 이 ThreadPoolTaskExecutor 만 받으므로 이를 상속하되 내부 스레드 풀은 사용하지 않는다.</p>
+ */
+@Slf4j
+public class SessionOrderedTaskExecutor extends ThreadPoolTaskExecutor implements MeterBinder {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/app/chat/";
+
+    private final int maxQueuedPerSession;
+    private final Function<Runnable, String> keyResolver;
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ws-inbound-", 0).factory());
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public SessionOrderedTaskExecutor(int maxQueuedPerSession) {
+        this(maxQueuedPerSession, SessionOrderedTaskExecutor::sessionKey);
+    }
+
+    SessionOrderedTaskExecutor(int maxQueuedPerSession, Function<Runnable, String> keyResolver) {
+        this.maxQueuedPerSession = maxQueuedPerSession;
+        this.keyResolver = keyResolver;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String key = keyResolver.apply(task);
+        if (key == null) {
+            workers.execute(task);
+            return;
+        }
+
+        SessionQueue[] toStart = new SessionQueue[1];
+        boolean[] accepted = new boolean[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new SessionQueue(k);
+            }
+            if (queue.tasks.size() < maxQueuedPerSession) {
+                queue.tasks.add(task);
+                queued.incrementAndGet();
+                accepted[0] = true;
+                if (!queue.running) {
+                    queue.running = true;
+                    toStart[0] = queue;
+                }
+            }
+            return queue;
+        });
+
+        if (!accepted[0]) {
+            rejected.increment();
+            throw new RejectedExecutionException("Too many queued messages for session " + key);
+        }
+        if (toStart[0] != null) {
+            workers.execute(toStart[0]);
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Inbound executor did not finish within 10s, {} messages still queued", queued.get());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지 수 (모든 세션 합계)
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * 처리 중이거나 대기 메시지가 있는 세션 수
+     */
+    public int getActiveSessionCount() {
+        return queues.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("chatbot.websocket.inbound.queued", queued, AtomicInteger::get)
+                .description("Inbound STOMP messages waiting for their session")
+                .register(registry);
+        Gauge.builder("chatbot.websocket.inbound.sessions", queues, Map::size)
+                .description("Sessions with inbound messages in flight")
+                .register(registry);
+        FunctionCounter.builder("chatbot.websocket.inbound.rejected", rejected, LongAdder::sum)
+                .description("Inbound STOMP messages rejected because the session queue was full")
+                .register(registry);
+    }
+
+    /**
+     * 메시지의 세션 키 (채팅 세션 ID > STOMP 세션 ID)
+     * /app/chat/{sessionId} 와 /app/chat/{sessionId}/start 가 같은 대기열을 쓰도록 첫 경로 조각만 사용한다.
+     */
+    static String sessionKey(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable runnable)) {
+            return null;
+        }
+        MessageHeaders headers = runnable.getMessage().getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination != null && destination.startsWith(CHAT_DESTINATION_PREFIX)) {
+            int start = CHAT_DESTINATION_PREFIX.length();
+            int end = destination.indexOf('/', start);
+            String chatSessionId = end < 0 ? destination.substring(start) : destination.substring(start, end);
+            if (!chatSessionId.isEmpty()) {
+                return chatSessionId;
+            }
+        }
+        return SimpMessageHeaderAccessor.getSessionId(headers);
+    }
+
+    /**
+     * 세션 하나의 대기열, 비어 있으면 맵에서 제거된다
+     */
+    private final class SessionQueue implements Runnable {
+
+        private final String key;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        private SessionQueue(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            Runnable task;
+            while ((task = poll()) != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.error("Inbound message handling failed for session {}: {}", key, e.getMessage(), e);
+                }
+            }
+        }
+
+        private Runnable poll() {
+            Runnable[] next = new Runnable[1];
+            queues.computeIfPresent(key, (k, queue) -> {
+                next[0] = queue.tasks.poll();
+                if (next[0] == null) {
+                    queue.running = false;
+                    return null;
+                }
+                queued.decrementAndGet();
+                return queue;
+            });
+            return next[0];
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 기동 시 캐시 워밍업 설정 (chatbot.warmup.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.warmup")
+public class WarmupProperties {
+
+    /**
+     * 워밍업 여부 (끄면 readiness 는 바로 UP)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 봇 단위 병렬 로딩 수 (DB 커넥션 풀보다 작게)
+     */
+    private int parallelism = 4;
+
+    /**
+     * 워밍업 최대 시간 (초과하면 남은 작업을 버리고 트래픽을 받는다)
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -1,19 +1,49 @@
 package io.moyam.chatbot.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponseMessageConverter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.List;
+
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 보내는 메시지 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        WebSocketProperties.Broker broker = properties.getBroker();
+        if (broker.getType() == WebSocketProperties.Broker.Type.RELAY) {
+            // 외부 브로커가 구독을 관리하므로 어느 인스턴스에서 발행해도 모든 구독자에게 전달된다
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(broker.getRelayHost())
+                    .setRelayPort(broker.getRelayPort())
+                    .setClientLogin(broker.getClientLogin())
+                    .setClientPasscode(broker.getClientPasscode())
+                    .setSystemLogin(broker.getSystemLogin())
+                    .setSystemPasscode(broker.getSystemPasscode())
+                    .setVirtualHost(broker.getVirtualHost())
+                    .setSystemHeartbeatSendInterval(broker.getSystemHeartbeatInterval())
+                    .setSystemHeartbeatReceiveInterval(broker.getSystemHeartbeatInterval())
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/user-registry");
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         // 클라이언트에서 받는 메시지 prefix
         config.setApplicationDestinationPrefixes("/app");
     }
@@ -24,4 +54,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        WebSocketProperties.Inbound inbound = properties.getInbound();
+        if (!inbound.isSessionOrdered()) {
+            return;
+        }
+        // 세션별 순차 실행 + 세션 간 병렬 (가상 스레드)
+        SessionOrderedTaskExecutor executor = new SessionOrderedTaskExecutor(inbound.getMaxQueuedPerSession());
+        executor.bindTo(meterRegistry);
+        registration.taskExecutor(executor);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 기본(Jackson) 변환기보다 먼저 ChatResponse 를 처리
+        messageConverters.add(0, new ChatResponseMessageConverter(objectMapper));
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package io.moyam.chatbot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * STOMP 웹소켓 설정 (chatbot.websocket.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chatbot.websocket")
+public class WebSocketProperties {
+
+    private final Inbound inbound = new Inbound();
+
+    private final Broker broker = new Broker();
+
+    @Getter
+    @Setter
+    public static class Inbound {
+
+        /**
+         * 세션별 순차 실행 (가상 스레드). false 면 스프링 기본 스레드 풀 사용
+         */
+        private boolean sessionOrdered = true;
+
+        /**
+         * 세션당 대기 가능한 최대 메시지 수 (초과 시 거부)
+         */
+        private int maxQueuedPerSession = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Broker {
+
+        /**
+         * simple: 인스턴스 내장 브로커, relay: 외부 STOMP 브로커(RabbitMQ 등)로 중계하여 여러 인스턴스가 구독을 공유
+         */
+        private Type type = Type.SIMPLE;
+
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+
+        /**
+         * 클라이언트 세션이 브로커에 연결할 때 쓰는 계정
+         */
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+
+        /**
+         * 서버 발행 메시지(@SendTo 등)를 보내는 공용 연결 계정
+         */
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+
+        private String virtualHost;
+
+        /**
+         * 공용 연결 heart-beat 주기 (0 이면 사용 안 함)
+         */
+        private long systemHeartbeatInterval = 10_000;
+
+        public enum Type {
+            SIMPLE, RELAY
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 일반 대화(시나리오 밖) 의도
+ * 봇 옵션 intent.{이름}.keywords / intent.{이름}.priority 로 봇마다 키워드와 우선순위를 바꿀 수 있다.
+ *
+ * <p>키워드는 메시지에 포함되면 일치하고, '=' 로 시작하는 키워드는 메시지 전체가 같을 때만 일치한다.
+ * 여러 의도가 일치하면 priority 가 낮은 의도를 고른다.</p>
+ */
+public enum ChatIntent {
+
+    START(10, "시작", "start", "데모", "=1"),
+    GREETING(20, "안녕", "hi", "hello", "하이"),
+    HELP(30, "도움", "help", "헬프", "=?"),
+    THANKS(40, "고마", "감사", "thank", "굿"),
+    GOODBYE(50, "종료", "끝", "bye", "바이");
+
+    private final int defaultPriority;
+    private final List<String> defaultKeywords;
+
+    ChatIntent(int defaultPriority, String... defaultKeywords) {
+        this.defaultPriority = defaultPriority;
+        this.defaultKeywords = List.of(defaultKeywords);
+    }
+
+    public int getDefaultPriority() {
+        return defaultPriority;
+    }
+
+    public List<String> getDefaultKeywords() {
+        return defaultKeywords;
+    }
+
+    /**
+     * 키워드 옵션 키 (쉼표 구분, 비우면 의도 비활성)
+     */
+    public String keywordsOptionKey() {
+        return "intent." + name().toLowerCase(Locale.ROOT) + ".keywords";
+    }
+
+    public String priorityOptionKey() {
+        return "intent." + name().toLowerCase(Locale.ROOT) + ".priority";
+    }
+}
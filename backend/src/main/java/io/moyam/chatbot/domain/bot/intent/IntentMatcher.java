@@ -0,0 +1,115 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import io.moyam.chatbot.domain.bot.model.BotOption;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 봇 하나의 의도 판별기 (봇 옵션으로 컴파일, 불변)
+ */
+@Slf4j
+public final class IntentMatcher {
+
+    /**
+     * 컴파일에 사용한 봇 옵션 목록 (캐시 값이 바뀌었는지 동일성으로 확인)
+     */
+    private final List<BotOption> source;
+
+    /**
+     * 순위 -> 의도 (priority 오름차순)
+     */
+    private final ChatIntent[] intentsByRank;
+
+    private final KeywordAutomaton automaton;
+
+    /**
+     * 전체 일치 키워드 -> 순위
+     */
+    private final Map<String, Integer> exactRanks;
+
+    private IntentMatcher(List<BotOption> source, ChatIntent[] intentsByRank,
+                          KeywordAutomaton automaton, Map<String, Integer> exactRanks) {
+        this.source = source;
+        this.intentsByRank = intentsByRank;
+        this.automaton = automaton;
+        this.exactRanks = exactRanks;
+    }
+
+    public static IntentMatcher compile(List<BotOption> options) {
+        Map<String, String> values = options.stream()
+                .filter(option -> option.getOptionKey() != null && option.getOptionValue() != null)
+                .collect(Collectors.toMap(BotOption::getOptionKey, BotOption::getOptionValue, (a, b) -> b));
+
+        Map<ChatIntent, Integer> priorities = Arrays.stream(ChatIntent.values())
+                .collect(Collectors.toMap(Function.identity(), intent -> priority(intent, values)));
+        ChatIntent[] intentsByRank = Arrays.stream(ChatIntent.values())
+                .sorted(Comparator.comparing(priorities::get))
+                .toArray(ChatIntent[]::new);
+
+        Map<String, Integer> containsRanks = new HashMap<>();
+        Map<String, Integer> exactRanks = new HashMap<>();
+        for (int rank = 0; rank < intentsByRank.length; rank++) {
+            for (String keyword : keywords(intentsByRank[rank], values)) {
+                if (keyword.startsWith("=")) {
+                    if (keyword.length() > 1) {
+                        exactRanks.merge(keyword.substring(1), rank, Math::min);
+                    }
+                } else {
+                    containsRanks.merge(keyword, rank, Math::min);
+                }
+            }
+        }
+        return new IntentMatcher(options, intentsByRank, KeywordAutomaton.compile(containsRanks), Map.copyOf(exactRanks));
+    }
+
+    /**
+     * 메시지 의도 판별 (입력을 한 번만 훑음)
+     */
+    public Optional<ChatIntent> match(String message) {
+        int rank = automaton.bestRank(message);
+        if (!exactRanks.isEmpty()) {
+            Integer exact = exactRanks.get(message.trim().toLowerCase(Locale.ROOT));
+            if (exact != null && (rank == KeywordAutomaton.NO_MATCH || exact < rank)) {
+                rank = exact;
+            }
+        }
+        return rank == KeywordAutomaton.NO_MATCH ? Optional.empty() : Optional.of(intentsByRank[rank]);
+    }
+
+    boolean isCompiledFrom(List<BotOption> options) {
+        return source == options;
+    }
+
+    private static List<String> keywords(ChatIntent intent, Map<String, String> values) {
+        String configured = values.get(intent.keywordsOptionKey());
+        if (configured == null) {
+            return intent.getDefaultKeywords();
+        }
+        return Arrays.stream(configured.split(","))
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .filter(keyword -> !keyword.isEmpty())
+                .toList();
+    }
+
+    private static int priority(ChatIntent intent, Map<String, String> values) {
+        String configured = values.get(intent.priorityOptionKey());
+        if (configured == null) {
+            return intent.getDefaultPriority();
+        }
+        try {
+            return Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} '{}', using default {}", intent.priorityOptionKey(), configured, intent.getDefaultPriority());
+            return intent.getDefaultPriority();
+        }
+    }
+}
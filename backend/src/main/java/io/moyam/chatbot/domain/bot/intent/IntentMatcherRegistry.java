@@ -0,0 +1,56 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import io.moyam.chatbot.domain.bot.model.BotOption;
+import io.moyam.chatbot.domain.bot.service.BotOptionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 봇별 의도 판별기 저장소
+ *
+ * <p>botOptions 캐시의 옵션 목록으로 컴파일하고, 캐시 값이 바뀌면(옵션 저장 시 evict, 주기적 refresh)
+ * 다음 조회에서 새 판별기를 만들어 한 번의 참조 교체로 반영한다. 조회 쪽은 항상 완성된 판별기만 본다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IntentMatcherRegistry {
+
+    private static final IntentMatcher DEFAULT_MATCHER = IntentMatcher.compile(List.of());
+
+    private final BotOptionService botOptionService;
+
+    private final Map<Long, IntentMatcher> matchers = new ConcurrentHashMap<>();
+
+    /**
+     * 메시지 의도 판별 (봇이 없으면 기본 키워드 사용)
+     */
+    public Optional<ChatIntent> match(Long botId, String message) {
+        if (message == null || message.isBlank()) {
+            return Optional.empty();
+        }
+        return matcherFor(botId).match(message);
+    }
+
+    IntentMatcher matcherFor(Long botId) {
+        if (botId == null) {
+            return DEFAULT_MATCHER;
+        }
+        List<BotOption> options = botOptionService.getOptions(botId);
+        IntentMatcher current = matchers.get(botId);
+        if (current != null && current.isCompiledFrom(options)) {
+            return current;
+        }
+
+        IntentMatcher compiled = IntentMatcher.compile(options);
+        matchers.put(botId, compiled);
+        log.debug("Compiled intent matcher for bot {} ({} options)", botId, options.size());
+        return compiled;
+    }
+}
@@ -0,0 +1,149 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 다중 키워드 포함 검사 (Aho-Corasick)
+ * 키워드마다 순위(rank)를 붙여 컴파일하고, 입력을 한 번만 훑어 일치한 키워드 중 가장 낮은 순위를 찾는다.
+ * 대소문자는 구분하지 않는다 (키워드는 소문자로 전달).
+ *
+ * <p>컴파일 후에는 불변이므로 여러 스레드가 공유한다. 노드의 간선은 문자 순으로 정렬된 배열에
+ * 평탄화하여 이진 탐색한다.</p>
+ */
+final class KeywordAutomaton {
+
+    static final int NO_MATCH = -1;
+
+    /**
+     * 노드 i 의 간선: labels/targets[edgeStart[i], edgeStart[i + 1])
+     */
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] targets;
+
+    private final int[] fail;
+
+    /**
+     * 노드에서 끝나는 키워드(실패 링크로 이어진 접미사 포함) 중 최소 순위
+     */
+    private final int[] bestRank;
+
+    private KeywordAutomaton(int[] edgeStart, char[] labels, int[] targets, int[] fail, int[] bestRank) {
+        this.edgeStart = edgeStart;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.bestRank = bestRank;
+    }
+
+    /**
+     * @param ranks 소문자 키워드 -> 순위 (0 이 가장 높음)
+     */
+    static KeywordAutomaton compile(Map<String, Integer> ranks) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> best = new ArrayList<>();
+        children.add(new TreeMap<>());
+        best.add(Integer.MAX_VALUE);
+
+        // 1. 트라이
+        ranks.forEach((keyword, rank) -> {
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    best.add(Integer.MAX_VALUE);
+                }
+                node = next;
+            }
+            best.set(node, Math.min(best.get(node), rank));
+        });
+
+        // 2. 실패 링크 (BFS, 얕은 노드의 결과를 먼저 확정)
+        int size = children.size();
+        int[] fail = new int[size];
+        int[] bestRank = new int[size];
+        bestRank[0] = best.get(0);
+        Deque<Integer> queue = new ArrayDeque<>();
+        children.get(0).values().forEach(child -> {
+            fail[child] = 0;
+            bestRank[child] = best.get(child);
+            queue.add(child);
+        });
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            children.get(node).forEach((c, child) -> {
+                int f = fail[node];
+                while (f != 0 && !children.get(f).containsKey(c)) {
+                    f = fail[f];
+                }
+                Integer target = children.get(f).get(c);
+                fail[child] = target != null ? target : 0;
+                bestRank[child] = Math.min(best.get(child), bestRank[fail[child]]);
+                queue.add(child);
+            });
+        }
+
+        // 3. 간선 평탄화
+        int[] edgeStart = new int[size + 1];
+        int edges = 0;
+        for (int i = 0; i < size; i++) {
+            edgeStart[i] = edges;
+            edges += children.get(i).size();
+        }
+        edgeStart[size] = edges;
+        char[] labels = new char[edges];
+        int[] targets = new int[edges];
+        for (int i = 0; i < size; i++) {
+            int e = edgeStart[i];
+            for (Map.Entry<Character, Integer> edge : children.get(i).entrySet()) {
+                labels[e] = edge.getKey();
+                targets[e] = edge.getValue();
+                e++;
+            }
+        }
+        return new KeywordAutomaton(edgeStart, labels, targets, fail, bestRank);
+    }
+
+    /**
+     * 입력에 포함된 키워드 중 최소 순위 (없으면 NO_MATCH)
+     */
+    int bestRank(CharSequence text) {
+        int best = Integer.MAX_VALUE;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = step(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = step(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            if (bestRank[state] < best) {
+                best = bestRank[state];
+                if (best == 0) {
+                    break;   // 더 높은 순위는 없음
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? NO_MATCH : best;
+    }
+
+    int size() {
+        return fail.length;
+    }
+
+    private int step(int state, char c) {
+        int index = Arrays.binarySearch(labels, edgeStart[state], edgeStart[state + 1], c);
+        return index >= 0 ? targets[index] : -1;
+    }
+}
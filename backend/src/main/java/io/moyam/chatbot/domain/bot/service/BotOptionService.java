@@ -0,0 +1,40 @@
+package io.moyam.chatbot.domain.bot.service;
+
+import io.moyam.chatbot.domain.bot.model.BotOption;
+import io.moyam.chatbot.domain.bot.repository.BotOptionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 봇 옵션 조회 (봇 단위로 한 번에 읽어 캐시)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class BotOptionService {
+
+    private final BotOptionMapper botOptionMapper;
+
+    @Cacheable(value = "botOptions", key = "#botId")
+    public List<BotOption> getOptions(Long botId) {
+        return List.copyOf(botOptionMapper.findByBotId(botId));
+    }
+
+    @Transactional
+    @CacheEvict(value = "botOptions", key = "#option.botId")
+    public void saveOption(BotOption option) {
+        if (option.getId() == null) {
+            botOptionMapper.insert(option);
+        } else {
+            botOptionMapper.update(option);
+        }
+        log.debug("Saved bot option {} for bot {}", option.getOptionKey(), option.getBotId());
+    }
+}
@@ -0,0 +1,349 @@
+package io.moyam.chatbot.domain.conversation.history;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.config.HistoryProperties;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.repository.MessageMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 메시지 write-behind 기록기
+ * 요청 스레드는 메모리 큐에 넣기만 하고, 백그라운드 스레드가 multi-row INSERT 배치로 저장한다.
+ *
+ * <ul>
+ *   <li>큐가 가득 차면 offerTimeout 만큼 요청 스레드를 대기시키고(backpressure), 그래도 자리가 없으면
+ *       요청 스레드에서 직접 저장한다. 기록은 누락하지 않으며 created_at 은 요청 시각이라 조회 순서도 유지된다.</li>
+ *   <li>대화 조회나 INSERT 가 실패한 메시지는 버리지 않고 재시도 큐에 넣어 retryInterval 마다 다시 저장한다.</li>
+ *   <li>종료 시에는 WebSocket 처리가 멈춘 뒤 큐에 남은 메시지를 모두 저장하고 끝난다.
+ *       재시도 중인 메시지는 한 번 더 시도하고, 그래도 실패하면 failed 로 집계하고 로그를 남긴다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class MessageHistoryWriter implements SmartLifecycle {
+
+    /**
+     * WebSocket 메시지 핸들러(Integer.MAX_VALUE)보다 먼저 시작하고 나중에 종료
+     */
+    private static final int PHASE = Integer.MAX_VALUE - 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+    private record PendingMessage(String sessionId, Long scenarioId, Message message) {
+    }
+
+    private final HistoryProperties properties;
+    private final MessageMapper messageMapper;
+    private final ConversationMapper conversationMapper;
+    private final ScenarioMapper scenarioMapper;
+
+    private final BlockingQueue<PendingMessage> queue;
+
+    /**
+     * 저장에 실패해 다시 시도할 메시지 (요청 스레드의 동기 저장 실패도 여기로 모임)
+     */
+    private final Queue<PendingMessage> retries = new ConcurrentLinkedQueue<>();
+    private final Cache<String, Long> conversationIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter overflowCounter;
+    private final Counter retriedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public MessageHistoryWriter(HistoryProperties properties,
+                                MessageMapper messageMapper,
+                                ConversationMapper conversationMapper,
+                                ScenarioMapper scenarioMapper,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.messageMapper = messageMapper;
+        this.conversationMapper = conversationMapper;
+        this.scenarioMapper = scenarioMapper;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("chatbot.history.queue.size", queue, BlockingQueue::size)
+                .description("Messages waiting to be written")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("chatbot.history.messages").tag("result", "written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("chatbot.history.messages").tag("result", "dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("chatbot.history.messages").tag("result", "failed").register(meterRegistry);
+        this.overflowCounter = Counter.builder("chatbot.history.queue.overflow")
+                .description("Messages written on the caller thread because the queue stayed full")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.history.retry.size", retries, Queue::size)
+                .description("Messages waiting for another write attempt")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("chatbot.history.retries")
+                .description("Failed message writes put back for another attempt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메시지 기록 요청 (비동기, 큐가 계속 가득 차 있으면 동기 저장)
+     *
+     * @param scenarioId 대화가 아직 없을 때 봇을 찾기 위한 시나리오 ID (없으면 기본 봇)
+     */
+    public void record(String sessionId, Long scenarioId,
+                       Message.SenderType senderType, Message.MessageType messageType, String content) {
+        if (!properties.isEnabled() || sessionId == null || content == null || content.isBlank()) {
+            return;
+        }
+        if (!running) {
+            droppedCounter.increment();
+            log.warn("Message history writer is not running, dropping message for session {}", sessionId);
+            return;
+        }
+
+        Message message = Message.builder()
+                .senderType(senderType)
+                .messageType(messageType)
+                .content(content)
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        PendingMessage pending = new PendingMessage(sessionId, scenarioId, message);
+        boolean queued;
+        try {
+            queued = queue.offer(pending, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            overflowCounter.increment();
+            log.debug("Message history queue is full, writing message for session {} synchronously", sessionId);
+            writeNow(pending);
+        }
+    }
+
+    /**
+     * 큐를 거치지 않고 한 건 저장 (큐가 가득 찬 경우, 실패하면 기록 스레드가 재시도)
+     */
+    private void writeNow(PendingMessage pending) {
+        try {
+            pending.message().setConversationId(resolveConversationId(pending.sessionId(), pending.scenarioId()));
+            messageMapper.insert(pending.message());
+            writtenCounter.increment();
+        } catch (Exception e) {
+            retryLater(pending, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "message-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Message history writer started (batch={}, interval={})",
+                properties.getMaxBatchSize(), properties.getFlushInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (writerThread.isAlive()) {
+                log.warn("Message history writer did not drain in time, {} messages left", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 배치가 차거나 flushInterval 이 지나면 저장, 종료 요청 후에는 큐가 빌 때까지 계속 저장
+     */
+    private void runLoop() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long flushIntervalMillis = properties.getFlushInterval().toMillis();
+        long retryIntervalMillis = properties.getRetryInterval().toMillis();
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        long nextRetryAt = 0L;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!retries.isEmpty() && System.currentTimeMillis() >= nextRetryAt) {
+                    nextRetryAt = System.currentTimeMillis() + retryIntervalMillis;
+                    drainRetries(batch, maxBatchSize);
+                    flush(batch, false);
+                    continue;
+                }
+
+                PendingMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch, false);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로 제어하므로 남은 메시지를 계속 저장
+                log.debug("Message history writer interrupted");
+            } catch (Exception e) {
+                log.error("Unexpected error in message history writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        // 종료 전 재시도 중인 메시지를 마지막으로 한 번 더 저장
+        while (!retries.isEmpty()) {
+            drainRetries(batch, maxBatchSize);
+            flush(batch, true);
+            batch.clear();
+        }
+        log.info("Message history writer stopped");
+    }
+
+    private void drainRetries(List<PendingMessage> batch, int maxBatchSize) {
+        PendingMessage pending;
+        while (batch.size() < maxBatchSize && (pending = retries.poll()) != null) {
+            batch.add(pending);
+        }
+    }
+
+    /**
+     * 배치 저장 (실패한 메시지는 재시도 큐로, lastAttempt 이면 failed 로 집계)
+     */
+    private void flush(List<PendingMessage> batch, boolean lastAttempt) {
+        List<PendingMessage> resolved = new ArrayList<>(batch.size());
+        for (PendingMessage pending : batch) {
+            try {
+                pending.message().setConversationId(resolveConversationId(pending.sessionId(), pending.scenarioId()));
+                resolved.add(pending);
+            } catch (Exception e) {
+                failed(pending, e, lastAttempt);
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        try {
+            messageMapper.insertBatch(resolved.stream().map(PendingMessage::message).toList());
+            writtenCounter.increment(resolved.size());
+        } catch (Exception e) {
+            log.error("Batch insert of {} messages failed, retrying one by one: {}", resolved.size(), e.getMessage());
+            for (PendingMessage pending : resolved) {
+                try {
+                    messageMapper.insert(pending.message());
+                    writtenCounter.increment();
+                } catch (Exception single) {
+                    failed(pending, single, lastAttempt);
+                }
+            }
+        }
+    }
+
+    private void failed(PendingMessage pending, Exception e, boolean lastAttempt) {
+        if (lastAttempt) {
+            failedCounter.increment();
+            log.error("Giving up on message for session {} at shutdown: {}", pending.sessionId(), e.getMessage());
+        } else {
+            retryLater(pending, e);
+        }
+    }
+
+    private void retryLater(PendingMessage pending, Exception e) {
+        retries.add(pending);
+        retriedCounter.increment();
+        log.warn("Failed to write message for session {}, will retry: {}", pending.sessionId(), e.getMessage());
+    }
+
+    /**
+     * 세션의 대화 ID 조회 (없으면 생성)
+     *
+     * @throws IllegalStateException 대화를 찾지도 만들지도 못한 경우 (DB 오류는 그대로 전파, 호출 측이 재시도)
+     */
+    private Long resolveConversationId(String sessionId, Long scenarioId) {
+        Long cached = conversationIds.getIfPresent(sessionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long conversationId = conversationMapper.findBySessionId(sessionId)
+                .map(Conversation::getId)
+                .orElseGet(() -> createConversation(sessionId, scenarioId));
+        if (conversationId == null) {
+            throw new IllegalStateException("No conversation for session " + sessionId);
+        }
+        conversationIds.put(sessionId, conversationId);
+        return conversationId;
+    }
+
+    private Long createConversation(String sessionId, Long scenarioId) {
+        Long botId = scenarioId != null
+                ? scenarioMapper.findById(scenarioId).map(Scenario::getBotId).orElse(properties.getDefaultBotId())
+                : properties.getDefaultBotId();
+
+        Conversation conversation = Conversation.builder()
+                .botId(botId)
+                .currentScenarioId(scenarioId)
+                .status(Conversation.ConversationStatus.ACTIVE)
+                .sessionId(sessionId)
+                .build();
+        try {
+            conversationMapper.insert(conversation);
+            return conversation.getId();
+        } catch (DuplicateKeyException e) {
+            // 다른 스레드가 먼저 생성한 경우
+            return conversationMapper.findBySessionId(sessionId).map(Conversation::getId).orElse(null);
+        }
+    }
+}
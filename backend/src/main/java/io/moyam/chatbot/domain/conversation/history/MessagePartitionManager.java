@@ -0,0 +1,246 @@
+package io.moyam.chatbot.domain.conversation.history;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.config.MessagePartitionProperties;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.MessagePartitionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * messages 월 파티션 관리
+ *
+ * <ul>
+ *   <li>이번 달부터 premakeMonths 개월 뒤까지의 파티션(messages_YYYY_MM)을 미리 만든다.</li>
+ *   <li>보관 기간이 지난 파티션은 NDJSON gzip 파일로 내보낸 뒤 분리하고 삭제한다.
+ *       내보내기가 실패하면 트랜잭션이 롤백되어 파티션은 그대로 남고 다음 점검 때 다시 시도한다.</li>
+ * </ul>
+ *
+ * <p>여러 인스턴스가 동시에 실행해도 advisory 잠금을 얻은 하나만 작업한다.
+ * messages 가 파티션 테이블이 아니면(전환 전 DB) 기동을 멈춘다.</p>
+ */
+@Component
+@Slf4j
+public class MessagePartitionManager implements SmartLifecycle {
+
+    static final String PARTITION_PREFIX = "messages_";
+    static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final long LOCK_KEY = 0x6D73_6750_6172_7473L;   // "msgParts"
+    private static final int ARCHIVE_BUFFER_SIZE = 64 * 1024;
+    private static final String MIGRATION_SCRIPT = "sql/migration/messages_partitioning.sql";
+
+    private final MessagePartitionProperties properties;
+    private final MessagePartitionMapper partitionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final Clock clock;
+
+    private final Counter createdCounter;
+    private final Counter archivedCounter;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public MessagePartitionManager(MessagePartitionProperties properties,
+                                   MessagePartitionMapper partitionMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this(properties, partitionMapper, transactionManager, objectMapper, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    MessagePartitionManager(MessagePartitionProperties properties,
+                            MessagePartitionMapper partitionMapper,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            Clock clock) {
+        this.properties = properties;
+        this.partitionMapper = partitionMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writer = objectMapper.writerFor(Message.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.clock = clock;
+        this.createdCounter = Counter.builder("chatbot.messages.partitions").tag("action", "created").register(meterRegistry);
+        this.archivedCounter = Counter.builder("chatbot.messages.partitions").tag("action", "archived").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.isEnabled()) {
+            return;
+        }
+        verifyPartitioned();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintainSafely, 0,
+                properties.getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 파티션 생성과 보관 처리 한 번 실행
+     */
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            createIfMissing(current.plusMonths(i));
+        }
+
+        if (properties.getRetentionMonths() <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths() - 1L);
+        for (String name : partitionMapper.findPartitions()) {
+            YearMonth month = monthOf(name);
+            if (month != null && month.isBefore(oldestKept)) {
+                archive(name);
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    /**
+     * 월 파티션 이름의 월 (기본 파티션 등 다른 이름이면 null)
+     */
+    static YearMonth monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 파티션 테이블이 아니면 CREATE TABLE ... PARTITION OF 가 점검마다 실패하므로 기동 시 바로 알린다
+     */
+    void verifyPartitioned() {
+        if (!partitionMapper.isPartitioned()) {
+            throw new IllegalStateException("messages is not a partitioned table. Run " + MIGRATION_SCRIPT
+                    + " to convert it, or disable chatbot.message-partitions.enabled");
+        }
+    }
+
+    private void maintainSafely() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("Message partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 하나씩 별도 트랜잭션 (기본 파티션에 해당 월 행이 있어 실패해도 다른 월은 진행)
+     */
+    private void createIfMissing(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!partitionMapper.tryLock(LOCK_KEY) || partitionMapper.findPartitions().contains(name)) {
+                    return;
+                }
+                partitionMapper.createPartition(name, month.atDay(1).toString(), month.plusMonths(1).atDay(1).toString());
+                createdCounter.increment();
+                log.info("Created message partition {}", name);
+            });
+        } catch (Exception e) {
+            log.error("Failed to create message partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 내보내기 -&gt; 분리 -&gt; 삭제 (한 트랜잭션)
+     */
+    private void archive(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!partitionMapper.tryLock(LOCK_KEY) || !partitionMapper.findPartitions().contains(name)) {
+                    return;
+                }
+                Path file = export(name);
+                partitionMapper.detachPartition(name);
+                partitionMapper.dropTable(name);
+                archivedCounter.increment();
+                log.info("Archived message partition {} to {}", name, file);
+            });
+        } catch (Exception e) {
+            log.error("Failed to archive message partition {}: {}", name, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 전체를 메시지 한 줄씩 gzip 파일로 기록 (임시 파일에 쓴 뒤 교체)
+     */
+    private Path export(String name) {
+        Path directory = properties.getArchiveDir();
+        Path target = directory.resolve(name + ARCHIVE_SUFFIX);
+        Path temp = directory.resolve(name + ARCHIVE_SUFFIX + ".tmp");
+        long count = 0;
+        try {
+            Files.createDirectories(directory);
+            try (Cursor<Message> cursor = partitionMapper.streamPartition(name);
+                 JsonGenerator generator = writer.createGenerator(
+                         new GZIPOutputStream(Files.newOutputStream(temp), ARCHIVE_BUFFER_SIZE))) {
+                generator.setRootValueSeparator(null);
+                for (Message message : cursor) {
+                    writer.writeValue(generator, message);
+                    generator.writeRaw('\n');
+                    count++;
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export " + name, e);
+        }
+        log.debug("Exported {} messages from {}", count, name);
+        return target;
+    }
+}
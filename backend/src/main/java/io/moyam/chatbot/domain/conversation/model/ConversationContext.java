@@ -1,5 +1,6 @@
 package io.moyam.chatbot.domain.conversation.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.util.Map;
 public class ConversationContext {
     private Long scenarioId;
     private Long currentStepId;
+    private Long scenarioVersion;                // 대화가 고정된 시나리오 그래프 버전
     private Map<String, Object> variables;  // 대화 중 수집된 정보
     private Map<String, Object> systemVariables; // 시스템 변수 추가
     private LocalDateTime lastInteraction;
@@ -22,4 +24,7 @@ public class ConversationContext {
     private String userType;                      // 사용자 타입 (basic/premium)
     private Map<String, Object> sessionData;     // 세션별 데이터
     private List<String> visitedSteps;           // 방문한 단계 기록
+
+    @JsonIgnore
+    private Long contextVersion;                 // 공유 저장소(jdbc)에서 읽은 시점의 conversations.context_version
 }
\ No newline at end of file
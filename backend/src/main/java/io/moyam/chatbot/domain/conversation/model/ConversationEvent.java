@@ -0,0 +1,34 @@
+package io.moyam.chatbot.domain.conversation.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 대화 상태 변경 이벤트 (conversation_events, 세션별 seq 순으로 추가만 함)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConversationEvent {
+    private String sessionId;
+    private Long seq;                             // 세션 내 순번 (1부터, 중복 시 저장 거부)
+    private EventType eventType;
+    private Map<String, Object> payload;
+    private LocalDateTime occurredAt;             // 컨텍스트의 lastInteraction
+
+    public enum EventType {
+        CONTEXT_STARTED,    // 컨텍스트 전체 (새 대화 또는 증분으로 표현할 수 없는 변경)
+        STEP_ENTERED,       // 시나리오/단계 이동과 방문 기록 추가분
+        CHOICE_MADE,        // 선택지 응답 (lastChoice, lastChoiceLabel)
+        VARIABLE_SET,       // 변수 하나 변경/삭제
+        RESET               // 컨텍스트 비움
+    }
+}
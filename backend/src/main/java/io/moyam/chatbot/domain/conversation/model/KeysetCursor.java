@@ -0,0 +1,48 @@
+package io.moyam.chatbot.domain.conversation.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * keyset 페이지 위치 (정렬 키 시각 + id)
+ * 클라이언트에는 base64url 문자열로만 노출하여 형식에 의존하지 않도록 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 null = 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
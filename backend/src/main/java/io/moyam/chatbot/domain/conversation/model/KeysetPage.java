@@ -0,0 +1,16 @@
+package io.moyam.chatbot.domain.conversation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 결과
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private List<T> items;
+    private String nextCursor;                    // 마지막 페이지면 null
+}
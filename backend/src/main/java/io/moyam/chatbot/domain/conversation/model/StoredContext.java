@@ -0,0 +1,16 @@
+package io.moyam.chatbot.domain.conversation.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * conversations 행의 컨텍스트와 낙관적 잠금 버전
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class StoredContext {
+    private ConversationContext context;          // 비어 있으면({}) null
+    private long version;                         // conversations.context_version
+}
@@ -0,0 +1,29 @@
+package io.moyam.chatbot.domain.conversation.repository;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ConversationEventMapper {
+
+    /**
+     * 이벤트 일괄 추가 (같은 세션/순번이 이미 있으면 DuplicateKeyException)
+     */
+    int insertBatch(@Param("events") List<ConversationEvent> events);
+
+    /**
+     * 스냅샷 이후 이벤트 (seq 순)
+     */
+    List<ConversationEvent> findAfter(@Param("sessionId") String sessionId, @Param("afterSeq") long afterSeq);
+
+    /**
+     * 다음 순번으로 RESET 추가 (대화 행이 없으면 0건)
+     */
+    int appendReset(@Param("sessionId") String sessionId);
+
+    long countSessionsSince(@Param("since") LocalDateTime since);
+}
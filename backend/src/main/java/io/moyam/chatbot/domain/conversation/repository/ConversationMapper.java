@@ -1,9 +1,13 @@
 package io.moyam.chatbot.domain.conversation.repository;
 
 import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,46 @@ public interface ConversationMapper {
     Optional<Conversation> findById(@Param("id") Long id);
     Optional<Conversation> findBySessionId(@Param("sessionId") String sessionId);
     List<Conversation> findByBotId(@Param("botId") Long botId);
+
+    /**
+     * (last_message_at, id) 최신순 keyset 페이지 (before 가 null 이면 가장 최근부터)
+     */
+    List<Conversation> findPageByBotId(@Param("botId") Long botId,
+                                       @Param("beforeLastMessageAt") LocalDateTime beforeLastMessageAt,
+                                       @Param("beforeId") Long beforeId,
+                                       @Param("limit") int limit);
+
+    /**
+     * 봇의 전체 대화 스트리밍 (트랜잭션 안에서 소비)
+     */
+    Cursor<Conversation> streamByBotId(@Param("botId") Long botId);
     void update(Conversation conversation);
+    int updateContext(@Param("id") Long id,
+                      @Param("context") ConversationContext context,
+                      @Param("status") Conversation.ConversationStatus status,
+                      @Param("lastMessageAt") LocalDateTime lastMessageAt);
     void deleteById(@Param("id") Long id);
+
+    // --- 공유 컨텍스트 저장소 (context_version 낙관적 잠금)
+    Optional<StoredContext> findStoredContext(@Param("sessionId") String sessionId);
+    int insertStoredContext(@Param("botId") Long botId,
+                            @Param("sessionId") String sessionId,
+                            @Param("context") ConversationContext context,
+                            @Param("lastMessageAt") LocalDateTime lastMessageAt);
+    int updateStoredContext(@Param("sessionId") String sessionId,
+                            @Param("context") ConversationContext context,
+                            @Param("expectedVersion") long expectedVersion,
+                            @Param("lastMessageAt") LocalDateTime lastMessageAt);
+    int clearStoredContext(@Param("sessionId") String sessionId);
+    long countStoredContextsSince(@Param("since") LocalDateTime since);
+
+    // --- 이벤트 로그 저장소 (context_version = 스냅샷에 반영된 마지막 이벤트 순번)
+    int insertEmptyStoredContext(@Param("botId") Long botId,
+                                 @Param("sessionId") String sessionId,
+                                 @Param("context") ConversationContext context,
+                                 @Param("lastMessageAt") LocalDateTime lastMessageAt);
+    int updateContextSnapshot(@Param("sessionId") String sessionId,
+                              @Param("context") ConversationContext context,
+                              @Param("seq") long seq,
+                              @Param("lastMessageAt") LocalDateTime lastMessageAt);
 }
@@ -3,12 +3,32 @@ package io.moyam.chatbot.domain.conversation.repository;
 import io.moyam.chatbot.domain.conversation.model.Message;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface MessageMapper {
     void insert(Message message);
+    void insertBatch(@Param("messages") List<Message> messages);
     List<Message> findByConversationId(@Param("conversationId") Long conversationId);
-    void deleteById(@Param("id") Long id);
+
+    /**
+     * (created_at, id) 순 keyset 페이지 (after 가 null 이면 처음부터)
+     */
+    List<Message> findPageByConversationId(@Param("conversationId") Long conversationId,
+                                           @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                           @Param("afterId") Long afterId,
+                                           @Param("limit") int limit);
+
+    /**
+     * 전체 메시지 스트리밍 (트랜잭션 안에서 소비)
+     */
+    Cursor<Message> streamByConversationId(@Param("conversationId") Long conversationId);
+
+    /**
+     * 메시지 삭제 (created_at 으로 해당 월 파티션만 조회)
+     */
+    void deleteById(@Param("id") Long id, @Param("createdAt") LocalDateTime createdAt);
 }
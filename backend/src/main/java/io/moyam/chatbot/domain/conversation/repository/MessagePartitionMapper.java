@@ -0,0 +1,38 @@
+package io.moyam.chatbot.domain.conversation.repository;
+
+import io.moyam.chatbot.domain.conversation.model.Message;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
+
+/**
+ * messages 파티션 DDL (테이블 이름은 MessagePartitionManager 가 만든 값만 사용)
+ */
+@Mapper
+public interface MessagePartitionMapper {
+
+    /**
+     * 트랜잭션 단위 잠금 (여러 인스턴스 중 하나만 관리 작업 수행)
+     */
+    boolean tryLock(@Param("key") long key);
+
+    /**
+     * 현재 스키마의 messages 가 파티션 테이블인지
+     */
+    boolean isPartitioned();
+
+    /**
+     * 현재 스키마의 messages 에 붙어 있는 파티션 이름 (기본 파티션 포함)
+     */
+    List<String> findPartitions();
+
+    void createPartition(@Param("name") String name, @Param("from") String from, @Param("to") String to);
+
+    Cursor<Message> streamPartition(@Param("name") String name);
+
+    void detachPartition(@Param("name") String name);
+
+    void dropTable(@Param("name") String name);
+}
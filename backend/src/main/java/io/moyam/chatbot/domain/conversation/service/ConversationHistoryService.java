@@ -0,0 +1,115 @@
+package io.moyam.chatbot.domain.conversation.service;
+
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.KeysetCursor;
+import io.moyam.chatbot.domain.conversation.model.KeysetPage;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.repository.MessageMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 대화 이력 조회
+ *
+ * <p>페이지 조회는 OFFSET 대신 마지막 행의 정렬 키 이후부터 읽는 keyset 방식이라 깊은 페이지도 같은 비용이다.
+ * 내보내기는 MyBatis Cursor 로 한 행씩 넘겨 결과 전체를 메모리에 올리지 않는다.
+ * PostgreSQL 드라이버는 autocommit 이 꺼진 상태에서만 fetchSize 단위로 읽으므로 트랜잭션 안에서 소비해야 한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final ConversationMapper conversationMapper;
+    private final MessageMapper messageMapper;
+
+    /**
+     * 대화 메시지 페이지 (오래된 순)
+     */
+    public KeysetPage<Message> getMessages(Long conversationId, KeysetCursor after, int size) {
+        int limit = clamp(size);
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<Message> rows = messageMapper.findPageByConversationId(conversationId,
+                after != null ? after.getTimestamp() : null,
+                after != null ? after.getId() : null,
+                limit + 1);
+        return toPage(rows, limit, Message::getCreatedAt, Message::getId);
+    }
+
+    /**
+     * 봇의 대화 페이지 (최근 메시지 순)
+     */
+    public KeysetPage<Conversation> getConversations(Long botId, KeysetCursor before, int size) {
+        int limit = clamp(size);
+        List<Conversation> rows = conversationMapper.findPageByBotId(botId,
+                before != null ? before.getTimestamp() : null,
+                before != null ? before.getId() : null,
+                limit + 1);
+        return toPage(rows, limit, Conversation::getLastMessageAt, Conversation::getId);
+    }
+
+    /**
+     * 대화 메시지 전체를 순서대로 전달
+     *
+     * @return 전달한 건수
+     */
+    public long exportMessages(Long conversationId, Consumer<Message> consumer) {
+        try (Cursor<Message> cursor = messageMapper.streamByConversationId(conversationId)) {
+            return drain(cursor, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 봇의 대화 전체를 최근 순으로 전달
+     *
+     * @return 전달한 건수
+     */
+    public long exportConversations(Long botId, Consumer<Conversation> consumer) {
+        try (Cursor<Conversation> cursor = conversationMapper.streamByBotId(botId)) {
+            return drain(cursor, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> long drain(Cursor<T> cursor, Consumer<T> consumer) {
+        long count = 0;
+        for (T item : cursor) {
+            consumer.accept(item);
+            count++;
+        }
+        return count;
+    }
+
+    private static <T> KeysetPage<T> toPage(List<T> rows, int limit,
+                                            Function<T, LocalDateTime> timestamp, Function<T, Long> id) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        return new KeysetPage<>(items, new KeysetCursor(timestamp.apply(last), id.apply(last)).encode());
+    }
+
+    private static int clamp(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,268 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + 유휴 TTL 메모리 컨텍스트 저장소
+ * 용량 초과 또는 유휴 시간 만료로 밀려난 컨텍스트는 conversations 테이블에 PAUSED 상태로 저장한다.
+ *
+ * <p>hit/miss/eviction 통계는 Micrometer 의 cache.* 지표(cache=conversationContexts)로 노출된다.</p>
+ *
+ * <p>스냅샷 파일이 설정되면 종료 시 남은 컨텍스트를 파일로 내리고, 다음 기동 시 세션별로 처음 접근할 때 복원한다.
+ * 유휴 시간 안에 접근하지 않은 세션은 평소처럼 DB 에 PAUSED 로 저장된다.</p>
+ */
+@Slf4j
+public class CaffeineConversationContextStore implements ConversationContextStore {
+
+    static final String CACHE_NAME = "conversationContexts";
+
+    private final Cache<String, ConversationContext> contexts;
+    private final ConversationContextPersister persister;
+    private final ExecutorService flushExecutor;
+    private final Counter flushSuccess;
+    private final Counter flushFailure;
+    private final Counter restored;
+
+    private final ContextSnapshotFile snapshotFile;
+    private volatile ContextSnapshotFile.Snapshot snapshot;
+
+    public CaffeineConversationContextStore(long maximumSize,
+                                            Duration idleTimeout,
+                                            ConversationContextPersister persister,
+                                            MeterRegistry meterRegistry) {
+        this(maximumSize, idleTimeout, persister, meterRegistry, null);
+    }
+
+    /**
+     * @param snapshotFile 재시작 간 컨텍스트 보존용 파일 (null 이면 사용 안 함)
+     */
+    public CaffeineConversationContextStore(long maximumSize,
+                                            Duration idleTimeout,
+                                            ConversationContextPersister persister,
+                                            MeterRegistry meterRegistry,
+                                            ContextSnapshotFile snapshotFile) {
+        this.persister = persister;
+        this.snapshotFile = snapshotFile;
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "context-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.contexts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .scheduler(Scheduler.systemScheduler())   // 요청이 없어도 만료 처리
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, contexts, CACHE_NAME);
+        this.flushSuccess = Counter.builder("chatbot.context.flush")
+                .tag("result", "success")
+                .description("Evicted conversation contexts persisted to the database")
+                .register(meterRegistry);
+        this.flushFailure = Counter.builder("chatbot.context.flush")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.restored = Counter.builder("chatbot.context.restored")
+                .description("Conversation contexts restored from the shutdown snapshot")
+                .register(meterRegistry);
+
+        openSnapshot(idleTimeout);
+    }
+
+    @Override
+    public ConversationContext get(String sessionId) {
+        ConversationContext context = contexts.getIfPresent(sessionId);
+        if (context != null || snapshot == null) {
+            return context;
+        }
+        ConversationContext restoredContext = restore(sessionId);
+        if (restoredContext == null) {
+            return null;
+        }
+        ConversationContext existing = contexts.asMap().putIfAbsent(sessionId, restoredContext);
+        return existing != null ? existing : restoredContext;
+    }
+
+    @Override
+    public ConversationContext getOrCreate(String sessionId, Function<String, ConversationContext> factory) {
+        return contexts.get(sessionId, key -> {
+            ConversationContext restoredContext = restore(key);
+            return restoredContext != null ? restoredContext : factory.apply(key);
+        });
+    }
+
+    @Override
+    public void put(String sessionId, ConversationContext context) {
+        discardSnapshot(sessionId);
+        contexts.put(sessionId, context);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        discardSnapshot(sessionId);
+        contexts.invalidate(sessionId);
+    }
+
+    @Override
+    public long size() {
+        ContextSnapshotFile.Snapshot pending = snapshot;
+        return contexts.estimatedSize() + (pending != null ? pending.size() : 0);
+    }
+
+    /**
+     * 스냅샷에서 세션 컨텍스트 복원
+     * 그래프 버전은 재시작 후 다시 매겨지므로 고정 버전은 해제한다.
+     */
+    private ConversationContext restore(String sessionId) {
+        ContextSnapshotFile.Snapshot pending = snapshot;
+        if (pending == null) {
+            return null;
+        }
+        ConversationContext context = pending.take(sessionId);
+        if (context != null) {
+            context.setScenarioVersion(null);
+            restored.increment();
+            log.debug("Restored context for session {} from snapshot", sessionId);
+        }
+        return context;
+    }
+
+    private void discardSnapshot(String sessionId) {
+        ContextSnapshotFile.Snapshot pending = snapshot;
+        if (pending != null) {
+            pending.discard(sessionId);
+        }
+    }
+
+    /**
+     * 기동 시 스냅샷 인덱스 로딩, 유휴 시간 후 남은 세션은 DB 로 저장
+     */
+    private void openSnapshot(Duration idleTimeout) {
+        if (snapshotFile == null) {
+            return;
+        }
+        snapshot = snapshotFile.open();
+        if (snapshot == null) {
+            return;
+        }
+        log.info("Opened context snapshot {} with {} sessions", snapshotFile.getPath(), snapshot.size());
+        CompletableFuture.delayedExecutor(idleTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (!flushExecutor.isShutdown()) {
+                flushExecutor.execute(this::expireSnapshot);
+            }
+        });
+    }
+
+    /**
+     * 유휴 시간 동안 접근하지 않은 스냅샷 세션을 PAUSED 로 저장하고 파일 삭제
+     */
+    private void expireSnapshot() {
+        ContextSnapshotFile.Snapshot pending = snapshot;
+        if (pending == null) {
+            return;
+        }
+        int expired = 0;
+        for (String sessionId : pending.sessionIds()) {
+            ConversationContext context = pending.take(sessionId);
+            if (context != null) {
+                flush(sessionId, context, RemovalCause.EXPIRED);
+                expired++;
+            }
+        }
+        snapshot = null;
+        snapshotFile.delete();
+        log.info("Context snapshot expired: {} idle sessions persisted", expired);
+    }
+
+    /**
+     * 메모리 컨텍스트와 아직 복원되지 않은 세션을 스냅샷 파일로 기록
+     */
+    private void writeSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+        ContextSnapshotFile.Snapshot pending = snapshot;
+        Map<String, byte[]> payloads = pending != null ? pending.remaining() : new HashMap<>();
+        contexts.asMap().forEach((sessionId, context) -> {
+            try {
+                payloads.put(sessionId, snapshotFile.encode(context));
+            } catch (IOException e) {
+                log.warn("Failed to snapshot context for session {}: {}", sessionId, e.getMessage());
+            }
+        });
+        snapshot = null;
+
+        if (payloads.isEmpty()) {
+            snapshotFile.delete();
+            return;
+        }
+        try {
+            snapshotFile.write(payloads);
+            log.info("Wrote {} conversation contexts to snapshot {}", payloads.size(), snapshotFile.getPath());
+        } catch (IOException e) {
+            log.error("Failed to write context snapshot {}: {}", snapshotFile.getPath(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 밀려난 컨텍스트 저장 (명시적 삭제는 대상 아님)
+     * DB 저장은 전용 스레드에서 처리해 캐시 유지보수 스레드를 막지 않는다.
+     */
+    private void onRemoval(String sessionId, ConversationContext context, RemovalCause cause) {
+        if (!cause.wasEvicted() || sessionId == null || context == null) {
+            return;
+        }
+        flushExecutor.execute(() -> flush(sessionId, context, cause));
+    }
+
+    private void flush(String sessionId, ConversationContext context, RemovalCause cause) {
+        try {
+            if (persister.persist(sessionId, context, Conversation.ConversationStatus.PAUSED)) {
+                flushSuccess.increment();
+                log.debug("Flushed {} context for session {}", cause, sessionId);
+            } else {
+                flushFailure.increment();
+            }
+        } catch (Exception e) {
+            flushFailure.increment();
+            log.error("Failed to flush evicted context for session {}: {}", sessionId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 스냅샷 기록 후 대기 중인 저장 작업 마무리
+     */
+    public void shutdown() {
+        contexts.cleanUp();
+        writeSnapshot();
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Context flush executor did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent;
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent.EventType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 컨텍스트 변경 &lt;-&gt; 이벤트 변환
+ *
+ * <p>저장 시에는 마지막으로 저장(또는 읽은) 상태와 비교해 바뀐 부분만 이벤트로 만들고,
+ * 읽을 때는 스냅샷에 이후 이벤트를 순서대로 적용해 컨텍스트를 다시 만든다.
+ * 방문 기록이 줄었거나 변수 맵이 통째로 생기고 사라지는 등 증분으로 표현할 수 없으면 CONTEXT_STARTED 로 전체를 기록한다.</p>
+ */
+@Slf4j
+class ContextEvents {
+
+    static final String LAST_CHOICE = "lastChoice";
+    static final String LAST_CHOICE_LABEL = "lastChoiceLabel";
+
+    private static final String SCOPE_VARIABLES = "variables";
+    private static final String SCOPE_SYSTEM = "systemVariables";
+    private static final String SCOPE_SESSION = "sessionData";
+    private static final String SCOPE_PROFILE = "profile";
+
+    private static final Set<String> CHOICE_KEYS = Set.of(LAST_CHOICE, LAST_CHOICE_LABEL);
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    ContextEvents(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 저장의 비교 기준으로 쓸 깊은 복사본
+     */
+    ConversationContext copy(ConversationContext context) {
+        return objectMapper.convertValue(context, ConversationContext.class);
+    }
+
+    /**
+     * before -&gt; after 변경 이벤트 (순번/세션은 호출 측이 채움)
+     *
+     * @param before 마지막으로 저장된 상태 (모르면 null = 전체 기록)
+     */
+    List<ConversationEvent> diff(ConversationContext before, ConversationContext after) {
+        if (before == null || !sameShape(before, after)) {
+            return List.of(started(after));
+        }
+        List<String> visited = appendedSteps(before.getVisitedSteps(), after.getVisitedSteps());
+        if (visited == null) {
+            return List.of(started(after));
+        }
+
+        List<ConversationEvent> events = new ArrayList<>();
+        if (!Objects.equals(before.getScenarioId(), after.getScenarioId())
+                || !Objects.equals(before.getCurrentStepId(), after.getCurrentStepId())
+                || !visited.isEmpty()) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("scenarioId", after.getScenarioId());
+            payload.put("stepId", after.getCurrentStepId());
+            payload.put("visited", visited);
+            events.add(event(EventType.STEP_ENTERED, payload));
+        }
+
+        Map<String, Object> beforeVariables = before.getVariables();
+        Map<String, Object> afterVariables = after.getVariables();
+        if (afterVariables != null
+                && (changed(beforeVariables, afterVariables, LAST_CHOICE) || changed(beforeVariables, afterVariables, LAST_CHOICE_LABEL))) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("stepId", before.getCurrentStepId());
+            payload.put("choice", afterVariables.get(LAST_CHOICE));
+            payload.put("label", afterVariables.get(LAST_CHOICE_LABEL));
+            events.add(event(EventType.CHOICE_MADE, payload));
+        }
+
+        variableEvents(SCOPE_VARIABLES, beforeVariables, afterVariables, CHOICE_KEYS, events);
+        variableEvents(SCOPE_SYSTEM, before.getSystemVariables(), after.getSystemVariables(), Set.of(), events);
+        variableEvents(SCOPE_SESSION, before.getSessionData(), after.getSessionData(), Set.of(), events);
+        if (!Objects.equals(before.getUserName(), after.getUserName())) {
+            events.add(variableSet(SCOPE_PROFILE, "userName", after.getUserName()));
+        }
+        if (!Objects.equals(before.getUserType(), after.getUserType())) {
+            events.add(variableSet(SCOPE_PROFILE, "userType", after.getUserType()));
+        }
+        return events;
+    }
+
+    /**
+     * 스냅샷에 이벤트를 순서대로 적용 (RESET 이후 새 컨텍스트가 없으면 null)
+     * lastInteraction 은 마지막 이벤트 시각으로 맞춘다.
+     */
+    ConversationContext replay(ConversationContext snapshot, List<ConversationEvent> events) {
+        ConversationContext context = snapshot;
+        for (ConversationEvent event : events) {
+            context = apply(context, event);
+        }
+        if (context != null && !events.isEmpty()) {
+            context.setLastInteraction(events.get(events.size() - 1).getOccurredAt());
+        }
+        return context;
+    }
+
+    private ConversationContext apply(ConversationContext context, ConversationEvent event) {
+        Map<String, Object> payload = event.getPayload() != null ? event.getPayload() : Map.of();
+        if (event.getEventType() == EventType.CONTEXT_STARTED) {
+            return objectMapper.convertValue(payload, ConversationContext.class);
+        }
+        if (event.getEventType() == EventType.RESET) {
+            return null;
+        }
+        if (context == null) {
+            log.warn("Skipping {} event {} for session {}: no context to apply to",
+                    event.getEventType(), event.getSeq(), event.getSessionId());
+            return null;
+        }
+
+        switch (event.getEventType()) {
+            case STEP_ENTERED -> {
+                context.setScenarioId(toLong(payload.get("scenarioId")));
+                context.setCurrentStepId(toLong(payload.get("stepId")));
+                if (payload.get("visited") instanceof List<?> visited && !visited.isEmpty()) {
+                    if (context.getVisitedSteps() == null) {
+                        context.setVisitedSteps(new ArrayList<>());
+                    }
+                    visited.forEach(stepId -> context.getVisitedSteps().add(String.valueOf(stepId)));
+                }
+            }
+            case CHOICE_MADE -> {
+                if (context.getVariables() == null) {
+                    context.setVariables(new HashMap<>());
+                }
+                context.getVariables().put(LAST_CHOICE, payload.get("choice"));
+                context.getVariables().put(LAST_CHOICE_LABEL, payload.get("label"));
+            }
+            case VARIABLE_SET -> applyVariable(context, payload);
+            default -> {
+            }
+        }
+        return context;
+    }
+
+    private void applyVariable(ConversationContext context, Map<String, Object> payload) {
+        String scope = String.valueOf(payload.get("scope"));
+        String name = String.valueOf(payload.get("name"));
+        boolean removed = Boolean.TRUE.equals(payload.get("removed"));
+        Object value = payload.get("value");
+
+        if (SCOPE_PROFILE.equals(scope)) {
+            String text = value != null ? String.valueOf(value) : null;
+            if ("userName".equals(name)) {
+                context.setUserName(text);
+            } else if ("userType".equals(name)) {
+                context.setUserType(text);
+            }
+            return;
+        }
+
+        Map<String, Object> target = switch (scope) {
+            case SCOPE_VARIABLES -> {
+                if (context.getVariables() == null) {
+                    context.setVariables(new HashMap<>());
+                }
+                yield context.getVariables();
+            }
+            case SCOPE_SYSTEM -> {
+                if (context.getSystemVariables() == null) {
+                    context.setSystemVariables(new HashMap<>());
+                }
+                yield context.getSystemVariables();
+            }
+            case SCOPE_SESSION -> {
+                if (context.getSessionData() == null) {
+                    context.setSessionData(new HashMap<>());
+                }
+                yield context.getSessionData();
+            }
+            default -> null;
+        };
+        if (target == null) {
+            log.warn("Ignoring variable event with unknown scope {}", scope);
+        } else if (removed) {
+            target.remove(name);
+        } else {
+            target.put(name, value);
+        }
+    }
+
+    private ConversationEvent started(ConversationContext context) {
+        return event(EventType.CONTEXT_STARTED, objectMapper.convertValue(context, MAP_TYPE));
+    }
+
+    private static void variableEvents(String scope, Map<String, Object> before, Map<String, Object> after,
+                                       Set<String> skip, List<ConversationEvent> events) {
+        if (after == null) {
+            return;
+        }
+        after.forEach((name, value) -> {
+            if (!skip.contains(name) && changed(before, after, name)) {
+                events.add(variableSet(scope, name, value));
+            }
+        });
+        if (before != null) {
+            before.keySet().forEach(name -> {
+                if (!skip.contains(name) && !after.containsKey(name)) {
+                    Map<String, Object> payload = new LinkedHashMap<>();
+                    payload.put("scope", scope);
+                    payload.put("name", name);
+                    payload.put("removed", true);
+                    events.add(event(EventType.VARIABLE_SET, payload));
+                }
+            });
+        }
+    }
+
+    private static ConversationEvent variableSet(String scope, String name, Object value) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("scope", scope);
+        payload.put("name", name);
+        payload.put("value", value);
+        return event(EventType.VARIABLE_SET, payload);
+    }
+
+    private static boolean changed(Map<String, Object> before, Map<String, Object> after, String name) {
+        if (before == null) {
+            return after.containsKey(name);
+        }
+        return before.containsKey(name) != after.containsKey(name) || !Objects.equals(before.get(name), after.get(name));
+    }
+
+    /**
+     * 변수 맵은 이벤트가 없어도 생성/삭제 여부가 복원되어야 하므로 null 여부가 바뀌면 전체 기록
+     */
+    private static boolean sameShape(ConversationContext before, ConversationContext after) {
+        return (before.getVariables() == null) == (after.getVariables() == null)
+                && (before.getSystemVariables() == null) == (after.getSystemVariables() == null)
+                && (before.getSessionData() == null) == (after.getSessionData() == null);
+    }
+
+    /**
+     * 방문 기록 추가분 (뒤에 덧붙인 경우만 증분, 아니면 null)
+     */
+    private static List<String> appendedSteps(List<String> before, List<String> after) {
+        if (after == null) {
+            return before == null ? List.of() : null;
+        }
+        if (before == null) {
+            return after.isEmpty() ? null : new ArrayList<>(after);
+        }
+        if (after.size() < before.size() || !after.subList(0, before.size()).equals(before)) {
+            return null;
+        }
+        return new ArrayList<>(after.subList(before.size(), after.size()));
+    }
+
+    private static ConversationEvent event(EventType type, Map<String, Object> payload) {
+        return ConversationEvent.builder()
+                .eventType(type)
+                .payload(payload)
+                .build();
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,176 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대화 컨텍스트 스냅샷 파일
+ * 종료 시 메모리의 컨텍스트를 로컬 파일로 내리고, 기동 시 파일을 메모리 매핑하여 세션 인덱스만 읽는다.
+ *
+ * <pre>
+ * [magic:int][format:int][count:int]
+ * count x [sessionIdLength:int][sessionId:UTF-8][payloadLength:int][payload:ConversationContext JSON]
+ * </pre>
+ */
+@Slf4j
+public class ContextSnapshotFile {
+
+    static final int MAGIC = 0x43545853;   // "CTXS"
+    static final int FORMAT = 1;
+
+    private final Path path;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public ContextSnapshotFile(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.reader = objectMapper.readerFor(ConversationContext.class);
+        this.writer = objectMapper.writerFor(ConversationContext.class);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    byte[] encode(ConversationContext context) throws IOException {
+        return writer.writeValueAsBytes(context);
+    }
+
+    /**
+     * 스냅샷 기록 (임시 파일에 쓴 뒤 교체)
+     *
+     * @param payloads 세션 ID -> encode 결과
+     */
+    void write(Map<String, byte[]> payloads) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeInt(payloads.size());
+            for (Map.Entry<String, byte[]> entry : payloads.entrySet()) {
+                byte[] sessionId = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(sessionId.length);
+                out.write(sessionId);
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 열기 (파일이 없거나 형식이 다르면 null)
+     * 컨텍스트 본문은 읽지 않고 세션별 위치만 인덱싱한다.
+     */
+    Snapshot open() {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                log.warn("Ignoring context snapshot {} with unknown format", path);
+                return null;
+            }
+            int count = buffer.getInt();
+            Map<String, Long> index = new ConcurrentHashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] sessionId = new byte[buffer.getInt()];
+                buffer.get(sessionId);
+                int length = buffer.getInt();
+                index.put(new String(sessionId, StandardCharsets.UTF_8), ((long) buffer.position() << 32) | length);
+                buffer.position(buffer.position() + length);
+            }
+            return new Snapshot(buffer, index);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable context snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete context snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 복원되지 않은 컨텍스트 (세션 ID -> 파일 내 위치)
+     */
+    final class Snapshot {
+
+        private final MappedByteBuffer buffer;
+        private final Map<String, Long> index;
+
+        private Snapshot(MappedByteBuffer buffer, Map<String, Long> index) {
+            this.buffer = buffer;
+            this.index = index;
+        }
+
+        /**
+         * 세션 컨텍스트 꺼내기 (한 번만 복원됨, 없으면 null)
+         */
+        ConversationContext take(String sessionId) {
+            Long position = index.remove(sessionId);
+            if (position == null) {
+                return null;
+            }
+            try {
+                return reader.readValue(payload(position));
+            } catch (IOException e) {
+                log.warn("Failed to restore context for session {}: {}", sessionId, e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * 복원하지 않고 버림 (세션 삭제/덮어쓰기)
+         */
+        void discard(String sessionId) {
+            index.remove(sessionId);
+        }
+
+        /**
+         * 남은 항목 원본 (다음 스냅샷에 그대로 옮김)
+         */
+        Map<String, byte[]> remaining() {
+            Map<String, byte[]> payloads = new ConcurrentHashMap<>(index.size() * 2);
+            index.forEach((sessionId, position) -> payloads.put(sessionId, payload(position)));
+            return payloads;
+        }
+
+        Iterable<String> sessionIds() {
+            return index.keySet();
+        }
+
+        int size() {
+            return index.size();
+        }
+
+        private byte[] payload(long position) {
+            byte[] payload = new byte[(int) position];
+            buffer.get((int) (position >>> 32), payload);
+            return payload;
+        }
+    }
+}
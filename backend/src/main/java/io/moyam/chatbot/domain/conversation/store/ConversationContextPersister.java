@@ -0,0 +1,80 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대화 컨텍스트를 conversations.context_data(JSONB) 로 저장
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConversationContextPersister {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ConversationMapper conversationMapper;
+    private final ScenarioMapper scenarioMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 컨텍스트 저장 (세션의 대화가 없으면 새로 생성)
+     *
+     * @return 저장 여부
+     */
+    public boolean persist(String sessionId, ConversationContext context, Conversation.ConversationStatus status) {
+        LocalDateTime lastMessageAt = context.getLastInteraction() != null
+                ? context.getLastInteraction() : LocalDateTime.now();
+
+        Optional<Conversation> existing = conversationMapper.findBySessionId(sessionId);
+        if (existing.isPresent()) {
+            // 컨텍스트는 ConversationContextTypeHandler 가 Map 변환 없이 바로 직렬화
+            conversationMapper.updateContext(existing.get().getId(), context, status, lastMessageAt);
+            return true;
+        }
+
+        Long botId = findBotId(context.getScenarioId());
+        if (botId == null) {
+            log.warn("Cannot persist context for session {}: no bot for scenario {}", sessionId, context.getScenarioId());
+            return false;
+        }
+
+        conversationMapper.insert(Conversation.builder()
+                .botId(botId)
+                .currentScenarioId(context.getScenarioId())
+                .currentStepId(context.getCurrentStepId())
+                .contextData(toContextData(context))
+                .status(status)
+                .sessionId(sessionId)
+                .lastMessageAt(lastMessageAt)
+                .build());
+        return true;
+    }
+
+    public Map<String, Object> toContextData(ConversationContext context) {
+        return objectMapper.convertValue(context, MAP_TYPE);
+    }
+
+    public ConversationContext fromContextData(Map<String, Object> contextData) {
+        return objectMapper.convertValue(contextData, ConversationContext.class);
+    }
+
+    private Long findBotId(Long scenarioId) {
+        if (scenarioId == null) {
+            return null;
+        }
+        return scenarioMapper.findById(scenarioId).map(Scenario::getBotId).orElse(null);
+    }
+}
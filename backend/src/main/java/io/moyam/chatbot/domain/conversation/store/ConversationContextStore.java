@@ -0,0 +1,41 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+
+import java.util.function.Function;
+
+/**
+ * 세션별 대화 컨텍스트 저장소
+ * 구현체는 chatbot.context-store.type 설정으로 선택한다.
+ */
+public interface ConversationContextStore {
+
+    /**
+     * 컨텍스트 조회 (없으면 null)
+     */
+    ConversationContext get(String sessionId);
+
+    /**
+     * 컨텍스트 조회, 없으면 factory 로 생성하여 저장
+     */
+    ConversationContext getOrCreate(String sessionId, Function<String, ConversationContext> factory);
+
+    void put(String sessionId, ConversationContext context);
+
+    /**
+     * 컨텍스트 삭제 (대화 종료/초기화, 영속화하지 않음)
+     */
+    void remove(String sessionId);
+
+    /**
+     * 현재 보관 중인 컨텍스트 수 (근사값)
+     */
+    long size();
+
+    /**
+     * DB 에 기록하는 저장소인지 (true 면 턴마다 읽기/쓰기 트랜잭션 안에서 읽고 저장)
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+}
@@ -0,0 +1,245 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent;
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationEventMapper;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 이벤트 로그 기반 공유 컨텍스트 저장소
+ *
+ * <p>턴마다 컨텍스트 JSONB 전체를 다시 쓰는 대신 바뀐 부분(단계 이동, 선택, 변수 변경)만
+ * conversation_events 에 추가한다. conversations.context_data 는 snapshotInterval 개 이벤트마다 갱신하는
+ * 스냅샷이며 context_version 은 스냅샷에 반영된 마지막 순번이다. 읽기는 스냅샷 + 이후 이벤트 재적용이다.</p>
+ *
+ * <p>동시성은 jdbc 저장소와 같다. 읽은 순번 다음 번호로만 추가하므로 다른 노드가 먼저 추가했으면
+ * {@link OptimisticLockingFailureException} 을 던지고 호출 측이 다시 읽어 반복한다.</p>
+ *
+ * <p>conversations.last_message_at 은 스냅샷 때만 갱신되므로 활성 세션 수는 이벤트 시각으로 집계한다.</p>
+ *
+ * <p>실패를 삼키는 쓰기(스냅샷, RESET 재시도)는 NESTED 트랜잭션으로 감싼다. 턴 트랜잭션 안이면 저장점이라
+ * 실패해도 그 문장만 되돌리고 턴의 이벤트는 그대로 커밋되며, 트랜잭션 밖이면 시도마다 따로 커밋된다.</p>
+ */
+@Slf4j
+public class EventLogConversationContextStore implements ConversationContextStore {
+
+    private static final int MAX_RESET_ATTEMPTS = 3;
+
+    private final ConversationMapper conversationMapper;
+    private final ConversationEventMapper eventMapper;
+    private final ScenarioMapper scenarioMapper;
+    private final ContextEvents contextEvents;
+    private final int snapshotInterval;
+    private final Duration idleTimeout;
+    private final TransactionOperations savepoints;
+
+    /**
+     * 세션별 마지막으로 읽거나 저장한 상태 (다음 저장 시 비교 기준, 없으면 전체 기록)
+     */
+    private final Cache<String, Baseline> baselines;
+
+    private final Counter conflicts;
+    private final Counter appended;
+    private final Counter snapshots;
+
+    public EventLogConversationContextStore(ConversationMapper conversationMapper,
+                                            ConversationEventMapper eventMapper,
+                                            ScenarioMapper scenarioMapper,
+                                            ObjectMapper objectMapper,
+                                            int snapshotInterval,
+                                            long maximumSize,
+                                            Duration idleTimeout,
+                                            TransactionOperations savepoints,
+                                            MeterRegistry meterRegistry) {
+        this.conversationMapper = conversationMapper;
+        this.eventMapper = eventMapper;
+        this.scenarioMapper = scenarioMapper;
+        this.contextEvents = new ContextEvents(objectMapper);
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.idleTimeout = idleTimeout;
+        this.savepoints = savepoints;
+        this.baselines = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.conflicts = Counter.builder("chatbot.context.conflicts")
+                .description("Context writes rejected because another node updated the session first")
+                .register(meterRegistry);
+        this.appended = Counter.builder("chatbot.context.events")
+                .description("Conversation events appended")
+                .register(meterRegistry);
+        this.snapshots = Counter.builder("chatbot.context.snapshots")
+                .description("Context snapshots written to conversations.context_data")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ConversationContext get(String sessionId) {
+        return load(sessionId).context();
+    }
+
+    @Override
+    public ConversationContext getOrCreate(String sessionId, Function<String, ConversationContext> factory) {
+        Loaded loaded = load(sessionId);
+        if (loaded.context() != null) {
+            return loaded.context();
+        }
+
+        ConversationContext context = factory.apply(sessionId);
+        context.setContextVersion(loaded.seq());
+        put(sessionId, context);
+        return context;
+    }
+
+    /**
+     * 읽은 순번 다음으로 변경 이벤트 추가 (성공 시 컨텍스트의 버전 = 마지막 순번)
+     *
+     * @throws OptimisticLockingFailureException 다른 노드가 먼저 추가한 경우
+     */
+    @Override
+    public void put(String sessionId, ConversationContext context) {
+        LocalDateTime occurredAt = context.getLastInteraction() != null
+                ? context.getLastInteraction() : LocalDateTime.now();
+        long expectedSeq = context.getContextVersion() != null ? context.getContextVersion() : 0L;
+
+        if (expectedSeq == 0 && !ensureConversation(sessionId, context, occurredAt)) {
+            return;
+        }
+
+        Baseline baseline = baselines.getIfPresent(sessionId);
+        List<ConversationEvent> events = contextEvents.diff(
+                baseline != null && baseline.seq() == expectedSeq ? baseline.context() : null, context);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        long seq = expectedSeq;
+        for (ConversationEvent event : events) {
+            event.setSessionId(sessionId);
+            event.setSeq(++seq);
+            event.setOccurredAt(occurredAt);
+        }
+        try {
+            eventMapper.insertBatch(events);
+        } catch (DuplicateKeyException e) {
+            baselines.invalidate(sessionId);
+            throw conflict(sessionId);
+        }
+        appended.increment(events.size());
+
+        context.setContextVersion(seq);
+        baselines.put(sessionId, new Baseline(seq, contextEvents.copy(context)));
+
+        if (seq / snapshotInterval > expectedSeq / snapshotInterval) {
+            snapshot(sessionId, context, seq, occurredAt);
+        }
+    }
+
+    /**
+     * 컨텍스트 비우기 (RESET 이벤트 추가, 이전에 읽은 컨텍스트는 더 이상 저장되지 않음)
+     */
+    @Override
+    public void remove(String sessionId) {
+        baselines.invalidate(sessionId);
+        for (int attempt = 1; attempt <= MAX_RESET_ATTEMPTS; attempt++) {
+            try {
+                savepoints.executeWithoutResult(status -> eventMapper.appendReset(sessionId));
+                return;
+            } catch (DuplicateKeyException e) {
+                log.debug("Reset for session {} raced with another write (attempt {})", sessionId, attempt);
+            }
+        }
+        log.warn("Failed to reset context for session {} after {} attempts", sessionId, MAX_RESET_ATTEMPTS);
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    /**
+     * 유휴 시간 안에 이벤트가 있었던 세션 수
+     */
+    @Override
+    public long size() {
+        return eventMapper.countSessionsSince(LocalDateTime.now().minus(idleTimeout));
+    }
+
+    private Loaded load(String sessionId) {
+        StoredContext stored = conversationMapper.findStoredContext(sessionId).orElse(null);
+        long snapshotSeq = stored != null ? stored.getVersion() : 0L;
+        List<ConversationEvent> tail = eventMapper.findAfter(sessionId, snapshotSeq);
+
+        ConversationContext context = contextEvents.replay(stored != null ? stored.getContext() : null, tail);
+        long seq = tail.isEmpty() ? snapshotSeq : tail.get(tail.size() - 1).getSeq();
+        if (context != null) {
+            context.setContextVersion(seq);
+            context.setScenarioVersion(null);   // 그래프 버전은 인스턴스마다 다름
+            baselines.put(sessionId, new Baseline(seq, contextEvents.copy(context)));
+        }
+        return new Loaded(context, seq);
+    }
+
+    /**
+     * 첫 저장 전 대화 행 생성 (이미 있으면 그대로)
+     */
+    private boolean ensureConversation(String sessionId, ConversationContext context, LocalDateTime lastMessageAt) {
+        Long botId = findBotId(context.getScenarioId());
+        if (botId == null) {
+            log.warn("Cannot store context for session {}: no bot for scenario {}", sessionId, context.getScenarioId());
+            return false;
+        }
+        conversationMapper.insertEmptyStoredContext(botId, sessionId, context, lastMessageAt);
+        return true;
+    }
+
+    /**
+     * 스냅샷 갱신 (실패해도 저장점까지만 되돌리고 이벤트는 유지, 다음 주기에 다시 시도)
+     */
+    private void snapshot(String sessionId, ConversationContext context, long seq, LocalDateTime lastMessageAt) {
+        try {
+            Integer updated = savepoints.execute(
+                    status -> conversationMapper.updateContextSnapshot(sessionId, context, seq, lastMessageAt));
+            if (updated != null && updated > 0) {
+                snapshots.increment();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to snapshot context for session {} at seq {}: {}", sessionId, seq, e.getMessage());
+        }
+    }
+
+    private OptimisticLockingFailureException conflict(String sessionId) {
+        conflicts.increment();
+        return new OptimisticLockingFailureException("Context for session " + sessionId + " was updated concurrently");
+    }
+
+    private Long findBotId(Long scenarioId) {
+        if (scenarioId == null) {
+            return null;
+        }
+        return scenarioMapper.findById(scenarioId).map(Scenario::getBotId).orElse(null);
+    }
+
+    private record Baseline(long seq, ConversationContext context) {
+    }
+
+    private record Loaded(ConversationContext context, long seq) {
+    }
+}
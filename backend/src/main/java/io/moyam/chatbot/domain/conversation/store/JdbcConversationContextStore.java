@@ -0,0 +1,139 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * conversations.context_data 기반 공유 컨텍스트 저장소 (여러 인스턴스가 같은 세션을 처리할 수 있음)
+ *
+ * <p>읽을 때의 context_version 을 컨텍스트에 담아 두고, 저장은 그 버전이 그대로일 때만 반영한다.
+ * 그 사이 다른 노드가 먼저 저장했으면 {@link OptimisticLockingFailureException} 을 던지므로
+ * 호출 측은 최신 컨텍스트를 다시 읽어 처리를 반복한다.</p>
+ *
+ * <p>시나리오 그래프 버전은 인스턴스마다 따로 매겨지므로 읽은 컨텍스트의 고정 버전은 해제한다.</p>
+ */
+@Slf4j
+public class JdbcConversationContextStore implements ConversationContextStore {
+
+    private final ConversationMapper conversationMapper;
+    private final ScenarioMapper scenarioMapper;
+    private final Duration idleTimeout;
+    private final Counter conflicts;
+
+    /**
+     * @param idleTimeout 활성 세션 수 집계 기준 (마지막 메시지 이후 경과 시간)
+     */
+    public JdbcConversationContextStore(ConversationMapper conversationMapper,
+                                        ScenarioMapper scenarioMapper,
+                                        Duration idleTimeout,
+                                        MeterRegistry meterRegistry) {
+        this.conversationMapper = conversationMapper;
+        this.scenarioMapper = scenarioMapper;
+        this.idleTimeout = idleTimeout;
+        this.conflicts = Counter.builder("chatbot.context.conflicts")
+                .description("Context writes rejected because another node updated the session first")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ConversationContext get(String sessionId) {
+        StoredContext stored = conversationMapper.findStoredContext(sessionId).orElse(null);
+        return stored != null ? contextOf(stored) : null;
+    }
+
+    @Override
+    public ConversationContext getOrCreate(String sessionId, Function<String, ConversationContext> factory) {
+        StoredContext stored = conversationMapper.findStoredContext(sessionId).orElse(null);
+        if (stored != null && stored.getContext() != null) {
+            return contextOf(stored);
+        }
+
+        ConversationContext context = factory.apply(sessionId);
+        context.setContextVersion(stored != null ? stored.getVersion() : null);
+        put(sessionId, context);
+        return context;
+    }
+
+    /**
+     * 읽은 버전 기준으로 저장 (성공 시 컨텍스트의 버전 갱신)
+     *
+     * @throws OptimisticLockingFailureException 다른 노드가 먼저 저장한 경우
+     */
+    @Override
+    public void put(String sessionId, ConversationContext context) {
+        LocalDateTime lastMessageAt = context.getLastInteraction() != null
+                ? context.getLastInteraction() : LocalDateTime.now();
+        Long expectedVersion = context.getContextVersion();
+
+        if (expectedVersion == null) {
+            Long botId = findBotId(context.getScenarioId());
+            if (botId == null) {
+                log.warn("Cannot store context for session {}: no bot for scenario {}", sessionId, context.getScenarioId());
+                return;
+            }
+            if (conversationMapper.insertStoredContext(botId, sessionId, context, lastMessageAt) == 0) {
+                throw conflict(sessionId);
+            }
+            context.setContextVersion(1L);
+            return;
+        }
+
+        if (conversationMapper.updateStoredContext(sessionId, context, expectedVersion, lastMessageAt) == 0) {
+            throw conflict(sessionId);
+        }
+        context.setContextVersion(expectedVersion + 1);
+    }
+
+    /**
+     * 컨텍스트 비우기 (행과 메시지 기록은 유지, 이전에 읽은 컨텍스트는 더 이상 저장되지 않음)
+     */
+    @Override
+    public void remove(String sessionId) {
+        conversationMapper.clearStoredContext(sessionId);
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    /**
+     * 유휴 시간 안에 메시지가 있었던 세션 수
+     */
+    @Override
+    public long size() {
+        return conversationMapper.countStoredContextsSince(LocalDateTime.now().minus(idleTimeout));
+    }
+
+    private ConversationContext contextOf(StoredContext stored) {
+        ConversationContext context = stored.getContext();
+        if (context != null) {
+            context.setContextVersion(stored.getVersion());
+            context.setScenarioVersion(null);
+        }
+        return context;
+    }
+
+    private OptimisticLockingFailureException conflict(String sessionId) {
+        conflicts.increment();
+        return new OptimisticLockingFailureException("Context for session " + sessionId + " was updated concurrently");
+    }
+
+    private Long findBotId(Long scenarioId) {
+        if (scenarioId == null) {
+            return null;
+        }
+        return scenarioMapper.findById(scenarioId).map(Scenario::getBotId).orElse(null);
+    }
+}
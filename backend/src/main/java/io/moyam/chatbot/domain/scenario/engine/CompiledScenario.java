@@ -0,0 +1,120 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 한 시나리오의 전체 단계를 한 번에 읽어 만든 불변 그래프
+ * 단계는 order_index 순서의 ordinal 로 배열에 저장된다.
+ *
+ * <p>version 은 발행(publish)될 때마다 증가하며, 진행 중인 대화는 시작한 버전에 고정된다.</p>
+ *
+ * <p>컴파일 시 {@link ScenarioAnalysis 정적 분석}도 함께 수행한다.</p>
+ */
+public final class CompiledScenario {
+
+    private final Long scenarioId;
+    private final long version;
+    private final CompiledStep[] steps;
+    private final Map<Long, CompiledStep> stepsById;
+    private final CompiledStep startStep;
+    private final ScenarioAnalysis analysis;
+
+    private CompiledScenario(Long scenarioId, long version, CompiledStep[] steps,
+                             Map<Long, CompiledStep> stepsById, CompiledStep startStep,
+                             ScenarioAnalysis analysis) {
+        this.scenarioId = scenarioId;
+        this.version = version;
+        this.steps = steps;
+        this.stepsById = stepsById;
+        this.startStep = startStep;
+        this.analysis = analysis;
+    }
+
+    /**
+     * 시나리오 단계 목록을 그래프로 컴파일
+     */
+    public static CompiledScenario compile(Long scenarioId, List<ScenarioStep> scenarioSteps) {
+        return compile(scenarioId, 0L, scenarioSteps);
+    }
+
+    /**
+     * 시나리오 단계 목록을 지정한 버전의 그래프로 컴파일
+     * 다른 시나리오를 가리키는 간선은 확인할 수 없으므로 존재하는 것으로 본다.
+     */
+    public static CompiledScenario compile(Long scenarioId, long version, List<ScenarioStep> scenarioSteps) {
+        return compile(scenarioId, version, scenarioSteps, stepId -> true);
+    }
+
+    /**
+     * 시나리오 단계 목록을 지정한 버전의 그래프로 컴파일
+     *
+     * @param externalStepExists 같은 시나리오에 없는 단계 ID 가 다른 시나리오에 있는지 (끊어진 간선 판별)
+     */
+    public static CompiledScenario compile(Long scenarioId, long version, List<ScenarioStep> scenarioSteps,
+                                           LongPredicate externalStepExists) {
+        List<ScenarioStep> ordered = scenarioSteps.stream()
+                .sorted(Comparator.comparing(ScenarioStep::getOrderIndex,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        CompiledStep[] steps = new CompiledStep[ordered.size()];
+        Map<Long, CompiledStep> stepsById = new HashMap<>(ordered.size() * 2);
+        CompiledStep startStep = null;
+
+        for (int i = 0; i < steps.length; i++) {
+            ScenarioStep step = ordered.get(i);
+            steps[i] = new CompiledStep(i, step, version);
+            stepsById.put(step.getId(), steps[i]);
+            if (startStep == null && Boolean.TRUE.equals(step.getIsStartStep())) {
+                startStep = steps[i];
+            }
+        }
+
+        for (CompiledStep step : steps) {
+            step.link(stepsById);
+        }
+
+        ScenarioAnalysis analysis = ScenarioAnalyzer.analyze(scenarioId, version, steps, startStep, externalStepExists);
+        return new CompiledScenario(scenarioId, version, steps, Map.copyOf(stepsById), startStep, analysis);
+    }
+
+    public Long getScenarioId() {
+        return scenarioId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 시작 단계 (is_start_step 이 없으면 null)
+     */
+    public CompiledStep getStartStep() {
+        return startStep;
+    }
+
+    /**
+     * 컴파일 시 계산된 정적 분석 결과
+     */
+    public ScenarioAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    public CompiledStep getStep(Long stepId) {
+        return stepId != null ? stepsById.get(stepId) : null;
+    }
+
+    public CompiledStep getStepAt(int ordinal) {
+        return steps[ordinal];
+    }
+
+    public int size() {
+        return steps.length;
+    }
+}
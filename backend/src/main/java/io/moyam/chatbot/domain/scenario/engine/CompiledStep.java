@@ -0,0 +1,167 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.template.CompiledTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 컴파일된 시나리오 단계
+ * next_step, 선택지, 규칙, default_step 간선을 미리 해석해 두어
+ * 대화 턴 처리 중에는 DB 를 조회하지 않는다.
+ * 조건(JSONB)은 {@link StepCondition} 으로, 메시지 템플릿도 이 시점에 한 번만 컴파일된다.
+ * 나가는 간선 목록, 종료 단계 여부, 기대 입력 유형도 미리 계산해 둔다.
+ *
+ * <p>원본 {@link ScenarioStep} 은 그래프가 소유하므로 수정하지 않는다.</p>
+ */
+public final class CompiledStep {
+
+    private final int ordinal;
+    private final long scenarioVersion;
+    private final ScenarioStep step;
+    private final String conditionType;
+    private final CompiledTemplate template;
+
+    private final StepEdge next;
+    private final StepCondition condition;
+    private final StepCondition.VariableMapping variableMapping;
+
+    private final List<StepEdge> edges;
+    private final ScenarioStep.InputType expectedInput;
+    private final boolean requiresInput;
+
+    CompiledStep(int ordinal, ScenarioStep step, long scenarioVersion) {
+        this.ordinal = ordinal;
+        this.scenarioVersion = scenarioVersion;
+        this.step = step;
+        this.next = StepEdge.of(step.getNextStepId());
+        this.template = CompiledTemplate.parse(step.getContent());
+
+        Map<String, Object> conditions = step.getConditions();
+        this.conditionType = conditions != null && conditions.get("type") instanceof String type ? type : null;
+        this.condition = StepCondition.parse(conditions);
+        this.variableMapping = StepCondition.parseVariableMapping(conditions, step.getInputType());
+
+        this.edges = Stream.concat(Stream.ofNullable(next), condition != null ? condition.edges() : Stream.empty())
+                .toList();
+        this.expectedInput = expectedInput(step, condition);
+        this.requiresInput = expectedInput != null || variableMapping != null;
+    }
+
+    /**
+     * 선택지가 있으면 CHOICE, 아니면 input_type (QUESTION 단계는 지정이 없어도 TEXT)
+     */
+    private static ScenarioStep.InputType expectedInput(ScenarioStep step, StepCondition condition) {
+        if (condition instanceof StepCondition.UserChoice) {
+            return ScenarioStep.InputType.CHOICE;
+        }
+        if (step.getInputType() != null) {
+            return step.getInputType();
+        }
+        return step.getStepType() == ScenarioStep.StepType.QUESTION ? ScenarioStep.InputType.TEXT : null;
+    }
+
+    /**
+     * 같은 시나리오 단계로 간선 연결 (컴파일 단계에서만 호출)
+     */
+    void link(Map<Long, CompiledStep> stepsById) {
+        if (next != null) {
+            next.resolve(stepsById);
+        }
+        if (condition != null) {
+            condition.edges().forEach(edge -> edge.resolve(stepsById));
+        }
+    }
+
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public Long getId() {
+        return step.getId();
+    }
+
+    public Long getScenarioId() {
+        return step.getScenarioId();
+    }
+
+    /**
+     * 이 단계가 속한 시나리오 그래프의 버전
+     */
+    public long getScenarioVersion() {
+        return scenarioVersion;
+    }
+
+    public ScenarioStep getStep() {
+        return step;
+    }
+
+    public CompiledTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * conditions.type 원본 값 (알 수 없는 type 도 그대로 보관)
+     */
+    public String getConditionType() {
+        return conditionType;
+    }
+
+    public StepEdge getNext() {
+        return next;
+    }
+
+    /**
+     * 분기 조건 (type 이 없거나 알 수 없으면 null)
+     */
+    public StepCondition getCondition() {
+        return condition;
+    }
+
+    /**
+     * 나가는 간선 전체 (next_step, 선택지, 규칙, default_step 순)
+     */
+    public List<StepEdge> getEdges() {
+        return edges;
+    }
+
+    /**
+     * 나가는 간선이 없는 단계 (대화의 끝)
+     */
+    public boolean isTerminal() {
+        return edges.isEmpty();
+    }
+
+    /**
+     * 이 단계가 기다리는 입력 유형 (입력 없이 진행하는 단계면 null)
+     */
+    public ScenarioStep.InputType getExpectedInput() {
+        return expectedInput;
+    }
+
+    /**
+     * 사용자 입력(선택, 답변, 변수 수집)이 있어야 다음 단계로 갈 수 있는지
+     */
+    public boolean requiresInput() {
+        return requiresInput;
+    }
+
+    public StepCondition.VariableMapping getVariableMapping() {
+        return variableMapping;
+    }
+
+    public boolean hasVariableMapping() {
+        return variableMapping != null;
+    }
+
+    /**
+     * 응답에 표시할 선택지 (미리 생성된 불변 목록)
+     */
+    public List<ChoiceOption> getChoices() {
+        return condition instanceof StepCondition.UserChoice choice ? choice.options() : Collections.emptyList();
+    }
+}
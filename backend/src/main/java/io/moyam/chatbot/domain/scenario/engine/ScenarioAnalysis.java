@@ -0,0 +1,87 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+
+import java.util.List;
+
+/**
+ * 시나리오 그래프 정적 분석 결과 (컴파일 시 한 번 계산, 불변)
+ *
+ * <p>오류(ERROR)는 대화가 멈추거나 입력 없이 같은 단계를 계속 도는 그래프이고,
+ * 경고(WARNING)는 동작에는 문제가 없지만 정리가 필요한 그래프다.</p>
+ *
+ * @param valid 오류가 없음 (경고는 있을 수 있음)
+ * @param steps 단계별 메타데이터 (order_index 순)
+ */
+public record ScenarioAnalysis(Long scenarioId,
+                               long version,
+                               Long startStepId,
+                               boolean valid,
+                               List<Issue> issues,
+                               List<StepInfo> steps) {
+
+    public enum Severity {
+        ERROR, WARNING
+    }
+
+    public enum IssueType {
+        MISSING_START_STEP(Severity.ERROR),
+        DANGLING_EDGE(Severity.ERROR),
+        INPUT_FREE_CYCLE(Severity.ERROR),
+        UNREACHABLE_STEP(Severity.WARNING);
+
+        private final Severity severity;
+
+        IssueType(Severity severity) {
+            this.severity = severity;
+        }
+
+        public Severity getSeverity() {
+            return severity;
+        }
+    }
+
+    /**
+     * 간선 대상 위치
+     */
+    public enum EdgeTarget {
+        INTERNAL, EXTERNAL, DANGLING
+    }
+
+    /**
+     * 발견된 문제
+     *
+     * @param stepIds  관련 단계 (순환이면 순환에 속한 단계 전체)
+     * @param targetId 끊어진 간선의 대상 단계 ID (DANGLING_EDGE 만)
+     */
+    public record Issue(IssueType type, Severity severity, List<Long> stepIds, Long targetId, String message) {
+
+        static Issue of(IssueType type, List<Long> stepIds, Long targetId, String message) {
+            return new Issue(type, type.getSeverity(), stepIds, targetId, message);
+        }
+    }
+
+    public record Edge(Long targetId, EdgeTarget target) {
+    }
+
+    /**
+     * 단계 메타데이터
+     *
+     * @param expectedInput 기다리는 입력 유형 (입력 없이 진행하면 null)
+     * @param terminal      나가는 간선이 없는 단계
+     * @param reachable     시작 단계에서 같은 시나리오 간선으로 도달 가능
+     */
+    public record StepInfo(Long stepId,
+                           int ordinal,
+                           ScenarioStep.StepType stepType,
+                           ScenarioStep.InputType expectedInput,
+                           boolean requiresInput,
+                           boolean terminal,
+                           boolean reachable,
+                           List<Edge> edges) {
+    }
+
+    public List<Issue> errors() {
+        return issues.stream().filter(issue -> issue.severity() == Severity.ERROR).toList();
+    }
+}
@@ -0,0 +1,181 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.Edge;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.EdgeTarget;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.Issue;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.IssueType;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.StepInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 컴파일된 단계 배열에 대한 정적 분석 (간선 연결 후 한 번 실행)
+ *
+ * <ul>
+ *   <li>끊어진 간선: 같은 시나리오에도 외부에도 없는 단계를 가리키는 간선 (간선에 dangling 표시)</li>
+ *   <li>도달 불가 단계: 시작 단계에서 같은 시나리오 간선으로 갈 수 없는 단계</li>
+ *   <li>입력 없는 순환: 사용자 입력을 기다리지 않는 단계끼리만 이루어진 순환 (강연결 요소)</li>
+ * </ul>
+ */
+final class ScenarioAnalyzer {
+
+    private ScenarioAnalyzer() {
+    }
+
+    /**
+     * @param externalStepExists 같은 시나리오에 없는 단계 ID 가 다른 시나리오에 있는지
+     */
+    static ScenarioAnalysis analyze(Long scenarioId, long version, CompiledStep[] steps, CompiledStep startStep,
+                                    LongPredicate externalStepExists) {
+        List<Issue> issues = new ArrayList<>();
+        if (steps.length > 0 && startStep == null) {
+            issues.add(Issue.of(IssueType.MISSING_START_STEP, List.of(), null, "No step is marked as the start step"));
+        }
+
+        Map<Long, Boolean> externalLookups = new HashMap<>();
+        List<List<Edge>> edgeTables = new ArrayList<>(steps.length);
+        for (CompiledStep step : steps) {
+            List<Edge> edges = new ArrayList<>(step.getEdges().size());
+            for (StepEdge edge : step.getEdges()) {
+                EdgeTarget target = edge.isResolved() ? EdgeTarget.INTERNAL
+                        : externalLookups.computeIfAbsent(edge.getTargetId(), externalStepExists::test)
+                        ? EdgeTarget.EXTERNAL : EdgeTarget.DANGLING;
+                if (target == EdgeTarget.DANGLING) {
+                    edge.markDangling();
+                    issues.add(Issue.of(IssueType.DANGLING_EDGE, List.of(step.getId()), edge.getTargetId(),
+                            "Step " + step.getId() + " points to missing step " + edge.getTargetId()));
+                }
+                edges.add(new Edge(edge.getTargetId(), target));
+            }
+            edgeTables.add(List.copyOf(edges));
+        }
+
+        boolean[] reachable = reachable(steps, startStep);
+        if (startStep != null) {
+            for (CompiledStep step : steps) {
+                if (!reachable[step.getOrdinal()]) {
+                    issues.add(Issue.of(IssueType.UNREACHABLE_STEP, List.of(step.getId()), null,
+                            "Step " + step.getId() + " cannot be reached from the start step"));
+                }
+            }
+        }
+
+        for (List<CompiledStep> cycle : new CycleFinder(steps).find()) {
+            List<Long> stepIds = cycle.stream().map(CompiledStep::getId).toList();
+            issues.add(Issue.of(IssueType.INPUT_FREE_CYCLE, stepIds, null,
+                    "Steps " + stepIds + " loop without waiting for user input"));
+        }
+
+        List<StepInfo> infos = new ArrayList<>(steps.length);
+        for (CompiledStep step : steps) {
+            infos.add(new StepInfo(
+                    step.getId(),
+                    step.getOrdinal(),
+                    step.getStep().getStepType(),
+                    step.getExpectedInput(),
+                    step.requiresInput(),
+                    step.isTerminal(),
+                    reachable[step.getOrdinal()],
+                    edgeTables.get(step.getOrdinal())));
+        }
+
+        boolean valid = issues.stream().noneMatch(issue -> issue.severity() == ScenarioAnalysis.Severity.ERROR);
+        return new ScenarioAnalysis(scenarioId, version, startStep != null ? startStep.getId() : null,
+                valid, List.copyOf(issues), List.copyOf(infos));
+    }
+
+    private static boolean[] reachable(CompiledStep[] steps, CompiledStep startStep) {
+        boolean[] reachable = new boolean[steps.length];
+        if (startStep == null) {
+            return reachable;
+        }
+        Deque<CompiledStep> queue = new ArrayDeque<>();
+        reachable[startStep.getOrdinal()] = true;
+        queue.add(startStep);
+        while (!queue.isEmpty()) {
+            for (StepEdge edge : queue.poll().getEdges()) {
+                CompiledStep target = edge.getTarget();
+                if (target != null && !reachable[target.getOrdinal()]) {
+                    reachable[target.getOrdinal()] = true;
+                    queue.add(target);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * 입력을 기다리지 않는 단계로만 이루어진 그래프의 강연결 요소 (Tarjan)
+     * 입력 단계에서 경로가 끊기므로 재귀 깊이는 입력 없이 이어지는 단계 수를 넘지 않는다.
+     */
+    private static final class CycleFinder {
+
+        private final CompiledStep[] steps;
+        private final int[] index;
+        private final int[] low;
+        private final boolean[] onStack;
+        private final Deque<CompiledStep> stack = new ArrayDeque<>();
+        private final List<List<CompiledStep>> cycles = new ArrayList<>();
+        private int counter;
+
+        CycleFinder(CompiledStep[] steps) {
+            this.steps = steps;
+            this.index = new int[steps.length];
+            this.low = new int[steps.length];
+            this.onStack = new boolean[steps.length];
+        }
+
+        List<List<CompiledStep>> find() {
+            for (CompiledStep step : steps) {
+                if (!step.requiresInput() && index[step.getOrdinal()] == 0) {
+                    visit(step);
+                }
+            }
+            return cycles;
+        }
+
+        private void visit(CompiledStep step) {
+            int v = step.getOrdinal();
+            index[v] = low[v] = ++counter;
+            stack.push(step);
+            onStack[v] = true;
+
+            boolean selfLoop = false;
+            for (StepEdge edge : step.getEdges()) {
+                CompiledStep target = edge.getTarget();
+                if (target == null || target.requiresInput()) {
+                    continue;
+                }
+                int w = target.getOrdinal();
+                selfLoop |= w == v;
+                if (index[w] == 0) {
+                    visit(target);
+                    low[v] = Math.min(low[v], low[w]);
+                } else if (onStack[w]) {
+                    low[v] = Math.min(low[v], index[w]);
+                }
+            }
+
+            if (low[v] == index[v]) {
+                List<CompiledStep> component = new ArrayList<>();
+                CompiledStep member;
+                do {
+                    member = stack.pop();
+                    onStack[member.getOrdinal()] = false;
+                    component.add(member);
+                } while (member != step);
+                if (component.size() > 1 || selfLoop) {
+                    component.sort(Comparator.comparingInt(CompiledStep::getOrdinal));
+                    cycles.add(component);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.moyam.chatbot.config.ContextStoreProperties;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컴파일된 시나리오 그래프 저장소
+ * 시나리오 단위로 scenario_steps 를 한 번만 읽어 컴파일하고,
+ * 이후 단계 조회는 메모리에서 처리한다.
+ *
+ * <p>시나리오 수정은 {@link #publish(Long)} 로 반영한다. 새 그래프를 별도로 컴파일한 뒤
+ * 시나리오 항목 하나를 교체하므로 조회 쪽은 항상 완성된 그래프만 보고, 무효화로 인한 동시 재로딩도 없다.
+ * 교체된 이전 버전은 그 버전에 고정된 대화가 접근하는 동안 보관된다.</p>
+ */
+@Component
+@Slf4j
+public class ScenarioGraphRegistry {
+
+    private static final Duration DEFAULT_RETENTION = Duration.ofMinutes(30);
+    private static final Duration MISSING_STEP_TTL = Duration.ofMinutes(1);
+
+    private final ScenarioStepMapper scenarioStepMapper;
+
+    /**
+     * 시나리오별 현재 버전 그래프
+     */
+    private final Map<Long, CompiledScenario> scenarios = new ConcurrentHashMap<>();
+    private final Map<Long, Long> scenarioIdsByStepId = new ConcurrentHashMap<>();
+
+    /**
+     * 교체된 이전 버전 (버전 -> 그래프, 마지막 접근 후 retention 동안 보관)
+     */
+    private final Cache<Long, CompiledScenario> retiredVersions;
+
+    /**
+     * DB 에도 없는 단계 ID (잘못된 stepId 요청이 매번 DB 를 조회하지 않도록 잠시 기억)
+     */
+    private final Cache<Long, Boolean> missingStepIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(MISSING_STEP_TTL)
+            .build();
+
+    /**
+     * 전역 버전 순번 (버전만으로 그래프를 식별할 수 있도록 시나리오 간에도 겹치지 않음)
+     */
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public ScenarioGraphRegistry(ScenarioStepMapper scenarioStepMapper) {
+        this(scenarioStepMapper, DEFAULT_RETENTION);
+    }
+
+    /**
+     * 이전 버전은 대화 컨텍스트 유휴 시간만큼 보관한다.
+     */
+    @Autowired
+    public ScenarioGraphRegistry(ScenarioStepMapper scenarioStepMapper, ContextStoreProperties properties) {
+        this(scenarioStepMapper, properties.getIdleTimeout());
+    }
+
+    ScenarioGraphRegistry(ScenarioStepMapper scenarioStepMapper, Duration retention) {
+        this.scenarioStepMapper = scenarioStepMapper;
+        this.retiredVersions = Caffeine.newBuilder()
+                .expireAfterAccess(retention)
+                .build();
+    }
+
+    /**
+     * 시나리오 그래프 조회 (없으면 로드 후 컴파일)
+     */
+    public CompiledScenario getScenario(Long scenarioId) {
+        CompiledScenario compiled = scenarios.get(scenarioId);
+        if (compiled != null) {
+            return compiled;
+        }
+        return load(scenarioId);
+    }
+
+    /**
+     * 단계 ID 로 컴파일된 단계 조회 (현재 버전)
+     * 처음 보는 단계면 해당 단계의 시나리오 전체를 로드한다.
+     */
+    public CompiledStep findStep(Long stepId) {
+        if (stepId == null) {
+            return null;
+        }
+
+        Long scenarioId = scenarioIdsByStepId.get(stepId);
+        CompiledScenario compiled = scenarioId != null ? scenarios.get(scenarioId) : null;
+        if (compiled != null) {
+            return compiled.getStep(stepId);
+        }
+
+        if (missingStepIds.getIfPresent(stepId) != null) {
+            return null;
+        }
+
+        try {
+            Optional<ScenarioStep> step = scenarioStepMapper.findById(stepId);
+            if (step.isEmpty()) {
+                missingStepIds.put(stepId, Boolean.TRUE);
+                return null;
+            }
+            return getScenario(step.get().getScenarioId()).getStep(stepId);
+        } catch (Exception e) {
+            log.error("Failed to load scenario graph for step {}: {}", stepId, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 고정된 버전의 단계 조회
+     * 해당 버전이 이미 정리되었거나 단계가 없으면 현재 버전으로 대신한다.
+     */
+    public CompiledStep findStep(Long stepId, long pinnedVersion) {
+        if (stepId == null) {
+            return null;
+        }
+
+        Long scenarioId = scenarioIdsByStepId.get(stepId);
+        CompiledScenario current = scenarioId != null ? scenarios.get(scenarioId) : null;
+        if (current == null || current.getVersion() != pinnedVersion) {
+            CompiledScenario pinned = retiredVersions.getIfPresent(pinnedVersion);
+            CompiledStep step = pinned != null ? pinned.getStep(stepId) : null;
+            if (step != null) {
+                return step;
+            }
+        }
+        return findStep(stepId);
+    }
+
+    /**
+     * 간선의 대상 단계 해석
+     * 같은 시나리오 간선은 이미 연결되어 있고, 외부 시나리오 간선만 저장소에서 찾는다.
+     * 분석에서 끊어진 것으로 확인된 간선은 조회하지 않는다.
+     */
+    public CompiledStep resolve(StepEdge edge) {
+        if (edge == null || edge.isDangling()) {
+            return null;
+        }
+        if (edge.isResolved()) {
+            return edge.getTarget();
+        }
+        return findStep(edge.getTargetId());
+    }
+
+    /**
+     * 시나리오 새 버전 발행
+     * DB 의 단계를 읽어 새 그래프를 만든 뒤 한 번의 참조 교체로 반영한다.
+     * 이후 새로 시작하는 대화는 새 버전을, 진행 중인 대화는 기존 버전을 사용한다.
+     *
+     * @return 발행 후 현재 그래프 (동시에 더 최신 버전이 발행되었다면 그 그래프)
+     */
+    public CompiledScenario publish(Long scenarioId) {
+        List<ScenarioStep> steps = scenarioStepMapper.findByScenarioId(scenarioId);
+        CompiledScenario compiled = CompiledScenario.compile(scenarioId, versionSequence.incrementAndGet(), steps,
+                this::stepExists);
+        report(compiled.getAnalysis());
+
+        CompiledScenario[] replaced = new CompiledScenario[1];
+        CompiledScenario current = scenarios.compute(scenarioId, (id, previous) -> {
+            if (previous != null && previous.getVersion() > compiled.getVersion()) {
+                return previous;
+            }
+            replaced[0] = previous;
+            return compiled;
+        });
+
+        if (current == compiled) {
+            index(compiled);
+        }
+        if (replaced[0] != null) {
+            retire(replaced[0], current);
+        }
+        log.info("Published scenario {} version {} with {} steps", scenarioId, current.getVersion(), current.size());
+        return current;
+    }
+
+    /**
+     * 시나리오 내리기 (삭제 시)
+     * 진행 중인 대화는 보관된 이전 버전으로 마무리할 수 있다.
+     *
+     * @return 내려간 그래프 (없으면 null)
+     */
+    public CompiledScenario unpublish(Long scenarioId) {
+        CompiledScenario removed = scenarios.remove(scenarioId);
+        if (removed != null) {
+            retire(removed, null);
+            log.info("Unpublished scenario {} version {}", scenarioId, removed.getVersion());
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 발행된 그래프 (로드하지 않음, 컴파일된 적 없으면 null)
+     */
+    public CompiledScenario getPublished(Long scenarioId) {
+        return scenarios.get(scenarioId);
+    }
+
+    /**
+     * 다른 시나리오 단계 존재 여부 (컴파일 시 끊어진 간선 판별용, 조회 실패 시 있는 것으로 본다)
+     */
+    private boolean stepExists(long stepId) {
+        if (scenarioIdsByStepId.containsKey(stepId)) {
+            return true;
+        }
+        if (missingStepIds.getIfPresent(stepId) != null) {
+            return false;
+        }
+        try {
+            if (scenarioStepMapper.findById(stepId).isPresent()) {
+                return true;
+            }
+            missingStepIds.put(stepId, Boolean.TRUE);
+            return false;
+        } catch (Exception e) {
+            log.warn("Failed to check step {} while analyzing scenario graph: {}", stepId, e.getMessage());
+            return true;
+        }
+    }
+
+    private static void report(ScenarioAnalysis analysis) {
+        for (ScenarioAnalysis.Issue issue : analysis.issues()) {
+            if (issue.severity() == ScenarioAnalysis.Severity.ERROR) {
+                log.warn("Scenario {} graph error {}: {}", analysis.scenarioId(), issue.type(), issue.message());
+            } else {
+                log.debug("Scenario {} graph warning {}: {}", analysis.scenarioId(), issue.type(), issue.message());
+            }
+        }
+    }
+
+    private void retire(CompiledScenario previous, CompiledScenario current) {
+        retiredVersions.put(previous.getVersion(), previous);
+        for (int i = 0; i < previous.size(); i++) {
+            Long stepId = previous.getStepAt(i).getId();
+            if (current == null || current.getStep(stepId) == null) {
+                scenarioIdsByStepId.remove(stepId, previous.getScenarioId());
+            }
+        }
+    }
+
+    private void index(CompiledScenario compiled) {
+        for (int i = 0; i < compiled.size(); i++) {
+            Long stepId = compiled.getStepAt(i).getId();
+            scenarioIdsByStepId.put(stepId, compiled.getScenarioId());
+            missingStepIds.invalidate(stepId);
+        }
+    }
+
+    private CompiledScenario load(Long scenarioId) {
+        List<ScenarioStep> steps = scenarioStepMapper.findByScenarioId(scenarioId);
+        CompiledScenario compiled = CompiledScenario.compile(scenarioId, versionSequence.incrementAndGet(), steps,
+                this::stepExists);
+        report(compiled.getAnalysis());
+
+        CompiledScenario existing = scenarios.putIfAbsent(scenarioId, compiled);
+        if (existing != null) {
+            return existing;
+        }
+
+        index(compiled);
+        log.info("Compiled scenario {} version {} with {} steps", scenarioId, compiled.getVersion(), compiled.size());
+        return compiled;
+    }
+}
@@ -0,0 +1,236 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.expression.CompiledExpression;
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.validation.ValidationRules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 타입이 지정된 단계 조건 (scenario_steps.conditions JSONB)
+ * 그래프 컴파일 시 한 번만 해석되며, 대화 턴 처리 중에는 Map 조회나 캐스팅을 하지 않는다.
+ *
+ * <pre>
+ * {"type": "user_choice", "choices": [{"value", "label", "emoji", "description", "next_step"}]}
+ * {"type": "conditional" | "time_based", "rules": [{"condition", "next_step"}], "default_step"}
+ * {"type": "variable_check", "default_step"}
+ * {"variable_mapping": {"target", "validation", "message"}}
+ * </pre>
+ */
+public sealed interface StepCondition {
+
+    String USER_CHOICE = "user_choice";
+    String CONDITIONAL = "conditional";
+    String TIME_BASED = "time_based";
+    String VARIABLE_CHECK = "variable_check";
+    String VARIABLE_MAPPING = "variable_mapping";
+
+    /**
+     * JSON 의 type 값
+     */
+    String type();
+
+    /**
+     * 조건이 가리키는 간선 (그래프 연결용)
+     */
+    default Stream<StepEdge> edges() {
+        return Stream.empty();
+    }
+
+    /**
+     * 사용자 선택: 응답용 선택지 목록과 value -> 간선 조회 맵
+     *
+     * <p>options 는 모든 응답이 공유하는 불변 목록이므로 원소를 수정하지 않는다.</p>
+     */
+    record UserChoice(List<ChoiceOption> options,
+                      Map<String, StepEdge> edgesByValue,
+                      Map<String, String> labelsByValue) implements StepCondition {
+
+        public StepEdge edgeFor(String value) {
+            return value != null ? edgesByValue.get(value) : null;
+        }
+
+        public String labelFor(String value) {
+            return labelsByValue.get(value);
+        }
+
+        @Override
+        public String type() {
+            return USER_CHOICE;
+        }
+
+        @Override
+        public Stream<StepEdge> edges() {
+            return edgesByValue.values().stream();
+        }
+    }
+
+    /**
+     * 조건식 하나와 만족 시 이동할 간선
+     */
+    record Rule(CompiledExpression expression, StepEdge edge) {
+    }
+
+    /**
+     * 조건부 규칙: 순서대로 평가해 처음 만족하는 규칙의 단계로, 없으면 default_step
+     */
+    record Conditional(List<Rule> rules, StepEdge defaultEdge) implements StepCondition {
+
+        @Override
+        public String type() {
+            return CONDITIONAL;
+        }
+
+        @Override
+        public Stream<StepEdge> edges() {
+            return ruleEdges(rules, defaultEdge);
+        }
+    }
+
+    /**
+     * 시간 기반 규칙 (hour, minute, dayOfWeek, weekend 내장 변수 사용)
+     */
+    record TimeBased(List<Rule> rules, StepEdge defaultEdge) implements StepCondition {
+
+        @Override
+        public String type() {
+            return TIME_BASED;
+        }
+
+        @Override
+        public Stream<StepEdge> edges() {
+            return ruleEdges(rules, defaultEdge);
+        }
+    }
+
+    /**
+     * 변수 체크 (향후 확장: 변수 존재 여부, 값 체크 등)
+     */
+    record VariableCheck(StepEdge defaultEdge) implements StepCondition {
+
+        @Override
+        public String type() {
+            return VARIABLE_CHECK;
+        }
+
+        @Override
+        public Stream<StepEdge> edges() {
+            return Stream.ofNullable(defaultEdge);
+        }
+    }
+
+    /**
+     * 사용자 입력을 변수로 수집 (type 과 별도로 존재할 수 있음)
+     * validation 문자열은 검증 규칙 체인으로 미리 컴파일된다.
+     */
+    record VariableMapping(String target, String validation, String message,
+                           ValidationRules rules) implements StepCondition {
+
+        @Override
+        public String type() {
+            return VARIABLE_MAPPING;
+        }
+    }
+
+    /**
+     * type 에 따른 분기 조건 해석 (없거나 알 수 없는 type 이면 null)
+     */
+    static StepCondition parse(Map<String, Object> conditions) {
+        if (conditions == null) {
+            return null;
+        }
+        Object type = conditions.get("type");
+        if (!(type instanceof String name)) {
+            return null;
+        }
+        StepEdge defaultEdge = StepEdge.of(conditions.get("default_step"));
+        switch (name) {
+            case USER_CHOICE:
+                return parseUserChoice(conditions.get("choices"));
+            case CONDITIONAL:
+                return new Conditional(parseRules(conditions.get("rules")), defaultEdge);
+            case TIME_BASED:
+                return new TimeBased(parseRules(conditions.get("rules")), defaultEdge);
+            case VARIABLE_CHECK:
+                return new VariableCheck(defaultEdge);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * variable_mapping 해석 (없으면 null)
+     */
+    static VariableMapping parseVariableMapping(Map<String, Object> conditions, ScenarioStep.InputType inputType) {
+        if (conditions == null || !(conditions.get(VARIABLE_MAPPING) instanceof Map<?, ?> mapping) || mapping.isEmpty()) {
+            return null;
+        }
+        String validation = asString(mapping.get("validation"));
+        return new VariableMapping(
+                asString(mapping.get("target")),
+                validation,
+                asString(mapping.get("message")),
+                ValidationRules.compile(validation, inputType));
+    }
+
+    private static UserChoice parseUserChoice(Object rawChoices) {
+        List<ChoiceOption> options = new ArrayList<>();
+        Map<String, StepEdge> edges = new LinkedHashMap<>();
+        Map<String, String> labels = new LinkedHashMap<>();
+        if (rawChoices instanceof List<?> choices) {
+            for (Object item : choices) {
+                if (!(item instanceof Map<?, ?> choice)) {
+                    continue;
+                }
+                String value = asString(choice.get("value"));
+                StepEdge edge = StepEdge.of(choice.get("next_step"));
+                options.add(ChoiceOption.builder()
+                        .value(value)
+                        .label(asString(choice.get("label")))
+                        .emoji(asString(choice.get("emoji")))
+                        .description(asString(choice.get("description")))
+                        .nextStepId(edge != null ? edge.getTargetId() : null)
+                        .build());
+                if (value != null && edge != null) {
+                    edges.putIfAbsent(value, edge);
+                    labels.putIfAbsent(value, asString(choice.get("label")));
+                }
+            }
+        }
+        return new UserChoice(
+                Collections.unmodifiableList(options),
+                Collections.unmodifiableMap(edges),
+                Collections.unmodifiableMap(labels));
+    }
+
+    private static List<Rule> parseRules(Object rawRules) {
+        if (!(rawRules instanceof List<?> rules)) {
+            return List.of();
+        }
+        List<Rule> parsed = new ArrayList<>(rules.size());
+        for (Object item : rules) {
+            if (item instanceof Map<?, ?> rule) {
+                parsed.add(new Rule(
+                        CompiledExpression.compileOrFalse(asString(rule.get("condition"))),
+                        StepEdge.of(rule.get("next_step"))));
+            }
+        }
+        return List.copyOf(parsed);
+    }
+
+    private static Stream<StepEdge> ruleEdges(List<Rule> rules, StepEdge defaultEdge) {
+        return Stream.concat(rules.stream().map(Rule::edge), Stream.ofNullable(defaultEdge))
+                .filter(Objects::nonNull);
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String text ? text : null;
+    }
+}
@@ -0,0 +1,57 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 시나리오 그래프의 간선
+ * 같은 시나리오 안의 단계는 컴파일 시점에 직접 참조로 연결되고,
+ * 다른 시나리오를 가리키는 간선은 targetId 만 유지한다.
+ * 정적 분석에서 어디에도 없는 단계로 확인된 간선은 dangling 으로 표시되어 조회 없이 null 로 해석된다.
+ */
+public final class StepEdge {
+
+    private final Long targetId;
+    private CompiledStep target;
+    private boolean dangling;
+
+    StepEdge(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    /**
+     * 같은 시나리오 안에서 해석된 대상 단계 (외부 시나리오면 null)
+     */
+    public CompiledStep getTarget() {
+        return target;
+    }
+
+    public boolean isResolved() {
+        return target != null;
+    }
+
+    /**
+     * 대상 단계가 같은 시나리오에도, 다른 시나리오에도 없음 (그래프 분석 결과)
+     */
+    public boolean isDangling() {
+        return dangling;
+    }
+
+    void markDangling() {
+        this.dangling = true;
+    }
+
+    void resolve(Map<Long, CompiledStep> stepsById) {
+        this.target = stepsById.get(targetId);
+    }
+
+    static StepEdge of(Object rawStepId) {
+        if (rawStepId instanceof Number number) {
+            return new StepEdge(number.longValue());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 컴파일된 조건식
+ * 시나리오 그래프 컴파일 시 한 번 파싱되고, 매 턴 대화 변수에 대해 할당 없이 평가된다.
+ *
+ * <pre>
+ * ${userType} == 'premium' &amp;&amp; hour &gt;= 9
+ * (hour &lt; 9 || hour &gt; 18) &amp;&amp; !weekend
+ * </pre>
+ *
+ * 식별자 hour, minute, dayOfWeek(1=월 ... 7=일), weekend 는 내장 시간 변수이고,
+ * 그 외 식별자와 ${name} 은 대화 변수를 참조한다.
+ */
+@Slf4j
+public final class CompiledExpression {
+
+    /**
+     * 비어 있거나 잘못된 조건식 (항상 false)
+     */
+    public static final CompiledExpression ALWAYS_FALSE =
+            new CompiledExpression("false", new ExpressionNode.Literal(Boolean.FALSE, ExpressionNode.ValueType.BOOLEAN));
+
+    private final String source;
+    private final ExpressionNode root;
+
+    private CompiledExpression(String source, ExpressionNode root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * 조건식 컴파일
+     *
+     * @throws ExpressionSyntaxException 문법 또는 타입 오류
+     */
+    public static CompiledExpression compile(String source) {
+        if (source == null || source.trim().isEmpty()) {
+            return ALWAYS_FALSE;
+        }
+        return new CompiledExpression(source, ExpressionParser.parse(source));
+    }
+
+    /**
+     * 조건식 컴파일 (오류 시 경고 로그 후 항상 false)
+     */
+    public static CompiledExpression compileOrFalse(String source) {
+        try {
+            return compile(source);
+        } catch (ExpressionSyntaxException e) {
+            log.warn("Invalid condition expression, treating as false: {}", e.getMessage());
+            return ALWAYS_FALSE;
+        }
+    }
+
+    public boolean evaluate(Map<String, ?> variables) {
+        return evaluate(variables, ExpressionClock.system());
+    }
+
+    public boolean evaluate(Map<String, ?> variables, ExpressionClock clock) {
+        return root.test(variables != null ? variables : Collections.emptyMap(), clock);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,100 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 조건식 내장 시간 변수(hour, minute, dayOfWeek, weekend) 공급자
+ */
+public interface ExpressionClock {
+
+    int hour();
+
+    int minute();
+
+    /**
+     * 요일 (1=월요일 ... 7=일요일)
+     */
+    int dayOfWeek();
+
+    /**
+     * 시스템 기본 시간대 시계 (분 단위로 값을 캐시)
+     */
+    static ExpressionClock system() {
+        return SystemClock.INSTANCE;
+    }
+
+    /**
+     * 고정 시각 (테스트/벤치마크용)
+     */
+    static ExpressionClock fixed(LocalDateTime time) {
+        int hour = time.getHour();
+        int minute = time.getMinute();
+        int dayOfWeek = time.getDayOfWeek().getValue();
+        return new ExpressionClock() {
+            @Override
+            public int hour() {
+                return hour;
+            }
+
+            @Override
+            public int minute() {
+                return minute;
+            }
+
+            @Override
+            public int dayOfWeek() {
+                return dayOfWeek;
+            }
+        };
+    }
+
+    /**
+     * 분 경계를 넘을 때만 시각을 다시 계산해 평가 경로에서 할당을 없앤다.
+     */
+    final class SystemClock implements ExpressionClock {
+
+        private static final SystemClock INSTANCE = new SystemClock(ZoneId.systemDefault());
+        private static final long MINUTE_MILLIS = 60_000L;
+
+        private final ZoneId zone;
+        private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, 0, 0, DayOfWeek.MONDAY.getValue());
+
+        private SystemClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public int hour() {
+            return current().hour;
+        }
+
+        @Override
+        public int minute() {
+            return current().minute;
+        }
+
+        @Override
+        public int dayOfWeek() {
+            return current().dayOfWeek;
+        }
+
+        private Snapshot current() {
+            long now = System.currentTimeMillis();
+            Snapshot current = snapshot;
+            if (now >= current.validUntil) {
+                ZonedDateTime time = Instant.ofEpochMilli(now).atZone(zone);
+                current = new Snapshot((now / MINUTE_MILLIS + 1) * MINUTE_MILLIS,
+                        time.getHour(), time.getMinute(), time.getDayOfWeek().getValue());
+                snapshot = current;
+            }
+            return current;
+        }
+
+        private record Snapshot(long validUntil, int hour, int minute, int dayOfWeek) {
+        }
+    }
+}
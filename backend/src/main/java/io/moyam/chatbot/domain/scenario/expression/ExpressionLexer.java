@@ -0,0 +1,191 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조건식 토크나이저
+ * 숫자, 문자열('..' / ".."), 식별자, ${변수}, 비교/논리 연산자, 괄호를 인식한다.
+ */
+final class ExpressionLexer {
+
+    enum Type {
+        NUMBER, STRING, IDENTIFIER, VARIABLE,
+        TRUE, FALSE, NULL,
+        EQ, NE, LT, LE, GT, GE,
+        AND, OR, NOT,
+        LPAREN, RPAREN,
+        EOF
+    }
+
+    record Token(Type type, String text, int position) {
+    }
+
+    private final String source;
+    private int pos;
+
+    private ExpressionLexer(String source) {
+        this.source = source;
+    }
+
+    static List<Token> tokenize(String source) {
+        return new ExpressionLexer(source).run();
+    }
+
+    private List<Token> run() {
+        List<Token> tokens = new ArrayList<>();
+        while (true) {
+            skipWhitespace();
+            if (pos >= source.length()) {
+                tokens.add(new Token(Type.EOF, "", pos));
+                return tokens;
+            }
+            tokens.add(next());
+        }
+    }
+
+    private Token next() {
+        int start = pos;
+        char c = source.charAt(pos);
+
+        if (c == '$' && peek(1) == '{') {
+            int end = source.indexOf('}', pos + 2);
+            if (end < 0) {
+                throw error("Unterminated variable reference", start);
+            }
+            String name = source.substring(pos + 2, end).trim();
+            if (name.isEmpty()) {
+                throw error("Empty variable reference", start);
+            }
+            pos = end + 1;
+            return new Token(Type.VARIABLE, name, start);
+        }
+        if (c == '\'' || c == '"') {
+            return string(c);
+        }
+        if (Character.isDigit(c) || (c == '-' && Character.isDigit(peek(1)))) {
+            return number();
+        }
+        if (Character.isLetter(c) || c == '_') {
+            return identifier();
+        }
+
+        pos++;
+        switch (c) {
+            case '(':
+                return new Token(Type.LPAREN, "(", start);
+            case ')':
+                return new Token(Type.RPAREN, ")", start);
+            case '=':
+                expect('=', start);
+                return new Token(Type.EQ, "==", start);
+            case '!':
+                if (match('=')) {
+                    return new Token(Type.NE, "!=", start);
+                }
+                return new Token(Type.NOT, "!", start);
+            case '<':
+                return match('=') ? new Token(Type.LE, "<=", start) : new Token(Type.LT, "<", start);
+            case '>':
+                return match('=') ? new Token(Type.GE, ">=", start) : new Token(Type.GT, ">", start);
+            case '&':
+                expect('&', start);
+                return new Token(Type.AND, "&&", start);
+            case '|':
+                expect('|', start);
+                return new Token(Type.OR, "||", start);
+            default:
+                throw error("Unexpected character '" + c + "'", start);
+        }
+    }
+
+    private Token string(char quote) {
+        int start = pos;
+        pos++;
+        StringBuilder value = new StringBuilder();
+        while (pos < source.length()) {
+            char c = source.charAt(pos++);
+            if (c == '\\' && pos < source.length()) {
+                value.append(source.charAt(pos++));
+            } else if (c == quote) {
+                return new Token(Type.STRING, value.toString(), start);
+            } else {
+                value.append(c);
+            }
+        }
+        throw error("Unterminated string literal", start);
+    }
+
+    private Token number() {
+        int start = pos;
+        pos++;
+        boolean dot = false;
+        while (pos < source.length()) {
+            char c = source.charAt(pos);
+            if (c == '.' && !dot && Character.isDigit(peek(1))) {
+                dot = true;
+            } else if (!Character.isDigit(c)) {
+                break;
+            }
+            pos++;
+        }
+        return new Token(Type.NUMBER, source.substring(start, pos), start);
+    }
+
+    private Token identifier() {
+        int start = pos;
+        while (pos < source.length()) {
+            char c = source.charAt(pos);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.') {
+                break;
+            }
+            pos++;
+        }
+        String text = source.substring(start, pos);
+        switch (text) {
+            case "true":
+                return new Token(Type.TRUE, text, start);
+            case "false":
+                return new Token(Type.FALSE, text, start);
+            case "null":
+                return new Token(Type.NULL, text, start);
+            case "and":
+                return new Token(Type.AND, text, start);
+            case "or":
+                return new Token(Type.OR, text, start);
+            case "not":
+                return new Token(Type.NOT, text, start);
+            default:
+                return new Token(Type.IDENTIFIER, text, start);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private char peek(int offset) {
+        int index = pos + offset;
+        return index < source.length() ? source.charAt(index) : '\0';
+    }
+
+    private boolean match(char expected) {
+        if (pos < source.length() && source.charAt(pos) == expected) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected, int start) {
+        if (!match(expected)) {
+            throw error("Expected '" + expected + "'", start);
+        }
+    }
+
+    private ExpressionSyntaxException error(String message, int position) {
+        return new ExpressionSyntaxException(message, source, position);
+    }
+}
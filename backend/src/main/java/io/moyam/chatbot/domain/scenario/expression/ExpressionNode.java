@@ -0,0 +1,286 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import java.util.Map;
+
+/**
+ * 조건식 AST 노드
+ * 평가 시 새 객체를 만들지 않도록 숫자는 double, 논리값은 boolean 으로 직접 반환한다.
+ */
+abstract class ExpressionNode {
+
+    enum ValueType {
+        BOOLEAN, NUMBER, STRING, ANY
+    }
+
+    abstract ValueType type();
+
+    abstract Object value(Map<String, ?> variables, ExpressionClock clock);
+
+    double number(Map<String, ?> variables, ExpressionClock clock) {
+        return Values.toDouble(value(variables, clock));
+    }
+
+    boolean test(Map<String, ?> variables, ExpressionClock clock) {
+        return Values.truthy(value(variables, clock));
+    }
+
+    /**
+     * 리터럴 (문자열, 숫자, true/false/null)
+     */
+    static final class Literal extends ExpressionNode {
+
+        private final Object value;
+        private final double number;
+        private final boolean truthy;
+        private final ValueType type;
+
+        Literal(Object value, ValueType type) {
+            this.value = value;
+            this.type = type;
+            this.number = Values.toDouble(value);
+            this.truthy = Values.truthy(value);
+        }
+
+        @Override
+        ValueType type() {
+            return type;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            return value;
+        }
+
+        @Override
+        double number(Map<String, ?> variables, ExpressionClock clock) {
+            return number;
+        }
+
+        @Override
+        boolean test(Map<String, ?> variables, ExpressionClock clock) {
+            return truthy;
+        }
+    }
+
+    /**
+     * 대화 변수 참조 (${name} 또는 내장 변수가 아닌 식별자)
+     */
+    static final class Variable extends ExpressionNode {
+
+        private final String name;
+
+        Variable(String name) {
+            this.name = name;
+        }
+
+        @Override
+        ValueType type() {
+            return ValueType.ANY;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            return variables.get(name);
+        }
+    }
+
+    /**
+     * 내장 시간 변수
+     */
+    static final class Builtin extends ExpressionNode {
+
+        enum Kind {
+            HOUR, MINUTE, DAY_OF_WEEK, WEEKEND
+        }
+
+        private final Kind kind;
+
+        Builtin(Kind kind) {
+            this.kind = kind;
+        }
+
+        static Builtin of(String name) {
+            switch (name) {
+                case "hour":
+                    return new Builtin(Kind.HOUR);
+                case "minute":
+                    return new Builtin(Kind.MINUTE);
+                case "dayOfWeek":
+                    return new Builtin(Kind.DAY_OF_WEEK);
+                case "weekend":
+                    return new Builtin(Kind.WEEKEND);
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        ValueType type() {
+            return kind == Kind.WEEKEND ? ValueType.BOOLEAN : ValueType.NUMBER;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            if (kind == Kind.WEEKEND) {
+                return test(variables, clock);
+            }
+            return Integer.valueOf((int) number(variables, clock));
+        }
+
+        @Override
+        double number(Map<String, ?> variables, ExpressionClock clock) {
+            switch (kind) {
+                case HOUR:
+                    return clock.hour();
+                case MINUTE:
+                    return clock.minute();
+                case DAY_OF_WEEK:
+                    return clock.dayOfWeek();
+                default:
+                    return Double.NaN;
+            }
+        }
+
+        @Override
+        boolean test(Map<String, ?> variables, ExpressionClock clock) {
+            if (kind == Kind.WEEKEND) {
+                return clock.dayOfWeek() >= 6;
+            }
+            return number(variables, clock) != 0;
+        }
+    }
+
+    /**
+     * 논리 부정
+     */
+    static final class Not extends ExpressionNode {
+
+        private final ExpressionNode operand;
+
+        Not(ExpressionNode operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        ValueType type() {
+            return ValueType.BOOLEAN;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            return test(variables, clock);
+        }
+
+        @Override
+        boolean test(Map<String, ?> variables, ExpressionClock clock) {
+            return !operand.test(variables, clock);
+        }
+    }
+
+    /**
+     * 단락 평가 논리 연산 (&&, ||)
+     */
+    static final class Logical extends ExpressionNode {
+
+        private final boolean and;
+        private final ExpressionNode left;
+        private final ExpressionNode right;
+
+        Logical(boolean and, ExpressionNode left, ExpressionNode right) {
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        ValueType type() {
+            return ValueType.BOOLEAN;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            return test(variables, clock);
+        }
+
+        @Override
+        boolean test(Map<String, ?> variables, ExpressionClock clock) {
+            if (and) {
+                return left.test(variables, clock) && right.test(variables, clock);
+            }
+            return left.test(variables, clock) || right.test(variables, clock);
+        }
+    }
+
+    /**
+     * 비교 연산 (==, !=, <, <=, >, >=)
+     */
+    static final class Comparison extends ExpressionNode {
+
+        enum Operator {
+            EQ, NE, LT, LE, GT, GE
+        }
+
+        private final Operator operator;
+        private final ExpressionNode left;
+        private final ExpressionNode right;
+        private final boolean numeric;
+
+        Comparison(Operator operator, ExpressionNode left, ExpressionNode right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.numeric = left.type() == ValueType.NUMBER || right.type() == ValueType.NUMBER;
+        }
+
+        @Override
+        ValueType type() {
+            return ValueType.BOOLEAN;
+        }
+
+        @Override
+        Object value(Map<String, ?> variables, ExpressionClock clock) {
+            return test(variables, clock);
+        }
+
+        @Override
+        boolean test(Map<String, ?> variables, ExpressionClock clock) {
+            switch (operator) {
+                case EQ:
+                    return equalTo(variables, clock);
+                case NE:
+                    return !equalTo(variables, clock);
+                default:
+                    return compare(left.number(variables, clock), right.number(variables, clock));
+            }
+        }
+
+        private boolean equalTo(Map<String, ?> variables, ExpressionClock clock) {
+            if (numeric) {
+                double l = left.number(variables, clock);
+                double r = right.number(variables, clock);
+                if (!Double.isNaN(l) && !Double.isNaN(r)) {
+                    return l == r;
+                }
+            }
+            return Values.looseEquals(left.value(variables, clock), right.value(variables, clock));
+        }
+
+        private boolean compare(double l, double r) {
+            if (Double.isNaN(l) || Double.isNaN(r)) {
+                return false;
+            }
+            switch (operator) {
+                case LT:
+                    return l < r;
+                case LE:
+                    return l <= r;
+                case GT:
+                    return l > r;
+                case GE:
+                    return l >= r;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import io.moyam.chatbot.domain.scenario.expression.ExpressionLexer.Token;
+import io.moyam.chatbot.domain.scenario.expression.ExpressionLexer.Type;
+import io.moyam.chatbot.domain.scenario.expression.ExpressionNode.ValueType;
+
+import java.util.List;
+
+/**
+ * 재귀 하강 파서
+ *
+ * <pre>
+ * or         := and ( '||' and )*
+ * and        := unary ( '&&' unary )*
+ * unary      := '!' unary | comparison
+ * comparison := primary ( ('=='|'!='|'<'|'<='|'>'|'>=') primary )?
+ * primary    := NUMBER | STRING | true | false | null | ${var} | IDENTIFIER | '(' or ')'
+ * </pre>
+ *
+ * 파싱 중에 피연산자 타입을 검사해 "'a' < 3" 같은 식은 컴파일 단계에서 거부한다.
+ */
+final class ExpressionParser {
+
+    private final String source;
+    private final List<Token> tokens;
+    private int index;
+
+    private ExpressionParser(String source) {
+        this.source = source;
+        this.tokens = ExpressionLexer.tokenize(source);
+    }
+
+    static ExpressionNode parse(String source) {
+        ExpressionParser parser = new ExpressionParser(source);
+        ExpressionNode root = parser.or();
+        Token trailing = parser.peek();
+        if (trailing.type() != Type.EOF) {
+            throw parser.error("Unexpected token '" + trailing.text() + "'", trailing);
+        }
+        if (root.type() == ValueType.NUMBER || root.type() == ValueType.STRING) {
+            throw new ExpressionSyntaxException("Condition must be a boolean expression", source, 0);
+        }
+        return root;
+    }
+
+    private ExpressionNode or() {
+        ExpressionNode left = and();
+        while (peek().type() == Type.OR) {
+            Token operator = advance();
+            left = new ExpressionNode.Logical(false, requireBoolean(left, operator), requireBoolean(and(), operator));
+        }
+        return left;
+    }
+
+    private ExpressionNode and() {
+        ExpressionNode left = unary();
+        while (peek().type() == Type.AND) {
+            Token operator = advance();
+            left = new ExpressionNode.Logical(true, requireBoolean(left, operator), requireBoolean(unary(), operator));
+        }
+        return left;
+    }
+
+    private ExpressionNode unary() {
+        if (peek().type() == Type.NOT) {
+            Token operator = advance();
+            return new ExpressionNode.Not(requireBoolean(unary(), operator));
+        }
+        return comparison();
+    }
+
+    private ExpressionNode comparison() {
+        ExpressionNode left = primary();
+        ExpressionNode.Comparison.Operator operator = comparisonOperator(peek().type());
+        if (operator == null) {
+            return left;
+        }
+
+        Token token = advance();
+        ExpressionNode right = primary();
+        if (operator != ExpressionNode.Comparison.Operator.EQ && operator != ExpressionNode.Comparison.Operator.NE) {
+            requireNumber(left, token);
+            requireNumber(right, token);
+        }
+        return new ExpressionNode.Comparison(operator, left, right);
+    }
+
+    private ExpressionNode primary() {
+        Token token = advance();
+        switch (token.type()) {
+            case NUMBER:
+                return new ExpressionNode.Literal(Double.valueOf(token.text()), ValueType.NUMBER);
+            case STRING:
+                return new ExpressionNode.Literal(token.text(), ValueType.STRING);
+            case TRUE:
+                return new ExpressionNode.Literal(Boolean.TRUE, ValueType.BOOLEAN);
+            case FALSE:
+                return new ExpressionNode.Literal(Boolean.FALSE, ValueType.BOOLEAN);
+            case NULL:
+                return new ExpressionNode.Literal(null, ValueType.ANY);
+            case VARIABLE:
+                return new ExpressionNode.Variable(token.text());
+            case IDENTIFIER: {
+                ExpressionNode builtin = ExpressionNode.Builtin.of(token.text());
+                return builtin != null ? builtin : new ExpressionNode.Variable(token.text());
+            }
+            case LPAREN: {
+                ExpressionNode inner = or();
+                Token closing = advance();
+                if (closing.type() != Type.RPAREN) {
+                    throw error("Expected ')'", closing);
+                }
+                return inner;
+            }
+            default:
+                throw error("Unexpected token '" + token.text() + "'", token);
+        }
+    }
+
+    private static ExpressionNode.Comparison.Operator comparisonOperator(Type type) {
+        switch (type) {
+            case EQ:
+                return ExpressionNode.Comparison.Operator.EQ;
+            case NE:
+                return ExpressionNode.Comparison.Operator.NE;
+            case LT:
+                return ExpressionNode.Comparison.Operator.LT;
+            case LE:
+                return ExpressionNode.Comparison.Operator.LE;
+            case GT:
+                return ExpressionNode.Comparison.Operator.GT;
+            case GE:
+                return ExpressionNode.Comparison.Operator.GE;
+            default:
+                return null;
+        }
+    }
+
+    private ExpressionNode requireBoolean(ExpressionNode node, Token operator) {
+        if (node.type() == ValueType.NUMBER || node.type() == ValueType.STRING) {
+            throw error("Operator '" + operator.text() + "' requires boolean operands", operator);
+        }
+        return node;
+    }
+
+    private void requireNumber(ExpressionNode node, Token operator) {
+        if (node.type() == ValueType.BOOLEAN || node.type() == ValueType.STRING) {
+            throw error("Operator '" + operator.text() + "' requires numeric operands", operator);
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(index);
+    }
+
+    private Token advance() {
+        Token token = tokens.get(index);
+        if (token.type() != Type.EOF) {
+            index++;
+        }
+        return token;
+    }
+
+    private ExpressionSyntaxException error(String message, Token token) {
+        return new ExpressionSyntaxException(message, source, token.position());
+    }
+}
@@ -0,0 +1,18 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+/**
+ * 조건식 문법 오류
+ */
+public class ExpressionSyntaxException extends IllegalArgumentException {
+
+    private final int position;
+
+    public ExpressionSyntaxException(String message, String expression, int position) {
+        super(message + " at " + position + ": " + expression);
+        this.position = position;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
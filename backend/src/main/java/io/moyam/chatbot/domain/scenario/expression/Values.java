@@ -0,0 +1,87 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+/**
+ * 조건식 값 변환 규칙
+ * 변수는 JSON/사용자 입력에서 오므로 숫자와 문자열을 느슨하게 비교한다.
+ */
+final class Values {
+
+    private Values() {
+    }
+
+    static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text && isNumeric(text)) {
+            return Double.parseDouble(text);
+        }
+        return Double.NaN;
+    }
+
+    static boolean truthy(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue() != 0;
+        }
+        if (value instanceof String text) {
+            return !text.isEmpty() && !"false".equalsIgnoreCase(text);
+        }
+        return true;
+    }
+
+    static boolean looseEquals(Object left, Object right) {
+        if (left == right) {
+            return true;
+        }
+        if (left == null || right == null) {
+            return false;
+        }
+        if (left instanceof String l && right instanceof String r) {
+            return l.equals(r);
+        }
+        if (left instanceof Number || right instanceof Number) {
+            double l = toDouble(left);
+            double r = toDouble(right);
+            if (!Double.isNaN(l) && !Double.isNaN(r)) {
+                return l == r;
+            }
+        }
+        if (left instanceof Boolean || right instanceof Boolean) {
+            return truthy(left) == truthy(right);
+        }
+        return left.toString().equals(right.toString());
+    }
+
+    /**
+     * -?digits(.digits)? 형식인지 확인 (NumberFormatException 비용 회피)
+     */
+    private static boolean isNumeric(String text) {
+        int length = text.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = text.charAt(0) == '-' ? 1 : 0;
+        if (i == length) {
+            return false;
+        }
+        boolean digits = false;
+        boolean dot = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+}
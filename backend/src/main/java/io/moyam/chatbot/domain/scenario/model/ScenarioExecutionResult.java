@@ -32,6 +32,12 @@ public class ScenarioExecutionResult {
      * 처리된 메시지 (변수 치환 완료)
      */
     private String processedMessage;
+
+    /**
+     * currentStep 보다 앞서 이번 턴에 자동으로 지나간 MESSAGE 단계 (표시 순서)
+     */
+    @Builder.Default
+    private List<StepMessage> precedingMessages = Collections.emptyList();
     
     /**
      * 에러 메시지 (에러 발생시만)
@@ -0,0 +1,51 @@
+package io.moyam.chatbot.domain.scenario.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 일괄 가져오기 문서 (JSON/YAML)
+ *
+ * <p>단계는 문서 안에서만 쓰는 번호(ref)로 서로를 가리킨다. nextStep 과 conditions 의
+ * next_step / default_step 은 ref 값이며, 저장 시 새로 발급한 단계 ID 로 바뀐다.
+ * ref 는 문서 전체에서 유일해야 하므로 다른 시나리오의 단계도 가리킬 수 있다.</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScenarioImport {
+    private Long botId;
+    private List<ScenarioDefinition> scenarios = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class ScenarioDefinition {
+        private String name;
+        private String description;
+        private Boolean isDefault;
+        private List<StepDefinition> steps = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class StepDefinition {
+        @JsonAlias("id")
+        private Long ref;                             // 문서 안 단계 번호 (기존 SQL 의 id 를 그대로 써도 됨)
+        private ScenarioStep.StepType stepType;
+        private String content;
+        private ScenarioStep.InputType inputType;
+        private Map<String, Object> conditions;
+        @JsonAlias("nextStepId")
+        private Long nextStep;                        // 다음 단계 ref
+        private Boolean isStartStep;                  // 없으면 시나리오의 첫 단계
+        private Integer orderIndex;                   // 없으면 문서 순서
+    }
+}
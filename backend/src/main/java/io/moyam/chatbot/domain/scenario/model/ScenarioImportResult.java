@@ -0,0 +1,18 @@
+package io.moyam.chatbot.domain.scenario.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 일괄 가져오기 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ScenarioImportResult {
+    private List<Long> scenarioIds;               // 문서 순서
+    private Map<Long, Long> stepIds;              // 단계 ref -> 새 단계 ID
+    private long elapsedMillis;
+}
@@ -0,0 +1,20 @@
+package io.moyam.chatbot.domain.scenario.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 한 턴에 자동으로 지나간 단계의 메시지 (변수 치환 완료)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepMessage {
+    private ScenarioStep step;
+    private String processedMessage;
+}
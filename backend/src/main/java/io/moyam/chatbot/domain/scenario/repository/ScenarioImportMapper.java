@@ -0,0 +1,37 @@
+package io.moyam.chatbot.domain.scenario.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 시나리오 일괄 저장
+ * 행 목록을 JSON 배열 하나로 넘겨 jsonb_to_recordset 으로 한 문장에 INSERT 한다.
+ * 한 문장이므로 단계 간 외래 키(next_step_id)는 순서와 관계없이 문장 끝에서 검사된다.
+ */
+@Mapper
+public interface ScenarioImportMapper {
+
+    /**
+     * 시퀀스에서 ID 미리 발급 (참조를 새 ID 로 바꾼 뒤 한 번에 저장하기 위함)
+     */
+    List<Long> allocateScenarioIds(@Param("count") int count);
+
+    List<Long> allocateStepIds(@Param("count") int count);
+
+    /**
+     * @param rows Scenario 목록 JSON (id, botId, name, description, isDefault)
+     */
+    int insertScenarios(@Param("rows") String rows);
+
+    /**
+     * @param rows ScenarioStep 목록 JSON
+     */
+    int insertSteps(@Param("rows") String rows);
+
+    /**
+     * scenarios.start_step_id 를 is_start_step 단계로 설정
+     */
+    int linkStartSteps(@Param("scenarioIds") List<Long> scenarioIds);
+}
@@ -18,4 +18,7 @@ public interface ScenarioMapper {
     List<Scenario> findByBotId(@Param("botId") Long botId);
     void update(Scenario scenario);
     void deleteById(@Param("id") Long id);
+
+    // 워밍업용
+    List<Scenario> findDefaults();
 }
\ No newline at end of file
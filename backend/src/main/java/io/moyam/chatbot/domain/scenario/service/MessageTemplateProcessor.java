@@ -1,27 +1,61 @@
 package io.moyam.chatbot.domain.scenario.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.scenario.engine.CompiledStep;
+import io.moyam.chatbot.domain.scenario.template.CompiledTemplate;
+import io.moyam.chatbot.domain.scenario.template.TemplateVariableResolver;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 메시지 템플릿 처리기
  * ${variable} 형태의 변수를 실제 값으로 치환
+ *
+ * <p>시나리오 단계 템플릿은 그래프 컴파일 시 한 번 파싱되어 단계별로 보관되고,
+ * 시스템 변수(today, now 등)는 템플릿이 참조할 때만 계산한다.</p>
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class MessageTemplateProcessor {
     
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+    private static final DateTimeFormatter TODAY_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+    private static final DateTimeFormatter NOW_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    
+    /**
+     * 단계에 속하지 않는 템플릿용 캐시
+     */
+    private final Cache<String, CompiledTemplate> templateCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .build();
+    
+    private final TemplateVariableResolver variableResolver = this::resolveVariable;
+    
+    private final ScenarioMetrics metrics;
+    
+    /**
+     * 시나리오 단계 템플릿 처리 (단계별로 미리 파싱된 템플릿 사용)
+     */
+    public String processTemplate(CompiledStep step, ConversationContext context) {
+        String content = step.getStep().getContent();
+        if (content == null || content.trim().isEmpty()) {
+            return "";
+        }
+        long start = metrics.start();
+        String rendered = render(step.getTemplate(), context);
+        metrics.recordTemplate(start, step);
+        return rendered;
+    }
     
     /**
      * 템플릿 문자열의 변수를 실제 값으로 치환
@@ -30,104 +64,68 @@ public class MessageTemplateProcessor {
         if (template == null || template.trim().isEmpty()) {
             return "";
         }
-        
+        return render(templateCache.get(template, CompiledTemplate::parse), context);
+    }
+    
+    private String render(CompiledTemplate template, ConversationContext context) {
         try {
-            // 모든 변수 수집
-            Map<String, Object> allVariables = collectAllVariables(context);
-            
-            log.debug("Processing template: {}", template);
-            log.debug("Available variables: {}", allVariables);
-            
-            // 변수 치환
-            String result = template;
-            Matcher matcher = VARIABLE_PATTERN.matcher(template);
-            
-            while (matcher.find()) {
-                String variableName = matcher.group(1);
-                String placeholder = "${" + variableName + "}";
-                
-                Object value = allVariables.get(variableName);
-                String replacementValue = value != null ? String.valueOf(value) : getDefaultValue(variableName);
-                
-                log.debug("Replacing {} with {}", placeholder, replacementValue);
-                result = result.replace(placeholder, replacementValue);
-            }
-            
-            log.debug("Template processed result: {}", result);
-            return result;
-            
+            return template.render(context, variableResolver);
         } catch (Exception e) {
-            log.error("Error processing template: {}", template, e);
-            return template; // 오류 시 원본 반환
+            log.error("Error processing template: {}", template.getSource(), e);
+            return template.getSource(); // 오류 시 원본 반환
         }
     }
     
     /**
-     * 모든 사용 가능한 변수 수집
+     * 변수 값 해석
+     * 동적 시스템 변수 > 컨텍스트 시스템 변수 > 사용자 변수 순으로 적용
      */
-    private Map<String, Object> collectAllVariables(ConversationContext context) {
-        Map<String, Object> allVariables = new HashMap<>();
-        
-        // 1. 사용자 변수 추가
-        if (context.getVariables() != null) {
-            allVariables.putAll(context.getVariables());
-        }
-        
-        // 2. 시스템 변수 추가
-        if (context.getSystemVariables() != null) {
-            allVariables.putAll(context.getSystemVariables());
+    private String resolveVariable(String variableName, ConversationContext context) {
+        switch (variableName) {
+            // 날짜/시간 변수
+            case "today":
+                return LocalDate.now().format(TODAY_FORMAT);
+            case "now":
+                return LocalTime.now().format(NOW_FORMAT);
+            case "hour":
+                return String.valueOf(LocalTime.now().getHour());
+            case "dayOfWeek":
+                return LocalDate.now().getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.KOREAN);
+            // 사용자 정보
+            case "userName":
+                return getUserName(context);
+            case "userType":
+                return getUserType(context);
+            // 세션 정보
+            case "sessionId":
+                return valueOrDefault(variableName,
+                        context.getVariables() != null ? context.getVariables().get("sessionId") : null);
+            default:
+                return valueOrDefault(variableName, lookupVariable(variableName, context));
         }
-        
-        // 3. 동적 시스템 변수 생성
-        allVariables.putAll(getSystemVariables(context));
-        
-        return allVariables;
     }
     
-    /**
-     * 시스템 변수 생성
-     */
-    private Map<String, Object> getSystemVariables(ConversationContext context) {
-        Map<String, Object> systemVars = new HashMap<>();
-        
-        // 날짜/시간 변수
-        LocalDateTime now = LocalDateTime.now();
-        systemVars.put("today", now.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")));
-        systemVars.put("now", now.format(DateTimeFormatter.ofPattern("HH:mm")));
-        systemVars.put("hour", now.getHour());
-        systemVars.put("dayOfWeek", now.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.KOREAN));
-        
-        // 사용자 정보
-        systemVars.put("userName", getUserName(context));
-        systemVars.put("userType", getUserType(context));
-        
-        // 세션 정보
-        if (context.getVariables() != null) {
-            systemVars.put("sessionId", context.getVariables().get("sessionId"));
+    private Object lookupVariable(String variableName, ConversationContext context) {
+        Map<String, Object> systemVariables = context.getSystemVariables();
+        if (systemVariables != null && systemVariables.containsKey(variableName)) {
+            return systemVariables.get(variableName);
         }
-        
-        return systemVars;
+        Map<String, Object> variables = context.getVariables();
+        return variables != null ? variables.get(variableName) : null;
     }
     
     private String getUserName(ConversationContext context) {
-        log.debug("Getting userName from context...");
-        log.debug("Context userName field: {}", context.getUserName());
-        log.debug("Context variables: {}", context.getVariables());
-        
         if (context.getUserName() != null && !context.getUserName().trim().isEmpty()) {
-            log.debug("Using userName from context field: {}", context.getUserName());
             return context.getUserName();
         }
         
         if (context.getVariables() != null) {
             Object userName = context.getVariables().get("userName");
             if (userName != null && !userName.toString().trim().isEmpty()) {
-                log.debug("Using userName from variables: {}", userName);
                 return userName.toString();
             }
         }
         
-        log.debug("No userName found, using default: 사용자");
         return "사용자";
     }
     
@@ -146,18 +144,7 @@ public class MessageTemplateProcessor {
         return "basic";
     }
     
-    private String getDefaultValue(String variableName) {
-        switch (variableName) {
-            case "userName":
-                return "사용자";
-            case "userType":
-                return "basic";
-            case "today":
-                return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일"));
-            case "now":
-                return LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
-            default:
-                return "{" + variableName + "}";
-        }
+    private String valueOrDefault(String variableName, Object value) {
+        return value != null ? String.valueOf(value) : "{" + variableName + "}";
     }
 }
@@ -0,0 +1,281 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImport;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImport.ScenarioDefinition;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImport.StepDefinition;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImportResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioImportMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 시나리오 그래프 일괄 가져오기
+ *
+ * <p>문서 전체를 검증한 뒤 시퀀스에서 ID 를 한 번에 발급받아 단계 참조(nextStep, next_step, default_step)를
+ * 새 ID 로 바꾸고, scenarios 와 scenario_steps 를 각각 한 문장으로 저장한다. 모두 한 트랜잭션이며
+ * 커밋 후 시나리오별로 그래프를 발행한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScenarioImportService {
+
+    private static final int MAX_ERRORS = 20;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final ObjectMapper objectMapper;
+    private final ScenarioImportMapper importMapper;
+    private final BotMapper botMapper;
+    private final ScenarioPublisher scenarioPublisher;
+
+    private final ObjectMapper yamlMapper = YAMLMapper.builder().findAndAddModules().build();
+
+    /**
+     * 요청 본문 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public ScenarioImport parse(byte[] body, boolean yaml) {
+        try {
+            return (yaml ? yamlMapper : objectMapper).readValue(body, ScenarioImport.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid scenario document: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검증 후 일괄 저장
+     *
+     * @throws IllegalArgumentException 검증 실패 (아무것도 저장하지 않음)
+     */
+    @Transactional
+    public ScenarioImportResult importScenarios(ScenarioImport document) {
+        long start = System.nanoTime();
+        List<String> errors = validate(document);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid scenario import: " + String.join("; ", errors));
+        }
+
+        List<ScenarioDefinition> definitions = document.getScenarios();
+        int stepCount = definitions.stream().mapToInt(definition -> definition.getSteps().size()).sum();
+        List<Long> scenarioIds = importMapper.allocateScenarioIds(definitions.size());
+        List<Long> stepIds = importMapper.allocateStepIds(stepCount);
+
+        Map<Long, Long> idsByRef = new LinkedHashMap<>(stepCount * 2);
+        int next = 0;
+        for (ScenarioDefinition definition : definitions) {
+            for (StepDefinition step : definition.getSteps()) {
+                idsByRef.put(step.getRef(), stepIds.get(next++));
+            }
+        }
+
+        List<Scenario> scenarios = new ArrayList<>(definitions.size());
+        List<ScenarioStep> steps = new ArrayList<>(stepCount);
+        for (int i = 0; i < definitions.size(); i++) {
+            ScenarioDefinition definition = definitions.get(i);
+            Long scenarioId = scenarioIds.get(i);
+            scenarios.add(Scenario.builder()
+                    .id(scenarioId)
+                    .botId(document.getBotId())
+                    .name(definition.getName())
+                    .description(definition.getDescription())
+                    .isDefault(Boolean.TRUE.equals(definition.getIsDefault()))
+                    .build());
+
+            List<ScenarioStep> scenarioSteps = toSteps(scenarioId, definition, idsByRef);
+            compile(scenarioId, definition, scenarioSteps, errors);
+            steps.addAll(scenarioSteps);
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("Invalid scenario import: " + String.join("; ", errors));
+        }
+
+        importMapper.insertScenarios(toJson(scenarios));
+        importMapper.insertSteps(toJson(steps));
+        importMapper.linkStartSteps(scenarioIds);
+        scenarioIds.forEach(scenarioPublisher::publishAfterCommit);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} scenarios with {} steps for bot {} in {} ms",
+                scenarios.size(), steps.size(), document.getBotId(), elapsedMillis);
+        return new ScenarioImportResult(scenarioIds, idsByRef, elapsedMillis);
+    }
+
+    /**
+     * 문서 검증 (오류 메시지 목록, 비어 있으면 통과)
+     */
+    List<String> validate(ScenarioImport document) {
+        List<String> errors = new ArrayList<>();
+        if (document == null || document.getBotId() == null) {
+            errors.add("botId is required");
+            return errors;
+        }
+        if (botMapper.findById(document.getBotId()).isEmpty()) {
+            errors.add("bot " + document.getBotId() + " not found");
+        }
+        if (document.getScenarios() == null || document.getScenarios().isEmpty()) {
+            errors.add("at least one scenario is required");
+            return errors;
+        }
+
+        Set<Long> refs = new HashSet<>();
+        for (int i = 0; i < document.getScenarios().size(); i++) {
+            ScenarioDefinition scenario = document.getScenarios().get(i);
+            String where = "scenarios[" + i + "]";
+            if (scenario.getName() == null || scenario.getName().isBlank()) {
+                addError(errors, where + ": name is required");
+            } else if (scenario.getName().length() > MAX_NAME_LENGTH) {
+                addError(errors, where + ": name is longer than " + MAX_NAME_LENGTH);
+            }
+            if (scenario.getSteps() == null || scenario.getSteps().isEmpty()) {
+                addError(errors, where + ": at least one step is required");
+                scenario.setSteps(new ArrayList<>());
+                continue;
+            }
+
+            long startSteps = scenario.getSteps().stream().filter(step -> Boolean.TRUE.equals(step.getIsStartStep())).count();
+            if (startSteps > 1) {
+                addError(errors, where + ": more than one start step");
+            }
+            for (StepDefinition step : scenario.getSteps()) {
+                String stepWhere = where + ".step " + step.getRef();
+                if (step.getRef() == null) {
+                    addError(errors, where + ": step ref is required");
+                } else if (!refs.add(step.getRef())) {
+                    addError(errors, stepWhere + ": duplicate ref");
+                }
+                if (step.getStepType() == null) {
+                    addError(errors, stepWhere + ": stepType is required");
+                }
+                if (step.getContent() == null || step.getContent().isBlank()) {
+                    addError(errors, stepWhere + ": content is required");
+                }
+            }
+        }
+
+        // 참조 대상은 문서 안의 단계여야 함
+        for (ScenarioDefinition scenario : document.getScenarios()) {
+            for (StepDefinition step : scenario.getSteps()) {
+                String stepWhere = "step " + step.getRef();
+                if (step.getNextStep() != null && !refs.contains(step.getNextStep())) {
+                    addError(errors, stepWhere + ": nextStep " + step.getNextStep() + " not found");
+                }
+                rewriteRefs(step.getConditions(), ref -> {
+                    if (!refs.contains(ref)) {
+                        addError(errors, stepWhere + ": conditions refer to unknown step " + ref);
+                    }
+                    return ref;
+                }, value -> addError(errors, stepWhere + ": step reference must be a number: " + value));
+            }
+        }
+        return errors;
+    }
+
+    private List<ScenarioStep> toSteps(Long scenarioId, ScenarioDefinition definition, Map<Long, Long> idsByRef) {
+        List<StepDefinition> definitions = definition.getSteps();
+        boolean hasStart = definitions.stream().anyMatch(step -> Boolean.TRUE.equals(step.getIsStartStep()));
+
+        List<ScenarioStep> steps = new ArrayList<>(definitions.size());
+        for (int i = 0; i < definitions.size(); i++) {
+            StepDefinition step = definitions.get(i);
+            steps.add(ScenarioStep.builder()
+                    .id(idsByRef.get(step.getRef()))
+                    .scenarioId(scenarioId)
+                    .stepType(step.getStepType())
+                    .content(step.getContent())
+                    .inputType(step.getInputType())
+                    .conditions(rewriteRefs(step.getConditions(), idsByRef::get, value -> { }))
+                    .nextStepId(step.getNextStep() != null ? idsByRef.get(step.getNextStep()) : null)
+                    .isStartStep(hasStart ? Boolean.TRUE.equals(step.getIsStartStep()) : i == 0)
+                    .orderIndex(step.getOrderIndex() != null ? step.getOrderIndex() : i + 1)
+                    .build());
+        }
+        return steps;
+    }
+
+    /**
+     * 저장 전에 그래프로 컴파일해 템플릿/조건식 오류와 정적 분석 오류(입력 없는 순환 등)를 확인
+     */
+    private void compile(Long scenarioId, ScenarioDefinition definition, List<ScenarioStep> steps, List<String> errors) {
+        try {
+            CompiledScenario.compile(scenarioId, steps).getAnalysis().errors()
+                    .forEach(issue -> addError(errors, "scenario '" + definition.getName() + "': " + issue.message()));
+        } catch (RuntimeException e) {
+            addError(errors, "scenario '" + definition.getName() + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * 조건의 단계 참조를 바꾼 복사본 (choices[].next_step, rules[].next_step, default_step)
+     *
+     * @param invalid 숫자가 아닌 참조 값 처리
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> rewriteRefs(Map<String, Object> conditions, UnaryOperator<Long> mapper,
+                                                   Consumer<Object> invalid) {
+        if (conditions == null) {
+            return null;
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(conditions);
+        rewriteRef(copy, "default_step", mapper, invalid);
+        for (String listKey : List.of("choices", "rules")) {
+            if (copy.get(listKey) instanceof List<?> items) {
+                List<Object> rewritten = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    if (item instanceof Map<?, ?> map) {
+                        Map<String, Object> entry = new LinkedHashMap<>((Map<String, Object>) map);
+                        rewriteRef(entry, "next_step", mapper, invalid);
+                        rewritten.add(entry);
+                    } else {
+                        rewritten.add(item);
+                    }
+                }
+                copy.put(listKey, rewritten);
+            }
+        }
+        return copy;
+    }
+
+    private static void rewriteRef(Map<String, Object> map, String key, UnaryOperator<Long> mapper,
+                                   Consumer<Object> invalid) {
+        Object value = map.get(key);
+        if (value instanceof Number number) {
+            map.put(key, mapper.apply(number.longValue()));
+        } else if (value != null) {
+            invalid.accept(value);
+        }
+    }
+
+    private String toJson(List<?> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize import rows", e);
+        }
+    }
+
+    private static void addError(List<String> errors, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.scenario.engine.CompiledStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 실행 메트릭 (/actuator/prometheus)
+ *
+ * <ul>
+ *   <li>chatbot.scenario.turn: 턴 처리 시간 (scenario, step_type, outcome)</li>
+ *   <li>chatbot.scenario.condition: 조건 평가 시간 (scenario, condition_type, matched)</li>
+ *   <li>chatbot.scenario.template: 템플릿 렌더링 시간 (scenario, step_type)</li>
+ *   <li>chatbot.scenario.validation.failures / commands / errors: 카운터</li>
+ *   <li>chatbot.scenario.auto_advanced: 입력 없이 이어서 지나간 MESSAGE 단계 수 (scenario)</li>
+ *   <li>chatbot.sessions.active: 컨텍스트 저장소에 보관 중인 세션 수 (jdbc/events 저장소는 COUNT 쿼리이므로
+ *       {@value #ACTIVE_SESSIONS_REFRESH_SECONDS}초마다 한 번만 다시 센다)</li>
+ * </ul>
+ *
+ * 태그 값은 시나리오/단계 유형처럼 개수가 제한된 값만 사용한다. 미터는 태그 조합별로 한 번만 등록해 재사용한다.
+ */
+@Component
+@Slf4j
+public class ScenarioMetrics {
+
+    private static final String UNKNOWN = "unknown";
+    private static final long ACTIVE_SESSIONS_REFRESH_SECONDS = 30;
+
+    private final MeterRegistry registry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public ScenarioMetrics(MeterRegistry registry, ConversationContextStore contextStore) {
+        this.registry = registry;
+        Gauge.builder("chatbot.sessions.active", new ActiveSessions(contextStore), ActiveSessions::get)
+                .description("Conversation contexts held in the context store")
+                .register(registry);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 턴 처리 시간 (outcome: success | error)
+     */
+    public void recordTurn(long startNanos, CompiledStep step, String outcome) {
+        timer("chatbot.scenario.turn", Duration.ofMillis(1), Duration.ofSeconds(10),
+                "scenario", scenario(step), "step_type", stepType(step), "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCondition(long startNanos, CompiledStep step, boolean matched) {
+        String conditionType = step.getConditionType() != null ? step.getConditionType() : "none";
+        timer("chatbot.scenario.condition", Duration.ofNanos(10_000), Duration.ofSeconds(1),
+                "scenario", scenario(step), "condition_type", conditionType, "matched", String.valueOf(matched))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTemplate(long startNanos, CompiledStep step) {
+        timer("chatbot.scenario.template", Duration.ofNanos(10_000), Duration.ofSeconds(1),
+                "scenario", scenario(step), "step_type", stepType(step))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void validationFailed(CompiledStep step) {
+        counter("chatbot.scenario.validation.failures", "scenario", scenario(step), "step_type", stepType(step))
+                .increment();
+    }
+
+    /**
+     * 공통 명령어(메뉴, 처음, 도움말, 종료 등) 사용
+     */
+    public void commandUsed(String command) {
+        counter("chatbot.scenario.commands", "command", command).increment();
+    }
+
+    /**
+     * 한 턴에 입력 없이 이어서 지나간 단계 수
+     */
+    public void autoAdvanced(CompiledStep step, int steps) {
+        counter("chatbot.scenario.auto_advanced", "scenario", scenario(step)).increment(steps);
+    }
+
+    /**
+     * 오류 결과 반환 (reason: invalid_step | exception | no_start_step ...)
+     */
+    public void errorResult(CompiledStep step, String reason) {
+        counter("chatbot.scenario.errors", "scenario", scenario(step), "reason", reason).increment();
+    }
+
+    private Timer timer(String name, Duration min, Duration max, String... tags) {
+        return timers.computeIfAbsent(new MeterKey(name, tags), key -> Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(min)
+                .maximumExpectedValue(max)
+                .register(registry));
+    }
+
+    private Counter counter(String name, String... tags) {
+        return counters.computeIfAbsent(new MeterKey(name, tags), key -> Counter.builder(name)
+                .tags(tags)
+                .register(registry));
+    }
+
+    private static String scenario(CompiledStep step) {
+        return step != null && step.getScenarioId() != null ? String.valueOf(step.getScenarioId()) : UNKNOWN;
+    }
+
+    private static String stepType(CompiledStep step) {
+        return step != null && step.getStep().getStepType() != null ? step.getStep().getStepType().name() : UNKNOWN;
+    }
+
+    /**
+     * 세션 수를 주기적으로만 다시 세는 게이지 값 (스크레이프마다 저장소를 조회하지 않음)
+     * 조회에 실패하면 직전 값을 유지한다.
+     */
+    private static final class ActiveSessions {
+
+        private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(ACTIVE_SESSIONS_REFRESH_SECONDS);
+
+        private final ConversationContextStore contextStore;
+        private long value;
+        private long refreshedAt;
+        private boolean loaded;
+
+        private ActiveSessions(ConversationContextStore contextStore) {
+            this.contextStore = contextStore;
+        }
+
+        synchronized double get() {
+            long now = System.nanoTime();
+            if (!loaded || now - refreshedAt >= REFRESH_NANOS) {
+                refreshedAt = now;
+                loaded = true;
+                try {
+                    value = contextStore.size();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to count active sessions: {}", e.getMessage());
+                }
+            }
+            return value;
+        }
+    }
+
+    private record MeterKey(String name, List<String> tags) {
+        MeterKey(String name, String[] tags) {
+            this(name, List.of(tags));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 시나리오 그래프 발행기
+ * 시나리오/단계 수정이 커밋된 뒤 새 버전 그래프를 발행하고,
+ * 해당 시나리오의 scenarioSteps 캐시 항목만 골라서 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScenarioPublisher {
+
+    static final String STEP_CACHE = "scenarioSteps";
+
+    private final ScenarioGraphRegistry graphRegistry;
+    private final CacheManager cacheManager;
+
+    /**
+     * 새 버전 즉시 발행
+     */
+    public CompiledScenario publish(Long scenarioId) {
+        CompiledScenario previous = graphRegistry.getPublished(scenarioId);
+        CompiledScenario published = graphRegistry.publish(scenarioId);
+        evictSteps(scenarioId, previous, published);
+        return published;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 발행 (트랜잭션 밖이면 즉시)
+     */
+    public void publishAfterCommit(Long scenarioId) {
+        afterCommit(() -> publish(scenarioId));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 시나리오 내리기 (삭제 시)
+     */
+    public void unpublishAfterCommit(Long scenarioId) {
+        afterCommit(() -> evictSteps(scenarioId, graphRegistry.unpublish(scenarioId), null));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    log.error("Failed to publish scenario graph after commit: {}", e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 이전/새 그래프에 속한 단계의 캐시 키만 무효화 (stepId, next_{stepId}, start_{scenarioId})
+     */
+    private void evictSteps(Long scenarioId, CompiledScenario... graphs) {
+        Cache cache = cacheManager.getCache(STEP_CACHE);
+        if (cache == null) {
+            return;
+        }
+        cache.evict("start_" + scenarioId);
+        for (CompiledScenario graph : graphs) {
+            if (graph == null) {
+                continue;
+            }
+            for (int i = 0; i < graph.size(); i++) {
+                Long stepId = graph.getStepAt(i).getId();
+                cache.evict(stepId);
+                cache.evict("next_" + stepId);
+            }
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package io.moyam.chatbot.domain.scenario.service;
 
+import io.moyam.chatbot.config.ScenarioProperties;
 import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.engine.CompiledStep;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
 import io.moyam.chatbot.domain.scenario.model.*;
 import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
 import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
@@ -8,16 +14,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -25,17 +32,32 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class ScenarioService {
 
+    /**
+     * 동시 갱신으로 컨텍스트 저장이 거부될 때 턴을 다시 처리하는 최대 횟수
+     */
+    private static final int MAX_TURN_ATTEMPTS = 3;
+
     private final ScenarioMapper scenarioMapper;
     private final ScenarioStepMapper scenarioStepMapper;
     private final ConditionEvaluator conditionEvaluator;
     private final MessageTemplateProcessor templateProcessor;
     private final VariableCollector variableCollector;
-    
-    private final Map<String, ConversationContext> conversationContexts = new ConcurrentHashMap<>();
+    private final ScenarioGraphRegistry graphRegistry;
+    private final ConversationContextStore contextStore;
+    private final ScenarioMetrics metrics;
+    private final ScenarioPublisher scenarioPublisher;
+    private final ScenarioProperties scenarioProperties;
+
+    /**
+     * DB 저장소일 때 턴 시도마다 여는 읽기/쓰기 트랜잭션
+     */
+    private final TransactionOperations transactionOperations;
 
     /**
      * 시나리오 시작
+     * 컨텍스트 삭제와 첫 턴은 각각 자기 트랜잭션에서 처리한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ScenarioExecutionResult startScenario(String sessionId, Long scenarioId) {
         try {
             log.info("Starting scenario {} for session {}", scenarioId, sessionId);
@@ -50,40 +72,101 @@ public class ScenarioService {
             return executeStep(sessionId, startStep.getId(), null);
         } catch (Exception e) {
             log.error("Error starting scenario {} for session {}", scenarioId, sessionId, e);
+            metrics.errorResult(null, "start_failed");
             return createErrorResult("시나리오를 시작할 수 없습니다. 다시 시도해주세요.");
         }
     }
 
     /**
      * 시나리오 단계 실행 (고도화된 버전)
+     * 턴마다 컨텍스트를 한 번 읽고 한 번 저장한다. DB 저장소는 시도마다 읽기/쓰기 트랜잭션을 열고,
+     * 다른 노드가 먼저 저장했으면 그 시도를 롤백한 뒤 새 트랜잭션에서 최신 컨텍스트를 다시 읽어 처리한다.
+     * 메모리 저장소는 트랜잭션을 열지 않는다 (턴이 커넥션 풀을 쓰지 않음).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ScenarioExecutionResult executeStep(String sessionId, Long stepId, String userInput) {
-        try {
-            // 1. 현재 단계 조회
-            ScenarioStep currentStep = getScenarioStepSafely(stepId);
-            if (currentStep == null) {
-                return createErrorResult("올바르지 않은 단계입니다. 처음부터 다시 시작해주세요.");
+        long start = metrics.start();
+        if (isEndCommand(userInput)) {
+            return endConversation(sessionId, userInput, start);
+        }
+
+        TransactionOperations turn = contextStore.isTransactional()
+                ? transactionOperations : TransactionOperations.withoutTransaction();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return turn.execute(status -> executeTurn(sessionId, stepId, userInput, start));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt < MAX_TURN_ATTEMPTS) {
+                    log.debug("Context for session {} changed concurrently, retrying turn ({}/{})",
+                            sessionId, attempt, MAX_TURN_ATTEMPTS);
+                    continue;
+                }
+                log.warn("Giving up turn for session {} after {} concurrent context updates", sessionId, attempt);
+                metrics.errorResult(null, "context_conflict");
+                ScenarioExecutionResult result = createErrorResult("요청이 동시에 처리되고 있습니다. 잠시 후 다시 시도해주세요.");
+                metrics.recordTurn(start, null, "error");
+                return result;
             }
+        }
+    }
+
+    /**
+     * 턴 한 번 시도 (컨텍스트 조회 → 실행 → 저장)
+     *
+     * @throws OptimisticLockingFailureException 다른 노드가 먼저 컨텍스트를 저장한 경우
+     */
+    private ScenarioExecutionResult executeTurn(String sessionId, Long stepId, String userInput, long start) {
+        // 1. 컨텍스트 조회
+        ConversationContext context = contextStore.get(sessionId);
+
+        // 2. 현재 단계 조회 (컴파일된 그래프, 진행 중인 대화는 고정된 버전)
+        CompiledStep current = getScenarioStepSafely(context, stepId);
+        if (current == null) {
+            metrics.errorResult(null, "invalid_step");
+            return createErrorResult("올바르지 않은 단계입니다. 처음부터 다시 시작해주세요.");
+        }
+
+        ScenarioExecutionResult result = executeStep(sessionId, current, context, userInput);
+        saveContext(sessionId, result);
+        metrics.recordTurn(start, current, result.getErrorMessage() == null ? "success" : "error");
+        return result;
+    }
+
+    /**
+     * 턴 결과 컨텍스트 저장 (대화 종료 등 컨텍스트가 없는 결과는 저장하지 않음)
+     */
+    private void saveContext(String sessionId, ScenarioExecutionResult result) {
+        if (result.getContext() != null) {
+            contextStore.put(sessionId, result.getContext());
+        }
+    }
+
+    private ScenarioExecutionResult executeStep(String sessionId, CompiledStep current,
+                                                ConversationContext existing, String userInput) {
+        try {
+            ScenarioStep currentStep = current.getStep();
 
-            // 2. 컨텍스트 조회/생성
-            ConversationContext context = getOrCreateContext(sessionId, currentStep);
+            // 3. 컨텍스트 생성 (처음 들어온 세션)
+            ConversationContext context = existing != null ? existing : getOrCreateContext(sessionId, current);
 
-            // 3. 변수 수집 (사용자 입력이 있는 경우)
+            // 4. 변수 수집 (사용자 입력이 있는 경우)
             if (userInput != null && !userInput.trim().isEmpty()) {
                 // 공통 명령어 처리
                 if (isCommonCommand(userInput)) {
+                    metrics.commandUsed(userInput.toLowerCase());
                     return handleCommonCommand(sessionId, userInput, context);
                 }
                 
                 log.debug("Processing user input '{}' for step {}", userInput, currentStep.getId());
                 
                 // 변수 수집 및 검증
-                boolean hasVariableMapping = hasVariableMapping(currentStep);
+                boolean hasVariableMapping = current.hasVariableMapping();
                 log.debug("Step {} has variable mapping: {}", currentStep.getId(), hasVariableMapping);
                 
                 if (hasVariableMapping) {
-                    if (!variableCollector.collectVariable(currentStep, userInput, context)) {
-                        String validationMessage = variableCollector.getValidationMessage(currentStep);
+                    if (!variableCollector.collectVariable(current, userInput, context)) {
+                        metrics.validationFailed(current);
+                        String validationMessage = variableCollector.getValidationMessage(current);
                         return createRetryResult(currentStep, validationMessage);
                     }
                     
@@ -92,64 +175,25 @@ public class ScenarioService {
                     
                     // 변수 수집 후 자동으로 다음 단계로 진행 (variable_mapping이 있는 경우)
                     if (currentStep.getNextStepId() != null) {
-                        ScenarioStep nextStep = getScenarioStepSafely(currentStep.getNextStepId());
-                        if (nextStep != null) {
-                            log.debug("Auto-advancing to next step {} after variable collection", nextStep.getId());
-                            
-                            // 컨텍스트 업데이트
-                            context.setCurrentStepId(nextStep.getId());
-                            context.setLastInteraction(LocalDateTime.now());
-                            if (context.getVisitedSteps() == null) {
-                                context.setVisitedSteps(new java.util.ArrayList<>());
-                            }
-                            context.getVisitedSteps().add(currentStep.getId().toString());
-                            context.getVariables().put("lastInput", userInput.trim());
-
-                            // 업데이트된 컨텍스트로 템플릿 처리
-                            String processedMessage = templateProcessor.processTemplate(nextStep.getContent(), context);
-                            List<ChoiceOption> choices = conditionEvaluator.extractChoices(nextStep);
-
-                            log.debug("Next step message processed: {}", processedMessage);
-
-                            return ScenarioExecutionResult.builder()
-                                .currentStep(nextStep)
-                                .nextStep(null) // 자동 진행 완료
-                                .context(context)
-                                .isCompleted(false)
-                                .choices(choices)
-                                .processedMessage(processedMessage)
-                                .build();
+                        CompiledStep next = graphRegistry.resolve(current.getNext());
+                        if (next != null) {
+                            log.debug("Auto-advancing to next step {} after variable collection", next.getId());
+                            updateContext(context, currentStep, next.getStep(), userInput);
+                            return advanceThroughPassThroughSteps(next, context);
                         }
                     }
                 } else {
                     // 변수 수집이 아닌 경우: 조건 평가 수행
-                    ScenarioStep nextStep = conditionEvaluator.evaluateConditions(currentStep, userInput, context);
+                    CompiledStep next = conditionEvaluator.evaluateConditions(current, userInput, context);
 
-                    if (nextStep != null) {
+                    if (next != null) {
                         // 다음 단계로 바로 진행
-                        context.setCurrentStepId(nextStep.getId());
-                        context.setLastInteraction(LocalDateTime.now());
-                        if (context.getVisitedSteps() == null) {
-                            context.setVisitedSteps(new java.util.ArrayList<>());
-                        }
-                        context.getVisitedSteps().add(currentStep.getId().toString());
-                        context.getVariables().put("lastInput", userInput.trim());
-
-                        String processedMessage = templateProcessor.processTemplate(nextStep.getContent(), context);
-                        List<ChoiceOption> choices = conditionEvaluator.extractChoices(nextStep);
-
-                        return ScenarioExecutionResult.builder()
-                            .currentStep(nextStep)
-                            .nextStep(null) // 이미 진행 완료
-                            .context(context)
-                            .isCompleted(false)
-                            .choices(choices)
-                            .processedMessage(processedMessage)
-                            .build();
+                        updateContext(context, currentStep, next.getStep(), userInput);
+                        return advanceThroughPassThroughSteps(next, context);
                     } else {
                         // 매칭되는 선택지가 없음
-                        String processedMessage = templateProcessor.processTemplate(currentStep.getContent(), context);
-                        List<ChoiceOption> choices = conditionEvaluator.extractChoices(currentStep);
+                        String processedMessage = templateProcessor.processTemplate(current, context);
+                        List<ChoiceOption> choices = conditionEvaluator.extractChoices(current);
 
                         return ScenarioExecutionResult.builder()
                             .currentStep(currentStep)
@@ -165,37 +209,89 @@ public class ScenarioService {
             }
 
             // 사용자 입력이 없는 경우 (시나리오 시작 시)
-            String processedMessage = templateProcessor.processTemplate(currentStep.getContent(), context);
-            List<ChoiceOption> choices = conditionEvaluator.extractChoices(currentStep);
+            ScenarioExecutionResult result = advanceThroughPassThroughSteps(current, context);
 
-            // 컨텍스트 업데이트
-            updateContext(context, currentStep, null, userInput);
-
-            return ScenarioExecutionResult.builder()
-                .currentStep(currentStep)
-                .nextStep(null)
-                .context(context)
-                .isCompleted(false)
-                .choices(choices)
-                .processedMessage(processedMessage)
-                .build();
+            // 지나간 단계가 없으면 현재 단계를 방문 기록 (지나간 단계는 autoAdvance 가 기록)
+            if (result.getPrecedingMessages().isEmpty()) {
+                updateContext(context, currentStep, null, userInput);
+            }
+            return result;
                 
+        } catch (OptimisticLockingFailureException e) {
+            throw e;   // 상위에서 턴 재시도
         } catch (Exception e) {
-            log.error("Error executing step {} for session {}", stepId, sessionId, e);
+            log.error("Error executing step {} for session {}", current.getId(), sessionId, e);
+            metrics.errorResult(current, "exception");
             return createErrorResult("처리 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 이번 턴에 도착한 단계부터 입력이 필요 없는 단계를 이어서 진행하고, 머무는 단계의 메시지와 선택지로 결과를 만든다
+     */
+    private ScenarioExecutionResult advanceThroughPassThroughSteps(CompiledStep landed, ConversationContext context) {
+        List<StepMessage> passed = new ArrayList<>();
+        CompiledStep stop = autoAdvance(landed, context, passed);
+        context.setLastInteraction(LocalDateTime.now());
+
+        return ScenarioExecutionResult.builder()
+            .currentStep(stop.getStep())
+            .nextStep(null) // 이미 진행 완료
+            .context(context)
+            .isCompleted(false)
+            .choices(conditionEvaluator.extractChoices(stop))
+            .processedMessage(templateProcessor.processTemplate(stop, context))
+            .precedingMessages(passed)
+            .build();
+    }
+
+    /**
+     * 입력을 기다리지 않는 MESSAGE 단계를 이어서 진행 (한 턴에 최대 maxAutoAdvanceSteps 단계)
+     * 지나간 단계의 메시지는 passed 에 순서대로 모으고, 입력을 기다리거나 더 갈 수 없는 단계에서 멈춘다.
+     *
+     * @return 이번 턴에 머무는 단계
+     */
+    private CompiledStep autoAdvance(CompiledStep landed, ConversationContext context, List<StepMessage> passed) {
+        CompiledStep step = landed;
+        int limit = scenarioProperties.getMaxAutoAdvanceSteps();
+        while (passed.size() < limit && isPassThrough(step)) {
+            CompiledStep next = conditionEvaluator.evaluateConditions(step, null, context);
+            if (next == null) {
+                break;
+            }
+            passed.add(new StepMessage(step.getStep(), templateProcessor.processTemplate(step, context)));
+            if (context.getVisitedSteps() == null) {
+                context.setVisitedSteps(new ArrayList<>());
+            }
+            context.getVisitedSteps().add(step.getId().toString());
+            context.setCurrentStepId(next.getId());
+            step = next;
+        }
+        if (!passed.isEmpty()) {
+            metrics.autoAdvanced(landed, passed.size());
+            log.debug("Auto-advanced {} message steps from {} to {}", passed.size(), landed.getId(), step.getId());
+        }
+        return step;
+    }
+
+    private static boolean isPassThrough(CompiledStep step) {
+        return step.getStep().getStepType() == ScenarioStep.StepType.MESSAGE
+                && !step.requiresInput()
+                && !step.isTerminal();
+    }
+
     /**
      * 컨텍스트 조회 또는 생성
      */
-    private ConversationContext getOrCreateContext(String sessionId, ScenarioStep currentStep) {
-        return conversationContexts.computeIfAbsent(sessionId, k -> {
+    private ConversationContext getOrCreateContext(String sessionId, CompiledStep current) {
+        ScenarioStep currentStep = current.getStep();
+        return contextStore.getOrCreate(sessionId, k -> {
             log.info("Creating new context for session {} with step {}", sessionId, currentStep.getId());
             
             ConversationContext context = ConversationContext.builder()
                 .scenarioId(currentStep.getScenarioId())
                 .currentStepId(currentStep.getId())
+                .scenarioVersion(current.getScenarioVersion())
                 .variables(new HashMap<>())
                 .systemVariables(new HashMap<>())
                 .lastInteraction(LocalDateTime.now())
@@ -227,7 +323,7 @@ public class ScenarioService {
 
         // 방문한 단계 기록
         if (context.getVisitedSteps() == null) {
-            context.setVisitedSteps(new java.util.ArrayList<>());
+            context.setVisitedSteps(new ArrayList<>());
         }
         context.getVisitedSteps().add(currentStep.getId().toString());
 
@@ -241,17 +337,20 @@ public class ScenarioService {
     }
 
     /**
-     * 대화 컨텍스트 조회
+     * 대화 컨텍스트 조회 (단건 조회라 트랜잭션을 열지 않음, 메모리 저장소면 커넥션도 쓰지 않음)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ConversationContext getContext(String sessionId) {
-        return conversationContexts.get(sessionId);
+        return contextStore.get(sessionId);
     }
 
     /**
      * 대화 컨텍스트 초기화
+     * 턴 트랜잭션 밖에서만 호출한다 (API, 시나리오 시작, 종료 명령). 이벤트 저장소의 RESET 재시도는 시도마다 커밋된다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void clearContext(String sessionId) {
-        conversationContexts.remove(sessionId);
+        contextStore.remove(sessionId);
     }
 
     @Transactional
@@ -275,39 +374,75 @@ public class ScenarioService {
     @CacheEvict(value = "scenarios", key = "#scenario.id")
     public void updateScenario(Scenario scenario) {
         scenarioMapper.update(scenario);
+        scenarioPublisher.publishAfterCommit(scenario.getId());
         log.debug("Updated scenario: {}", scenario.getId());
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "scenarios", key = "#id"),
-            @CacheEvict(value = "scenarioSteps", allEntries = true)
-    })
+    @CacheEvict(value = "scenarios", key = "#id")
     public void deleteScenario(Long id) {
         scenarioMapper.deleteById(id);
+        scenarioPublisher.unpublishAfterCommit(id);
         log.debug("Deleted scenario: {}", id);
     }
 
+    /**
+     * 시나리오 단계 수정 (커밋 후 해당 시나리오 새 버전 발행)
+     */
+    @Transactional
+    public ScenarioStep updateScenarioStep(ScenarioStep step) {
+        ScenarioStep existing = scenarioStepMapper.findById(step.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Step not found: " + step.getId()));
+        step.setScenarioId(existing.getScenarioId());
+        scenarioStepMapper.update(step);
+        scenarioPublisher.publishAfterCommit(existing.getScenarioId());
+        log.debug("Updated scenario step: {}", step.getId());
+        return step;
+    }
+
+    /**
+     * DB 에 반영된 시나리오를 새 버전으로 발행
+     * 진행 중인 대화는 기존 버전으로 계속되고, 새로 시작하는 대화부터 새 버전을 사용한다.
+     */
+    public CompiledScenario publishScenario(Long scenarioId) {
+        scenarioMapper.findById(scenarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Scenario not found: " + scenarioId));
+        return scenarioPublisher.publish(scenarioId);
+    }
+
+    /**
+     * 현재 그래프의 정적 분석 결과 (끊어진 간선, 도달 불가 단계, 입력 없는 순환, 단계별 메타데이터)
+     */
+    public ScenarioAnalysis analyzeScenario(Long scenarioId) {
+        scenarioMapper.findById(scenarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Scenario not found: " + scenarioId));
+        return graphRegistry.getScenario(scenarioId).getAnalysis();
+    }
+
+    /**
+     * 시나리오 단계 조회
+     * 없는 단계도 null 로 캐시되어(negative caching) 같은 ID 로 DB 를 반복 조회하지 않는다.
+     */
     @Cacheable(value = "scenarioSteps", key = "#stepId")
-    public ScenarioStep getScenarioStep(Long stepId) {
-        return scenarioStepMapper.findById(stepId)
-                .orElseThrow(() -> new IllegalArgumentException("Step not found: " + stepId));
+    public Optional<ScenarioStep> findScenarioStep(Long stepId) {
+        return scenarioStepMapper.findById(stepId);
     }
 
     @Cacheable(value = "scenarioSteps", key = "'start_' + #scenarioId")
     public ScenarioStep getStartScenarioStep(Long scenarioId) {
         try {
-            // 시작 단계 조회
-            Optional<ScenarioStep> startStep = scenarioStepMapper.findStartStep(scenarioId);
+            // 시작 단계 조회 (컴파일된 그래프)
+            CompiledStep startStep = graphRegistry.getScenario(scenarioId).getStartStep();
             
-            if (startStep.isPresent()) {
+            if (startStep != null) {
                 log.info("Found start step: id={}, content={}", 
-                    startStep.get().getId(), startStep.get().getContent());
-                return startStep.get();
+                    startStep.getId(), startStep.getStep().getContent());
+                return startStep.getStep();
             } else {
                 log.warn("No start step found for scenario {}, using step 1 as fallback", scenarioId);
                 // 시작 단계가 없으면 Step 1을 시작 단계로 사용
-                return scenarioStepMapper.findById(1L)
+                return Optional.ofNullable(graphRegistry.findStep(1L))
+                    .map(CompiledStep::getStep)
                     .orElseThrow(() -> new IllegalArgumentException("No start step found for scenario: " + scenarioId));
             }
         } catch (Exception e) {
@@ -322,57 +457,77 @@ public class ScenarioService {
     }
 
     /**
-     * 안전한 시나리오 단계 조회
+     * 안전한 시나리오 단계 조회 (컴파일된 그래프에서 조회)
+     * 대화가 특정 버전에 고정되어 있으면 그 버전의 단계를 사용한다.
      */
-    private ScenarioStep getScenarioStepSafely(Long stepId) {
+    private CompiledStep getScenarioStepSafely(ConversationContext context, Long stepId) {
         try {
-            return scenarioStepMapper.findById(stepId).orElse(null);
+            if (context != null && context.getScenarioVersion() != null) {
+                return graphRegistry.findStep(stepId, context.getScenarioVersion());
+            }
+            return graphRegistry.findStep(stepId);
         } catch (Exception e) {
             log.error("Error finding scenario step: {}", stepId, e);
             return null;
         }
     }
-    
+
     /**
-     * 변수 매핑이 있는지 확인
+     * 공통 명령어 확인
      */
-    @SuppressWarnings("unchecked")
-    private boolean hasVariableMapping(ScenarioStep step) {
-        if (step.getConditions() == null) {
+    private boolean isCommonCommand(String input) {
+        String lowerInput = input.toLowerCase();
+        return lowerInput.equals("메뉴") || lowerInput.equals("처음") ||
+                lowerInput.equals("시작") || lowerInput.equals("도움말");
+    }
+
+    /**
+     * 대화 종료 명령 확인 (턴 트랜잭션을 열기 전에 처리)
+     */
+    private boolean isEndCommand(String input) {
+        if (input == null) {
             return false;
         }
-        
-        Map<String, Object> variableMapping = (Map<String, Object>) step.getConditions().get("variable_mapping");
-        return variableMapping != null && !variableMapping.isEmpty();
+        String lowerInput = input.toLowerCase();
+        return lowerInput.equals("취소") || lowerInput.equals("종료");
     }
 
     /**
-     * 공통 명령어 확인
+     * 대화 종료 (취소/종료)
+     * 턴 트랜잭션 밖에서 컨텍스트를 지우므로 저장소의 삭제와 재시도가 각자 커밋된다.
      */
-    private boolean isCommonCommand(String input) {
-        String lowerInput = input.toLowerCase();
-        return lowerInput.equals("메뉴") || lowerInput.equals("처음") ||
-                lowerInput.equals("시작") || lowerInput.equals("도움말") ||
-                lowerInput.equals("취소") || lowerInput.equals("종료");
+    private ScenarioExecutionResult endConversation(String sessionId, String command, long start) {
+        metrics.commandUsed(command.toLowerCase());
+        clearContext(sessionId);
+        metrics.recordTurn(start, null, "success");
+        return createSimpleResult("대화가 종료되었습니다. 다시 이용해주세요!");
     }
 
     /**
      * 공통 명령어 처리
+     * 대상 단계를 현재 컨텍스트로 실행한 결과를 돌려준다 (저장과 턴 기록은 바깥 턴에서 한 번만).
      */
     private ScenarioExecutionResult handleCommonCommand(String sessionId, String command, ConversationContext context) {
         switch (command.toLowerCase()) {
             case "메뉴": case "처음": case "시작":
-                return executeStep(sessionId, 2L, null);
+                return moveTo(sessionId, 2L, context);
             case "도움말":
-                return executeStep(sessionId, 12L, null);
-            case "취소": case "종료":
-                clearContext(sessionId);
-                return createSimpleResult("대화가 종료되었습니다. 다시 이용해주세요!");
+                return moveTo(sessionId, 12L, context);
             default:
                 return createErrorResult("잘 모르겠습니다. '메뉴'라고 입력하시면 메인 메뉴로 이동합니다.");
         }
     }
 
+    private ScenarioExecutionResult moveTo(String sessionId, Long stepId, ConversationContext context) {
+        CompiledStep target = getScenarioStepSafely(context, stepId);
+        if (target == null) {
+            metrics.errorResult(null, "invalid_step");
+            return createErrorResult("올바르지 않은 단계입니다. 처음부터 다시 시작해주세요.");
+        }
+        context.setCurrentStepId(target.getId());
+        return executeStep(sessionId, target, context, null);
+    }
+
     /**
      * 오류 결과 생성
      */
@@ -0,0 +1,149 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.moyam.chatbot.config.WarmupProperties;
+import io.moyam.chatbot.domain.bot.service.BotOptionService;
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 시나리오 캐시 워밍업
+ *
+ * <p>기본(is_default) 시나리오가 있는 봇마다 봇의 시나리오 목록(findByBotId), 각 시나리오의 전체 단계(findByScenarioId),
+ * 봇 옵션(findByBotId)을 봇 단위로 병렬 로딩한다. 컴파일된 그래프와 scenarios / scenarioSteps(start_) / botOptions
+ * 캐시가 채워진 뒤에야 readiness 가 UP 이 되므로, 배포 직후 첫 요청들이 DB 로 몰리지 않는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScenarioWarmup implements ApplicationRunner {
+
+    private final WarmupProperties properties;
+    private final ScenarioMapper scenarioMapper;
+    private final ScenarioGraphRegistry graphRegistry;
+    private final ScenarioService scenarioService;
+    private final BotOptionService botOptionService;
+
+    private final AtomicInteger scenarioCount = new AtomicInteger();
+    private final AtomicInteger stepCount = new AtomicInteger();
+    private final AtomicInteger failureCount = new AtomicInteger();
+
+    private volatile boolean completed;
+    private volatile Duration elapsed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            completed = true;
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            warmUp();
+        } catch (Exception e) {
+            // 워밍업 실패는 기동 실패가 아니다 (캐시는 요청 시 채워짐)
+            log.warn("Scenario warm-up failed: {}", e.getMessage(), e);
+            failureCount.incrementAndGet();
+        } finally {
+            elapsed = Duration.ofNanos(System.nanoTime() - start);
+            completed = true;
+            log.info("Scenario warm-up finished in {} ms: {} scenarios, {} steps, {} failures",
+                    elapsed.toMillis(), scenarioCount.get(), stepCount.get(), failureCount.get());
+        }
+    }
+
+    private void warmUp() throws InterruptedException {
+        Set<Long> botIds = new LinkedHashSet<>();
+        for (Scenario scenario : scenarioMapper.findDefaults()) {
+            botIds.add(scenario.getBotId());
+        }
+        if (botIds.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(properties.getParallelism(), botIds.size()),
+                Thread.ofPlatform().name("scenario-warmup-", 0).daemon(true).factory());
+        try {
+            List<Future<?>> futures = new ArrayList<>(botIds.size());
+            for (Long botId : botIds) {
+                futures.add(executor.submit(() -> warmUpBot(botId)));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                long pending = futures.stream().filter(future -> !future.isDone()).count();
+                log.warn("Scenario warm-up timed out after {}, {} bots not loaded", properties.getTimeout(), pending);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 봇 하나의 시나리오 그래프, 시나리오/시작 단계 캐시, 봇 옵션 로딩
+     */
+    private void warmUpBot(Long botId) {
+        for (Scenario scenario : scenarioMapper.findByBotId(botId)) {
+            try {
+                CompiledScenario compiled = graphRegistry.getScenario(scenario.getId());
+                scenarioService.getScenario(scenario.getId());
+                if (compiled.getStartStep() != null) {
+                    scenarioService.getStartScenarioStep(scenario.getId());
+                }
+                scenarioCount.incrementAndGet();
+                stepCount.addAndGet(compiled.size());
+            } catch (Exception e) {
+                failureCount.incrementAndGet();
+                log.warn("Failed to warm up scenario {} of bot {}: {}", scenario.getId(), botId, e.getMessage());
+            }
+        }
+
+        try {
+            botOptionService.getOptions(botId);
+        } catch (Exception e) {
+            failureCount.incrementAndGet();
+            log.warn("Failed to warm up options of bot {}: {}", botId, e.getMessage());
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getScenarioCount() {
+        return scenarioCount.get();
+    }
+
+    public int getStepCount() {
+        return stepCount.get();
+    }
+
+    public int getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * 워밍업 소요 시간 (완료 전이면 null)
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+}
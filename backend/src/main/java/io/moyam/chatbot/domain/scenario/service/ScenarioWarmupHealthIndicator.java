@@ -0,0 +1,31 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 완료 전에는 OUT_OF_SERVICE (management.endpoint.health.group.readiness 에 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScenarioWarmupHealthIndicator implements HealthIndicator {
+
+    private final ScenarioWarmup warmup;
+
+    @Override
+    public Health health() {
+        if (!warmup.isCompleted()) {
+            return Health.outOfService()
+                    .withDetail("scenarios", warmup.getScenarioCount())
+                    .build();
+        }
+        return Health.up()
+                .withDetail("scenarios", warmup.getScenarioCount())
+                .withDetail("steps", warmup.getStepCount())
+                .withDetail("failures", warmup.getFailureCount())
+                .withDetail("elapsedMs", warmup.getElapsed() != null ? warmup.getElapsed().toMillis() : 0)
+                .build();
+    }
+}
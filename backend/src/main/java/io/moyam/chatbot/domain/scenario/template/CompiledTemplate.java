@@ -0,0 +1,96 @@
+package io.moyam.chatbot.domain.scenario.template;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 파싱된 메시지 템플릿
+ * "${userName}님의 ${today} 일정" 을 리터럴과 변수 슬롯의 교대 목록으로 보관하고,
+ * 렌더링은 크기를 미리 잡은 StringBuilder 하나로 처리한다.
+ */
+public final class CompiledTemplate {
+
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private final String source;
+    private final String[] literals;   // literals.length == variables.length + 1
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 파싱 (${name} 형식, 이름이 비어 있거나 닫히지 않은 경우는 리터럴로 취급)
+     */
+    public static CompiledTemplate parse(String template) {
+        String source = template != null ? template : "";
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int literalStart = 0;
+        int searchFrom = 0;
+        while (true) {
+            int open = source.indexOf("${", searchFrom);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf('}', open + 2);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 2) {
+                // "${}" 는 치환 대상이 아님
+                searchFrom = close + 1;
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            variables.add(source.substring(open + 2, close));
+            literalStart = close + 1;
+            searchFrom = literalStart;
+        }
+        literals.add(source.substring(literalStart));
+
+        return new CompiledTemplate(source, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * 변수 슬롯이 없는 템플릿인지 여부
+     */
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    public String render(ConversationContext context, TemplateVariableResolver resolver) {
+        if (variables.length == 0) {
+            return source;
+        }
+
+        StringBuilder out = new StringBuilder(literalLength + variables.length * ESTIMATED_VALUE_LENGTH);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            out.append(resolver.resolve(variables[i], context));
+        }
+        out.append(literals[variables.length]);
+        return out.toString();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<String> getVariableNames() {
+        return List.of(variables);
+    }
+}
@@ -0,0 +1,13 @@
+package io.moyam.chatbot.domain.scenario.template;
+
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+
+/**
+ * 템플릿 변수 슬롯의 값 해석기
+ * 렌더링 중 템플릿이 실제로 참조하는 변수만 호출된다.
+ */
+@FunctionalInterface
+public interface TemplateVariableResolver {
+
+    String resolve(String variableName, ConversationContext context);
+}
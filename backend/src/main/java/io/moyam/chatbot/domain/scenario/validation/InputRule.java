@@ -0,0 +1,10 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+/**
+ * 입력값 검증 규칙 하나 (입력은 trim 된 값)
+ */
+@FunctionalInterface
+public interface InputRule {
+
+    boolean test(String input);
+}
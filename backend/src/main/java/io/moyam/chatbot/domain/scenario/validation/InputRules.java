@@ -0,0 +1,126 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 기본 검증 규칙 모음
+ */
+@Slf4j
+public final class InputRules {
+
+    /**
+     * 정규식 검사를 허용하는 최대 입력 길이 (초과 시 실패)
+     */
+    static final int MAX_REGEX_INPUT_LENGTH = 1_000;
+
+    /**
+     * 정규식 매칭 최대 시간 (초과 시 실패)
+     */
+    static final long REGEX_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final Pattern EMAIL = Pattern.compile("^[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+$");
+    private static final Pattern PHONE = Pattern.compile("^(\\+\\d{1,3}[- ]?)?0?\\d{1,2}[- ]?\\d{3,4}[- ]?\\d{4}$");
+    private static final Pattern NUMBER = Pattern.compile("^[-+]?\\d{1,3}(,?\\d{3})*(\\.\\d+)?$");
+
+    private static final InputRule REQUIRED = input -> !input.isEmpty();
+    private static final InputRule REJECT = input -> false;
+
+    private InputRules() {
+    }
+
+    public static InputRule required() {
+        return REQUIRED;
+    }
+
+    public static InputRule minLength(int min) {
+        return input -> input.length() >= min;
+    }
+
+    public static InputRule maxLength(int max) {
+        return input -> input.length() <= max;
+    }
+
+    public static InputRule email() {
+        return input -> EMAIL.matcher(input).matches();
+    }
+
+    public static InputRule phone() {
+        return input -> PHONE.matcher(input).matches();
+    }
+
+    public static InputRule number() {
+        return input -> NUMBER.matcher(input).matches();
+    }
+
+    /**
+     * 잘못 정의된 규칙 (항상 실패)
+     */
+    public static InputRule reject() {
+        return REJECT;
+    }
+
+    /**
+     * 사용자 정의 정규식 (전체 일치)
+     * 입력 길이와 매칭 시간을 제한해 과도한 백트래킹으로 요청 스레드가 묶이지 않도록 한다.
+     */
+    public static InputRule regex(String regex) {
+        Pattern pattern = PatternCache.get(regex);
+        return input -> {
+            if (input.length() > MAX_REGEX_INPUT_LENGTH) {
+                return false;
+            }
+            try {
+                return pattern.matcher(new DeadlineCharSequence(input, regex, System.nanoTime() + REGEX_TIMEOUT_NANOS))
+                        .matches();
+            } catch (RegexTimeoutException e) {
+                log.warn("{} (input length {})", e.getMessage(), input.length());
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 매칭 중 charAt 호출마다 시간 제한을 확인하는 CharSequence
+     */
+    static final class DeadlineCharSequence implements CharSequence {
+
+        private static final int CHECK_INTERVAL = 1_024;
+
+        private final CharSequence delegate;
+        private final String regex;
+        private final long deadlineNanos;
+        private int reads;
+
+        DeadlineCharSequence(CharSequence delegate, String regex, long deadlineNanos) {
+            this.delegate = delegate;
+            this.regex = regex;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (++reads % CHECK_INTERVAL == 0 && System.nanoTime() > deadlineNanos) {
+                throw new RegexTimeoutException(regex);
+            }
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(delegate.subSequence(start, end), regex, deadlineNanos);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.regex.Pattern;
+
+/**
+ * 검증용 정규식 캐시
+ * 같은 정규식을 쓰는 단계끼리 Pattern 을 공유하고, 시나리오 편집으로 정규식이 계속 바뀌어도 크기가 제한된다.
+ */
+final class PatternCache {
+
+    private static final int MAXIMUM_SIZE = 256;
+
+    private static final Cache<String, Pattern> PATTERNS = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    private PatternCache() {
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException 잘못된 정규식
+     */
+    static Pattern get(String regex) {
+        return PATTERNS.get(regex, Pattern::compile);
+    }
+
+    static long size() {
+        PATTERNS.cleanUp();
+        return PATTERNS.estimatedSize();
+    }
+}
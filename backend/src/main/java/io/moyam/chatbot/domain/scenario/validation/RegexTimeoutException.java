@@ -0,0 +1,11 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+/**
+ * 정규식 매칭 시간 초과 (과도한 백트래킹)
+ */
+class RegexTimeoutException extends RuntimeException {
+
+    RegexTimeoutException(String regex) {
+        super("Regex evaluation timed out: " + regex, null, false, false);
+    }
+}
@@ -0,0 +1,113 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 컴파일된 검증 규칙 체인
+ * variable_mapping.validation 문자열("required|min:2|max:10|regex:^[0-9]+$")을 단계 컴파일 시 한 번 해석한다.
+ *
+ * <ul>
+ *   <li>required, min:n, max:n, regex:pattern</li>
+ *   <li>email, phone, number (단계 input_type 이 EMAIL/PHONE/NUMBER 이면 자동 적용)</li>
+ * </ul>
+ *
+ * 알 수 없는 규칙은 무시하고, 잘못 정의된 규칙(min:abc, 잘못된 정규식)은 항상 실패한다.
+ */
+@Slf4j
+public final class ValidationRules {
+
+    public static final ValidationRules NONE = new ValidationRules(null, new InputRule[0]);
+
+    private final String spec;
+    private final InputRule[] rules;
+
+    private ValidationRules(String spec, InputRule[] rules) {
+        this.spec = spec;
+        this.rules = rules;
+    }
+
+    public static ValidationRules compile(String spec, ScenarioStep.InputType inputType) {
+        List<InputRule> rules = new ArrayList<>();
+
+        InputRule typeRule = forInputType(inputType);
+        if (typeRule != null) {
+            rules.add(typeRule);
+        }
+
+        if (spec != null && !spec.trim().isEmpty()) {
+            for (String token : spec.split("\\|")) {
+                InputRule rule = compileRule(token.trim());
+                if (rule != null) {
+                    rules.add(rule);
+                }
+            }
+        }
+
+        return rules.isEmpty() ? NONE : new ValidationRules(spec, rules.toArray(InputRule[]::new));
+    }
+
+    /**
+     * 모든 규칙을 만족하는지 검사 (입력은 trim 된 값)
+     */
+    public boolean validate(String input) {
+        for (InputRule rule : rules) {
+            if (!rule.test(input)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getSpec() {
+        return spec;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    private static InputRule compileRule(String rule) {
+        try {
+            if ("required".equals(rule)) {
+                return InputRules.required();
+            } else if (rule.startsWith("min:")) {
+                return InputRules.minLength(Integer.parseInt(rule.substring(4).trim()));
+            } else if (rule.startsWith("max:")) {
+                return InputRules.maxLength(Integer.parseInt(rule.substring(4).trim()));
+            } else if (rule.startsWith("regex:")) {
+                return InputRules.regex(rule.substring(6));
+            } else if ("email".equals(rule)) {
+                return InputRules.email();
+            } else if ("phone".equals(rule)) {
+                return InputRules.phone();
+            } else if ("number".equals(rule)) {
+                return InputRules.number();
+            }
+            return null; // 알 수 없는 규칙은 무시
+        } catch (NumberFormatException | PatternSyntaxException e) {
+            log.warn("Invalid validation rule '{}': {}", rule, e.getMessage());
+            return InputRules.reject();
+        }
+    }
+
+    private static InputRule forInputType(ScenarioStep.InputType inputType) {
+        if (inputType == null) {
+            return null;
+        }
+        switch (inputType) {
+            case EMAIL:
+                return InputRules.email();
+            case PHONE:
+                return InputRules.phone();
+            case NUMBER:
+                return InputRules.number();
+            default:
+                return null;
+        }
+    }
+}
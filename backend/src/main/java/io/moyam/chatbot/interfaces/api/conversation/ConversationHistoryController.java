@@ -0,0 +1,112 @@
+package io.moyam.chatbot.interfaces.api.conversation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.KeysetCursor;
+import io.moyam.chatbot.domain.conversation.model.KeysetPage;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.service.ConversationHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 대화 이력 API
+ * 목록은 keyset 커서(nextCursor)로 이어 읽고, export 는 NDJSON 으로 한 행씩 흘려보낸다.
+ */
+@RestController
+@RequestMapping("/api")
+@Slf4j
+public class ConversationHistoryController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ConversationHistoryService historyService;
+    private final ObjectWriter writer;
+
+    public ConversationHistoryController(ConversationHistoryService historyService, ObjectMapper objectMapper) {
+        this.historyService = historyService;
+        // 행마다 flush 하지 않고 생성기 버퍼가 찰 때 내보냄
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // 대화 메시지 목록 (오래된 순)
+    @GetMapping("/conversations/{id}/messages")
+    public KeysetPage<Message> getMessages(@PathVariable Long id,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "50") int size) {
+        return historyService.getMessages(id, parseCursor(cursor), size);
+    }
+
+    // 봇의 대화 목록 (최근 메시지 순)
+    @GetMapping("/bots/{botId}/conversations")
+    public KeysetPage<Conversation> getConversations(@PathVariable Long botId,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "50") int size) {
+        return historyService.getConversations(botId, parseCursor(cursor), size);
+    }
+
+    // 대화 메시지 전체 내보내기 (NDJSON)
+    @GetMapping("/conversations/{id}/messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(@PathVariable Long id) {
+        return ndjson(id, historyService::exportMessages);
+    }
+
+    // 봇의 대화 전체 내보내기 (NDJSON)
+    @GetMapping("/bots/{botId}/conversations/export")
+    public ResponseEntity<StreamingResponseBody> exportConversations(@PathVariable Long botId) {
+        return ndjson(botId, historyService::exportConversations);
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> ndjson(Long id, BiFunction<Long, Consumer<T>, Long> export) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = newGenerator(out)) {
+                long count = export.apply(id, item -> writeLine(generator, item));
+                log.debug("Exported {} rows for {}", count, id);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * 응답 스트림에 바로 쓰는 생성기 (줄 구분은 직접 기록, 스트림은 컨테이너가 닫음)
+     */
+    private JsonGenerator newGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = writer.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private void writeLine(JsonGenerator generator, Object item) {
+        try {
+            writer.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static KeysetCursor parseCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package io.moyam.chatbot.interfaces.api.scenario;
 
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis;
 import io.moyam.chatbot.domain.scenario.model.Scenario;
 import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImportResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.service.ScenarioImportService;
 import io.moyam.chatbot.domain.scenario.service.ScenarioService;
 import io.moyam.chatbot.interfaces.api.scenario.request.ScenarioCreateRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Map;
@@ -16,6 +25,7 @@ import java.util.Map;
 public class ScenarioController {
     
     private final ScenarioService scenarioService;
+    private final ScenarioImportService scenarioImportService;
     
     // 시나리오 목록 조회
     @GetMapping
@@ -42,6 +52,45 @@ public class ScenarioController {
         return scenarioService.createScenario(scenario);
     }
 
+    // 시나리오 발행 (진행 중인 대화는 기존 버전 유지)
+    @PostMapping("/{id}/publish")
+    public Map<String, Object> publishScenario(@PathVariable Long id) {
+        CompiledScenario published = scenarioService.publishScenario(id);
+        return Map.of(
+            "scenarioId", published.getScenarioId(),
+            "version", published.getVersion(),
+            "steps", published.size()
+        );
+    }
+    
+    // 시나리오 그래프 정적 분석 (현재 발행 버전)
+    @GetMapping("/{id}/analysis")
+    public ScenarioAnalysis analyzeScenario(@PathVariable Long id) {
+        return scenarioService.analyzeScenario(id);
+    }
+
+    // 시나리오 일괄 가져오기 (JSON/YAML, 한 트랜잭션으로 저장 후 발행)
+    @PostMapping(value = "/import", consumes = {
+        MediaType.APPLICATION_JSON_VALUE, "application/yaml", "application/x-yaml", "text/yaml"
+    })
+    public ScenarioImportResult importScenarios(
+            @RequestBody byte[] body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        try {
+            boolean yaml = contentType.toLowerCase().contains("yaml");
+            return scenarioImportService.importScenarios(scenarioImportService.parse(body, yaml));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    // 시나리오 단계 수정 (커밋 후 새 버전 발행)
+    @PutMapping("/steps/{stepId}")
+    public ScenarioStep updateStep(@PathVariable Long stepId, @RequestBody ScenarioStep step) {
+        step.setId(stepId);
+        return scenarioService.updateScenarioStep(step);
+    }
+
 /*    @PostMapping("/{scenarioId}/start")
     public ScenarioExecutionResult startScenario(
             @PathVariable Long scenarioId,
@@ -1,11 +1,21 @@
 package io.moyam.chatbot.interfaces.api.websocket;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.moyam.chatbot.config.HistoryProperties;
+import io.moyam.chatbot.domain.bot.intent.ChatIntent;
+import io.moyam.chatbot.domain.bot.intent.IntentMatcherRegistry;
+import io.moyam.chatbot.domain.bot.service.BotOptionService;
+import io.moyam.chatbot.domain.conversation.history.MessageHistoryWriter;
 import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
 import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
 import io.moyam.chatbot.domain.scenario.service.ScenarioService;
 import io.moyam.chatbot.interfaces.api.scenario.request.StartScenarioRequest;
 import io.moyam.chatbot.interfaces.api.websocket.request.ChatRequest;
 import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponse;
+import io.moyam.chatbot.interfaces.api.websocket.response.ChatResponsePreset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -13,14 +23,65 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.stereotype.Controller;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ChatWebSocketController {
 
+    /**
+     * 응답에 컨텍스트 변수를 포함할지 여부 (봇 옵션, 기본 false)
+     */
+    static final String INCLUDE_VARIABLES_OPTION = "response.include_variables";
+
+    // --- 고정 응답 (세션 ID 와 시간만 다름)
+    private static final ChatResponsePreset EMPTY_MESSAGE = ChatResponsePreset.error("메시지를 입력해주세요.");
+
+    private static final ChatResponsePreset GREETING = ChatResponsePreset.of("info",
+            "안녕하세요! 저는 AI 개인비서입니다.\n\n무엇을 도와드릴까요?\n\n아래 버튼을 클릭하거나 '시작'이라고 말씀해주세요!",
+            ChoiceOption.builder().value("start_demo").label("시나리오 시작하기").build(),
+            ChoiceOption.builder().value("help").label("도움말 보기").build());
+
+    private static final ChatResponsePreset HELP = ChatResponsePreset.info(
+            "도움말\n\n" +
+            "이 ChatBot은 다음과 같은 서비스를 제공합니다:\n" +
+            "- 일정 관리: 오늘/내일 일정 확인 및 추가\n" +
+            "- 메모 작성: 간단한 메모 저장\n" +
+            "- 계산기: 사칙연산 계산\n" +
+            "- 설정: 봇 개인화 설정\n\n" +
+            "사용법: '시작'이라고 입력하거나 아래 버튼을 클릭하세요!");
+
+    private static final ChatResponsePreset THANKS = ChatResponsePreset.info(
+            "천만에요! 언제든 도움이 필요하시면 말씀해주세요.\n\n" +
+            "다른 기능을 사용해보시겠어요?");
+
+    private static final ChatResponsePreset GOODBYE = ChatResponsePreset.info(
+            "안녕히 가세요! 언제든 다시 찾아주세요.\n\n" +
+            "새로운 대화를 시작하시려면 '시작'이라고 말씀해주세요.");
+
+    private static final ChatResponsePreset FALLBACK = ChatResponsePreset.of("text",
+            "잘 모르겠습니다.\n\n" +
+            "이런 것들을 시도해보세요:\n" +
+            "• '시작' - 시나리오 데모 시작\n" +
+            "• '도움말' - 사용 가능한 기능 보기\n" +
+            "• '안녕하세요' - 인사하기",
+            ChoiceOption.builder().value("start_demo").label("시나리오 시작").build(),
+            ChoiceOption.builder().value("help").label("도움말").build());
+
     private final ScenarioService scenarioService;
+    private final BotOptionService botOptionService;
+    private final IntentMatcherRegistry intentMatchers;
+    private final HistoryProperties historyProperties;
+    private final MessageHistoryWriter historyWriter;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 메시지 유형별 처리 시간 타이머 (유형마다 한 번만 등록)
+     */
+    private final Map<String, Timer> messageTimers = new ConcurrentHashMap<>();
 
     @MessageMapping("/chat/{sessionId}")
     @SendTo("/topic/chat/{sessionId}")
@@ -30,16 +91,49 @@ public class ChatWebSocketController {
 
         log.info("Received message from session {}: {}", sessionId, request.getMessage());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ChatResponse response = processMessage(sessionId, request);
+        sample.stop(messageTimer(response.getMessageType()));
+
+        recordHistory(sessionId, request.getMessage(), response);
+        return response;
+    }
+
+    /**
+     * 메시지 처리 시간 (type: text, choice, info, error)
+     */
+    private Timer messageTimer(String messageType) {
+        return messageTimers.computeIfAbsent(messageType != null ? messageType : "unknown",
+                type -> Timer.builder("chatbot.chat.messages")
+                        .tag("type", type)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(10))
+                        .register(meterRegistry));
+    }
+
+    /**
+     * 사용자/봇 메시지 기록 (write-behind, 응답 지연 없음)
+     * 한 턴에 여러 단계를 지나갔으면 봇 메시지도 보낸 순서대로 모두 기록한다.
+     */
+    private void recordHistory(String sessionId, String userMessage, ChatResponse response) {
+        Long scenarioId = response.getScenarioId();
+        historyWriter.record(sessionId, scenarioId,
+                Message.SenderType.USER, Message.MessageType.TEXT, userMessage);
+
+        for (ChatResponse botMessage : response.frameMessages()) {
+            Message.MessageType botMessageType = botMessage.getChoices() != null && !botMessage.getChoices().isEmpty()
+                    ? Message.MessageType.QUICK_REPLY : Message.MessageType.TEXT;
+            historyWriter.record(sessionId, scenarioId,
+                    Message.SenderType.BOT, botMessageType, botMessage.getMessage());
+        }
+    }
+
+    private ChatResponse processMessage(String sessionId, ChatRequest request) {
         try {
             // 입력값 검증
             if (request.getMessage() == null || request.getMessage().trim().isEmpty()) {
-                return ChatResponse.builder()
-                        .message("메시지를 입력해주세요.")
-                        .sessionId(sessionId)
-                        .isFromBot(true)
-                        .messageType("error")
-                        .timestamp(LocalDateTime.now())
-                        .build();
+                return EMPTY_MESSAGE.forSession(sessionId);
             }
 
             // 현재 컨텍스트 확인
@@ -53,7 +147,7 @@ public class ChatWebSocketController {
                 ScenarioExecutionResult result = scenarioService.executeStep(
                         sessionId, existingContext.getCurrentStepId(), request.getMessage());
                 
-                return ChatResponse.fromScenarioResult(result, sessionId);
+                return toResponse(result, sessionId);
             }
             
             // 새로운 시나리오 시작 요청
@@ -62,7 +156,7 @@ public class ChatWebSocketController {
                 
                 ScenarioExecutionResult result = scenarioService.executeStep(
                         sessionId, request.getStepId(), request.getMessage());
-                return ChatResponse.fromScenarioResult(result, sessionId);
+                return toResponse(result, sessionId);
             }
             
             // 일반 대화 처리
@@ -81,97 +175,19 @@ public class ChatWebSocketController {
      * 응답 생성
      */
     private ChatResponse generateSmartChatResponse(String message, String sessionId) {
-        String lowerMessage = message.toLowerCase().trim();
-        
-        // 시나리오 시작 요청
-        if (lowerMessage.contains("시작") || lowerMessage.contains("start") || 
-            lowerMessage.contains("데모") || lowerMessage.equals("1")) {
-            return startDefaultScenario(sessionId);
-        }
-
-        // 인사말 처리 (개인화된 응답)
-        if (lowerMessage.contains("안녕") || lowerMessage.contains("hi") || 
-            lowerMessage.contains("hello") || lowerMessage.contains("하이")) {
-            
-            return ChatResponse.builder()
-                .message("안녕하세요! 저는 AI 개인비서입니다.\n\n무엇을 도와드릴까요?\n\n아래 버튼을 클릭하거나 '시작'이라고 말씀해주세요!")
-                .sessionId(sessionId)
-                .isFromBot(true)
-                .messageType("info")
-                .choices(java.util.Arrays.asList(
-                    io.moyam.chatbot.domain.scenario.model.ChoiceOption.builder()
-                        .value("start_demo")
-                        .label("시나리오 시작하기")
-                        .build(),
-                    io.moyam.chatbot.domain.scenario.model.ChoiceOption.builder()
-                        .value("help")
-                        .label("도움말 보기")
-                        .build()
-                ))
-                .timestamp(LocalDateTime.now())
-                .build();
+        // 일반 대화 봇의 키워드로 의도 판별 (한 번의 탐색, 우선순위가 높은 의도 선택)
+        ChatIntent intent = intentMatchers.match(historyProperties.getDefaultBotId(), message).orElse(null);
+        if (intent == null) {
+            return FALLBACK.forSession(sessionId);
         }
 
-        // 도움 요청
-        if (lowerMessage.contains("도움") || lowerMessage.contains("help") || 
-            lowerMessage.contains("헬프") || lowerMessage.equals("?")) {
-            
-            return ChatResponse.info(
-                "도움말\n\n" +
-                "이 ChatBot은 다음과 같은 서비스를 제공합니다:\n" +
-                "- 일정 관리: 오늘/내일 일정 확인 및 추가\n" +
-                "- 메모 작성: 간단한 메모 저장\n" +
-                "- 계산기: 사칙연산 계산\n" +
-                "- 설정: 봇 개인화 설정\n\n" +
-                "사용법: '시작'이라고 입력하거나 아래 버튼을 클릭하세요!",
-                sessionId
-            );
-        }
-
-        // 감사 인사
-        if (lowerMessage.contains("고마") || lowerMessage.contains("감사") || 
-            lowerMessage.contains("thank") || lowerMessage.contains("굿")) {
-            
-            return ChatResponse.info(
-                "천만에요! 언제든 도움이 필요하시면 말씀해주세요.\n\n" +
-                "다른 기능을 사용해보시겠어요?",
-                sessionId
-            );
-        }
-
-        // 종료 관련
-        if (lowerMessage.contains("종료") || lowerMessage.contains("끝") || 
-            lowerMessage.contains("bye") || lowerMessage.contains("바이")) {
-            
-            return ChatResponse.info(
-                "안녕히 가세요! 언제든 다시 찾아주세요.\n\n" +
-                "새로운 대화를 시작하시려면 '시작'이라고 말씀해주세요.",
-                sessionId
-            );
-        }
-
-        // 기본 응답
-        return ChatResponse.builder()
-            .message("잘 모르겠습니다.\n\n" +
-                    "이런 것들을 시도해보세요:\n" +
-                    "• '시작' - 시나리오 데모 시작\n" +
-                    "• '도움말' - 사용 가능한 기능 보기\n" +
-                    "• '안녕하세요' - 인사하기")
-            .sessionId(sessionId)
-            .isFromBot(true)
-            .messageType("text")
-            .choices(java.util.Arrays.asList(
-                io.moyam.chatbot.domain.scenario.model.ChoiceOption.builder()
-                    .value("start_demo")
-                    .label("시나리오 시작")
-                    .build(),
-                io.moyam.chatbot.domain.scenario.model.ChoiceOption.builder()
-                    .value("help")
-                    .label("도움말")
-                    .build()
-            ))
-            .timestamp(LocalDateTime.now())
-            .build();
+        return switch (intent) {
+            case START -> startDefaultScenario(sessionId);      // 시나리오 시작 요청
+            case GREETING -> GREETING.forSession(sessionId);    // 인사말
+            case HELP -> HELP.forSession(sessionId);            // 도움 요청
+            case THANKS -> THANKS.forSession(sessionId);        // 감사 인사
+            case GOODBYE -> GOODBYE.forSession(sessionId);      // 종료 관련
+        };
     }
 
     /**
@@ -180,13 +196,35 @@ public class ChatWebSocketController {
     private ChatResponse startDefaultScenario(String sessionId) {
         try {
             ScenarioExecutionResult result = scenarioService.startScenario(sessionId, 1L);
-            return ChatResponse.fromScenarioResult(result, sessionId);
+            return toResponse(result, sessionId);
         } catch (Exception e) {
             log.error("Error starting default scenario for session {}", sessionId, e);
             return ChatResponse.error("시나리오를 시작할 수 없습니다. 잠시 후 다시 시도해주세요.");
         }
     }
 
+    /**
+     * 시나리오 결과 응답 (컨텍스트 변수는 봇 옵션으로 켠 경우만 포함)
+     */
+    private ChatResponse toResponse(ScenarioExecutionResult result, String sessionId) {
+        Long scenarioId = result.getContext() != null ? result.getContext().getScenarioId() : null;
+        return ChatResponse.fromScenarioResult(result, sessionId, includeVariables(scenarioId));
+    }
+
+    private boolean includeVariables(Long scenarioId) {
+        if (scenarioId == null) {
+            return false;
+        }
+        try {
+            Long botId = scenarioService.getScenario(scenarioId).getBotId();
+            return botOptionService.getOptions(botId).stream()
+                    .anyMatch(option -> INCLUDE_VARIABLES_OPTION.equals(option.getOptionKey())
+                            && Boolean.parseBoolean(option.getOptionValue()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     @MessageMapping("/chat/{sessionId}/start")
     @SendTo("/topic/chat/{sessionId}")
     public ChatResponse startScenario(
@@ -199,7 +237,7 @@ public class ChatWebSocketController {
             ScenarioExecutionResult result = scenarioService.startScenario(
                     sessionId, request.getScenarioId());
 
-            return ChatResponse.fromScenarioResult(result, sessionId);
+            return toResponse(result, sessionId);
             
         } catch (Exception e) {
             log.error("Error starting scenario {} for session {}: {}", 
@@ -1,17 +1,27 @@
 package io.moyam.chatbot.interfaces.api.websocket.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
 import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.StepMessage;
 import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 채팅 응답 (STOMP 프레임 본문)
+ * 값이 없는 필드는 보내지 않는다. 직렬화는 {@link ChatResponseMessageConverter} 가 담당한다.
+ * 한 턴에 여러 단계를 지나갔으면 앞선 메시지(preceding)와 함께 하나의 JSON 배열 프레임으로 보낸다.
+ */
 @Data
-@Builder
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ChatResponse {
     private String message;           // 봇 응답 메시지
     private String sessionId;         // 세션 ID
@@ -26,15 +36,31 @@ public class ChatResponse {
     
     // 고도화된 기능
     @Builder.Default
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<ChoiceOption> choices = Collections.emptyList(); // 동적 선택 버튼
     private String messageType;       // 메시지 타입 (text, choice, error, info)
-    private Map<String, Object> variables;  // 변수 정보 (디버깅용)
+    private Map<String, Object> variables;  // 변수 정보 (디버깅용, 봇 옵션으로 켠 경우만)
     private String processedMessage;  // 변수 치환된 메시지
     
     // 레거시 지원
     private List<String> quickReplies; // 빠른 답변 옵션 (레거시)
 
+    @JsonIgnore
+    private ChatResponsePreset preset;  // 고정 응답이면 미리 직렬화된 본문 사용
+
+    @JsonIgnore
+    @Builder.Default
+    private List<ChatResponse> preceding = Collections.emptyList();  // 같은 프레임에 먼저 보낼 메시지
+
     public static ChatResponse fromScenarioResult(ScenarioExecutionResult result, String sessionId) {
+        return fromScenarioResult(result, sessionId, false);
+    }
+
+    /**
+     * @param includeVariables 컨텍스트 변수 포함 여부 (봇 옵션 response.include_variables)
+     */
+    public static ChatResponse fromScenarioResult(ScenarioExecutionResult result, String sessionId,
+                                                  boolean includeVariables) {
         // 메시지 타입 결정
         String messageType = "text";
         if (result.getChoices() != null && !result.getChoices().isEmpty()) {
@@ -47,22 +73,58 @@ public class ChatResponse {
         String displayMessage = result.getProcessedMessage() != null ? 
             result.getProcessedMessage() : result.getCurrentStep().getContent();
         
+        Long scenarioId = result.getContext() != null ? result.getContext().getScenarioId() : null;
         return ChatResponse.builder()
                 .message(displayMessage)
                 .sessionId(sessionId)
                 .isFromBot(true)
                 .currentStepId(result.getCurrentStep().getId())
                 .nextStepId(result.getNextStep() != null ? result.getNextStep().getId() : null)
-                .scenarioId(result.getContext() != null ? result.getContext().getScenarioId() : null)
+                .scenarioId(scenarioId)
                 .isScenarioEnd(result.isCompleted())
                 .choices(result.getChoices() != null ? result.getChoices() : Collections.emptyList())
                 .messageType(messageType)
-                .variables(result.getContext() != null ? result.getContext().getVariables() : null)
-                .processedMessage(result.getProcessedMessage())
+                .variables(includeVariables && result.getContext() != null ? result.getContext().getVariables() : null)
                 .timestamp(LocalDateTime.now())
+                .preceding(result.getPrecedingMessages() != null
+                        ? result.getPrecedingMessages().stream()
+                                .map(passed -> fromStepMessage(passed, sessionId, scenarioId))
+                                .toList()
+                        : Collections.emptyList())
                 .build();
     }
 
+    /**
+     * 자동으로 지나간 MESSAGE 단계 응답 (선택지 없는 텍스트)
+     */
+    private static ChatResponse fromStepMessage(StepMessage passed, String sessionId, Long scenarioId) {
+        String displayMessage = passed.getProcessedMessage() != null ?
+            passed.getProcessedMessage() : passed.getStep().getContent();
+
+        return ChatResponse.builder()
+                .message(displayMessage)
+                .sessionId(sessionId)
+                .isFromBot(true)
+                .currentStepId(passed.getStep().getId())
+                .scenarioId(scenarioId)
+                .messageType("text")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 이 프레임으로 보내는 메시지 전체 (앞선 메시지 + 이 응답)
+     */
+    @JsonIgnore
+    public List<ChatResponse> frameMessages() {
+        if (preceding == null || preceding.isEmpty()) {
+            return List.of(this);
+        }
+        List<ChatResponse> messages = new ArrayList<>(preceding);
+        messages.add(this);
+        return messages;
+    }
+
     public static ChatResponse error(String errorMessage) {
         return ChatResponse.builder()
                 .message(errorMessage)
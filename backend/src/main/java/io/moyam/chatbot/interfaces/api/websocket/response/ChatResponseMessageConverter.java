@@ -0,0 +1,88 @@
+package io.moyam.chatbot.interfaces.api.websocket.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ChatResponse} 전용 STOMP 메시지 변환기 (송신 전용)
+ *
+ * <p>ChatResponse 타입에 고정된 ObjectWriter 를 재사용하고, 고정 응답은 미리 만든 JSON 뒤에
+ * 세션 ID 와 시간만 이어 붙인다. 수신 메시지는 기본 Jackson 변환기가 처리한다.</p>
+ *
+ * <p>앞선 메시지가 있으면 본문은 [앞선 메시지..., 응답] 배열이고, 없으면 지금처럼 객체 하나다.</p>
+ */
+public class ChatResponseMessageConverter extends AbstractMessageConverter {
+
+    private static final byte[] SESSION_ID_FIELD = ",\"sessionId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_FIELD = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectWriter responseWriter;
+    private final ObjectWriter valueWriter;
+
+    public ChatResponseMessageConverter(ObjectMapper objectMapper) {
+        super(MimeTypeUtils.APPLICATION_JSON);
+        this.responseWriter = objectMapper.writerFor(ChatResponse.class);
+        this.valueWriter = objectMapper.writer();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ChatResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canConvertFrom(Message<?> message, Class<?> targetClass) {
+        return false;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        ChatResponse response = (ChatResponse) payload;
+        try {
+            if (response.getPreceding() == null || response.getPreceding().isEmpty()) {
+                return write(response);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+            out.write('[');
+            for (ChatResponse message : response.getPreceding()) {
+                out.write(write(message));
+                out.write(',');
+            }
+            out.write(write(response));
+            out.write(']');
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not write ChatResponse: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] write(ChatResponse response) throws IOException {
+        ChatResponsePreset preset = response.getPreset();
+        return preset != null ? writePreset(preset, response) : responseWriter.writeValueAsBytes(response);
+    }
+
+    private byte[] writePreset(ChatResponsePreset preset, ChatResponse response) throws IOException {
+        byte[] fixed = preset.json(responseWriter);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(fixed.length + 96);
+        out.write(fixed);
+        if (response.getSessionId() != null) {
+            out.write(SESSION_ID_FIELD);
+            valueWriter.writeValue(out, response.getSessionId());
+        }
+        if (response.getTimestamp() != null) {
+            out.write(TIMESTAMP_FIELD);
+            valueWriter.writeValue(out, response.getTimestamp());
+        }
+        out.write('}');
+        return out.toByteArray();
+    }
+}
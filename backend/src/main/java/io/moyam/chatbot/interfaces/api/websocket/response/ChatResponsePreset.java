@@ -0,0 +1,65 @@
+package io.moyam.chatbot.interfaces.api.websocket.response;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세션과 무관한 고정 응답 (인사, 도움말, 기본 안내 등)
+ * 고정 필드는 처음 보낼 때 한 번만 JSON 으로 만들어 두고, 이후에는 세션 ID 와 시간만 덧붙여 보낸다.
+ */
+public final class ChatResponsePreset {
+
+    private final ChatResponse template;
+
+    /**
+     * 고정 필드 JSON (닫는 괄호 제외, 최초 전송 시 생성)
+     */
+    private volatile byte[] json;
+
+    private ChatResponsePreset(ChatResponse template) {
+        this.template = template;
+    }
+
+    public static ChatResponsePreset of(String messageType, String message, ChoiceOption... choices) {
+        return new ChatResponsePreset(ChatResponse.builder()
+                .message(message)
+                .isFromBot(true)
+                .messageType(messageType)
+                .choices(List.copyOf(Arrays.asList(choices)))
+                .build());
+    }
+
+    public static ChatResponsePreset info(String message) {
+        return of("info", message);
+    }
+
+    public static ChatResponsePreset error(String message) {
+        return of("error", message);
+    }
+
+    /**
+     * 세션 응답 생성 (선택지 목록 등은 공유)
+     */
+    public ChatResponse forSession(String sessionId) {
+        return template.toBuilder()
+                .sessionId(sessionId)
+                .timestamp(LocalDateTime.now())
+                .preset(this)
+                .build();
+    }
+
+    byte[] json(ObjectWriter writer) throws IOException {
+        byte[] cached = json;
+        if (cached == null) {
+            byte[] full = writer.writeValueAsBytes(template);
+            cached = Arrays.copyOf(full, full.length - 1);   // '}' 제거
+            json = cached;
+        }
+        return cached;
+    }
+}
@@ -134,11 +134,13 @@ CREATE TABLE conversations (
                                started_at timestamp DEFAULT CURRENT_TIMESTAMP NULL,
                                last_message_at timestamp DEFAULT CURRENT_TIMESTAMP NULL,
                                ended_at timestamp NULL,
+                               context_version int8 DEFAULT 0 NOT NULL,
                                CONSTRAINT conversations_pkey PRIMARY KEY (id),
                                CONSTRAINT conversations_session_id_key UNIQUE (session_id),
                                CONSTRAINT conversations_status_check CHECK (((status)::text = ANY ((ARRAY['ACTIVE'::character varying, 'PAUSED'::character varying, 'COMPLETED'::character varying, 'ABANDONED'::character varying])::text[])))
 );
 CREATE INDEX idx_conversations_bot_id ON public.conversations USING btree (bot_id);
+CREATE INDEX idx_conversations_bot_last_message ON public.conversations USING btree (bot_id, last_message_at, id);
 CREATE INDEX idx_conversations_last_message ON public.conversations USING btree (last_message_at);
 CREATE INDEX idx_conversations_session_id ON public.conversations USING btree (session_id);
 CREATE INDEX idx_conversations_status ON public.conversations USING btree (status);
@@ -146,6 +148,9 @@ CREATE INDEX idx_conversations_user_id ON public.conversations USING btree (user
 
 
 -- public.messages definition
+-- created_at 월 단위 범위 파티션 (messages_YYYY_MM). 다음 달 파티션은 MessagePartitionManager 가 미리 만들고,
+-- 보관 기간이 지난 파티션은 압축 파일로 내보낸 뒤 분리/삭제한다.
+-- 파티션 키가 기본 키에 포함되어야 하므로 PK 는 (id, created_at) 이다.
 
 -- Drop table
 
@@ -159,15 +164,34 @@ CREATE TABLE messages (
                           message_type varchar(20) DEFAULT 'TEXT'::character varying NULL,
                           metadata jsonb DEFAULT '{}'::jsonb NULL,
                           is_read bool DEFAULT false NULL,
-                          created_at timestamp DEFAULT CURRENT_TIMESTAMP NULL,
+                          created_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
                           CONSTRAINT messages_message_type_check CHECK (((message_type)::text = ANY ((ARRAY['TEXT'::character varying, 'IMAGE'::character varying, 'FILE'::character varying, 'QUICK_REPLY'::character varying, 'CARD'::character varying])::text[]))),
-	CONSTRAINT messages_pkey PRIMARY KEY (id),
+	CONSTRAINT messages_pkey PRIMARY KEY (id, created_at),
 	CONSTRAINT messages_sender_type_check CHECK (((sender_type)::text = ANY ((ARRAY['USER'::character varying, 'BOT'::character varying, 'SYSTEM'::character varying])::text[])))
-);
-CREATE INDEX idx_messages_conversation_id ON public.messages USING btree (conversation_id);
-CREATE INDEX idx_messages_created_at ON public.messages USING btree (created_at);
-CREATE INDEX idx_messages_sender_type ON public.messages USING btree (sender_type);
+) PARTITION BY RANGE (created_at);
+-- 조회는 모두 (conversation_id, created_at, id) 로 처리 (conversation_id / created_at / sender_type 단독 인덱스는 INSERT 비용만 늘려 제거)
+CREATE INDEX idx_messages_conversation_created ON public.messages USING btree (conversation_id, created_at, id);
 CREATE INDEX idx_messages_unread ON public.messages USING btree (is_read) WHERE (is_read = false);
+-- 월 파티션이 아직 없을 때 INSERT 가 실패하지 않도록 받는 곳 (정상 운영 시 비어 있음)
+CREATE TABLE messages_default PARTITION OF messages DEFAULT;
+
+
+-- public.conversation_events definition
+-- 대화 컨텍스트 변경 이벤트 (추가만 함, conversations.context_data 는 context_version 까지의 스냅샷)
+
+-- Drop table
+
+-- DROP TABLE conversation_events;
+
+CREATE TABLE conversation_events (
+                                     session_id varchar(100) NOT NULL,
+                                     seq int8 NOT NULL,
+                                     event_type varchar(20) NOT NULL,
+                                     payload jsonb DEFAULT '{}'::jsonb NOT NULL,
+                                     occurred_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                                     CONSTRAINT conversation_events_pkey PRIMARY KEY (session_id, seq)
+);
+CREATE INDEX idx_conversation_events_occurred_at ON public.conversation_events USING btree (occurred_at);
 
 
 -- public.scenario_steps definition
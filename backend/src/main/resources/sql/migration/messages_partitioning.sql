@@ -0,0 +1,62 @@
+-- messages 를 created_at 월 범위 파티션 테이블로 전환 (파티션 정의 이전 schema.sql 로 만든 DB 에 한 번 실행)
+-- 파티션 키가 기본 키에 포함되어야 하므로 새 테이블의 PK 는 (id, created_at) 이다.
+--
+-- 1) 기존 테이블을 messages_legacy 로 이름 변경
+-- 2) 파티션 부모와 데이터가 있는 첫 달부터 3개월 뒤까지의 월 파티션(messages_YYYY_MM), 기본 파티션 생성
+-- 3) 데이터 복사 (created_at 이 비어 있던 행은 실행 시각으로 채움), 외래 키와 id 시퀀스 소유권 이전
+--
+-- 복사하는 동안 messages 에 대한 쓰기가 막히므로 애플리케이션을 멈추고 실행한다.
+-- 대상 스키마가 search_path 의 첫 번째여야 한다. 결과를 확인한 뒤 messages_legacy 는 직접 삭제한다.
+--
+--   psql -v ON_ERROR_STOP=1 -d chatbot -f messages_partitioning.sql
+
+BEGIN;
+
+LOCK TABLE messages IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE messages RENAME TO messages_legacy;
+ALTER TABLE messages_legacy RENAME CONSTRAINT messages_pkey TO messages_legacy_pkey;
+ALTER TABLE messages_legacy DROP CONSTRAINT IF EXISTS messages_conversation_id_fkey;
+ALTER INDEX IF EXISTS idx_messages_conversation_created RENAME TO idx_messages_legacy_conversation_created;
+ALTER INDEX IF EXISTS idx_messages_unread RENAME TO idx_messages_legacy_unread;
+
+CREATE TABLE messages (
+                          id int8 DEFAULT nextval('messages_id_seq'::regclass) NOT NULL,
+                          conversation_id int8 NOT NULL,
+                          sender_type varchar(10) NOT NULL,
+                          "content" text NOT NULL,
+                          message_type varchar(20) DEFAULT 'TEXT'::character varying NULL,
+                          metadata jsonb DEFAULT '{}'::jsonb NULL,
+                          is_read bool DEFAULT false NULL,
+                          created_at timestamp DEFAULT CURRENT_TIMESTAMP NOT NULL,
+                          CONSTRAINT messages_message_type_check CHECK (((message_type)::text = ANY ((ARRAY['TEXT'::character varying, 'IMAGE'::character varying, 'FILE'::character varying, 'QUICK_REPLY'::character varying, 'CARD'::character varying])::text[]))),
+	CONSTRAINT messages_pkey PRIMARY KEY (id, created_at),
+	CONSTRAINT messages_sender_type_check CHECK (((sender_type)::text = ANY ((ARRAY['USER'::character varying, 'BOT'::character varying, 'SYSTEM'::character varying])::text[])))
+) PARTITION BY RANGE (created_at);
+CREATE INDEX idx_messages_conversation_created ON messages USING btree (conversation_id, created_at, id);
+CREATE INDEX idx_messages_unread ON messages USING btree (is_read) WHERE (is_read = false);
+
+-- 기존 행이 기본 파티션에 남으면 그 달 파티션을 나중에 만들 수 없으므로 데이터가 있는 달을 모두 먼저 만든다
+DO $$
+DECLARE
+    bound date;
+    last_bound date := date_trunc('month', CURRENT_DATE + interval '3 months');
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), CURRENT_TIMESTAMP)) INTO bound FROM messages_legacy;
+    WHILE bound <= last_bound LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+                       'messages_' || to_char(bound, 'YYYY_MM'), bound, (bound + interval '1 month')::date);
+        bound := bound + interval '1 month';
+    END LOOP;
+END $$;
+CREATE TABLE messages_default PARTITION OF messages DEFAULT;
+
+INSERT INTO messages (id, conversation_id, sender_type, "content", message_type, metadata, is_read, created_at)
+SELECT id, conversation_id, sender_type, "content", message_type, metadata, is_read, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM messages_legacy;
+
+ALTER TABLE messages ADD CONSTRAINT messages_conversation_id_fkey FOREIGN KEY (conversation_id) REFERENCES conversations(id) ON DELETE CASCADE;
+-- messages_legacy 를 삭제해도 id 시퀀스는 남도록
+ALTER SEQUENCE messages_id_seq OWNED BY messages.id;
+
+COMMIT;
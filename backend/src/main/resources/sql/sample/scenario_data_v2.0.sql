@@ -53,7 +53,7 @@ INSERT INTO scenario_steps (id, scenario_id, step_type, content, input_type, con
    ]
  }', null, false, 2, NOW(), NOW()),
 
--- 101-104: 일정 관리 서브 시나리오
+-- 101-105: 일정 관리 서브 시나리오
 (101, 1, 'MESSAGE', '${userName}님의 일정 관리 서비스입니다.
 
 어떤 일정을 확인하시겠어요?', 'CHOICE',
@@ -128,9 +128,10 @@ INSERT INTO scenario_steps (id, scenario_id, step_type, content, input_type, con
    }
  }', 104, false, 103, NOW(), NOW()),
 
-(104, 1, 'MESSAGE', '"${scheduleTitle}" 일정이 추가되었습니다!
+-- 확인 메시지 (입력 없이 105 로 이어짐)
+(104, 1, 'MESSAGE', '"${scheduleTitle}" 일정이 추가되었습니다!', null, null, 105, false, 104, NOW(), NOW()),
 
-${userName}님, 추가로 도움이 필요하시면 언제든 말씀해주세요.', 'CHOICE',
+(105, 1, 'QUESTION', '${userName}님, 추가로 도움이 필요하시면 언제든 말씀해주세요.', 'CHOICE',
  '{
    "type": "user_choice",
    "choices": [
@@ -150,9 +151,9 @@ ${userName}님, 추가로 도움이 필요하시면 언제든 말씀해주세요
        "next_step": 2
      }
    ]
- }', null, false, 104, NOW(), NOW()),
+ }', null, false, 105, NOW(), NOW()),
 
--- 201-203: 메모 작성 서브 시나리오
+-- 201-204: 메모 작성 서브 시나리오
 (201, 1, 'MESSAGE', '${userName}님의 메모 작성 서비스입니다.
 
 어떤 작업을 하시겠어요?', 'CHOICE',
@@ -187,11 +188,14 @@ ${userName}님, 추가로 도움이 필요하시면 언제든 말씀해주세요
    }
  }', 203, false, 202, NOW(), NOW()),
 
+-- 확인 메시지 (입력 없이 204 로 이어짐)
 (203, 1, 'MESSAGE', '메모가 저장되었습니다!
 
 ${userName}님의 메모: "${memoContent}"
 
-저장 시간: ${now}', 'CHOICE',
+저장 시간: ${now}', null, null, 204, false, 203, NOW(), NOW()),
+
+(204, 1, 'QUESTION', '다음 작업을 선택해주세요.', 'CHOICE',
  '{
    "type": "user_choice",
    "choices": [
@@ -211,7 +215,7 @@ ${userName}님의 메모: "${memoContent}"
        "next_step": 2
      }
    ]
- }', null, false, 203, NOW(), NOW()),
+ }', null, false, 204, NOW(), NOW()),
 
 -- 301-303: 계산기 서브 시나리오
 (301, 1, 'MESSAGE', '${userName}님의 계산기 서비스입니다.
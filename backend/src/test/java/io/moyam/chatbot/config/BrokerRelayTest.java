@@ -0,0 +1,123 @@
+package io.moyam.chatbot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 브로커 릴레이 모드: 두 인스턴스가 같은 외부 브로커(대역)를 통해 구독을 공유하는지 확인
+ */
+class BrokerRelayTest {
+
+    private StompBrokerStandIn broker;
+    private final List<StompBrokerRelayMessageHandler> relays = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        relays.forEach(StompBrokerRelayMessageHandler::stop);
+        if (broker != null) {
+            broker.close();
+        }
+    }
+
+    @Test
+    void 다른_인스턴스에서_발행한_응답이_구독한_클라이언트에_전달된다() throws Exception {
+        // Given: 같은 브로커를 쓰는 두 인스턴스, 클라이언트는 subscriber 인스턴스에 연결
+        broker = new StompBrokerStandIn();
+        Node publisher = startNode();
+        Node subscriber = startNode();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> publisher.relay().isBrokerAvailable() && subscriber.relay().isBrokerAvailable());
+
+        subscriber.send(StompCommand.CONNECT, "client-1", accessor -> {
+            accessor.setAcceptVersion("1.2");
+            accessor.setHeartbeat(0, 0);
+        });
+        assertThat(subscriber.next(StompCommand.CONNECTED)).isNotNull();
+
+        subscriber.send(StompCommand.SUBSCRIBE, "client-1", accessor -> {
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination("/topic/chat/session-1");
+            accessor.setReceipt("subscribed");
+        });
+        assertThat(subscriber.next(StompCommand.RECEIPT)).isNotNull();
+
+        // When: 다른 인스턴스가 @SendTo 와 같은 경로(broker channel)로 응답 발행
+        SimpMessagingTemplate template = new SimpMessagingTemplate(publisher.brokerChannel());
+        template.setMessageConverter(new StringMessageConverter());   // 브로커 템플릿처럼 byte[] 로 변환
+        template.convertAndSend("/topic/chat/session-1", "안녕하세요");
+
+        // Then
+        Message<?> message = subscriber.next(StompCommand.MESSAGE);
+        assertThat(message).isNotNull();
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        assertThat(accessor.getSessionId()).isEqualTo("client-1");
+        assertThat(accessor.getDestination()).isEqualTo("/topic/chat/session-1");
+        assertThat(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("안녕하세요");
+    }
+
+    private Node startNode() {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        clientOutbound.subscribe(received::add);
+
+        // WebSocketConfig 의 relay 설정과 같은 prefix
+        StompBrokerRelayMessageHandler relay = new StompBrokerRelayMessageHandler(
+                clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+        relay.setRelayHost("127.0.0.1");
+        relay.setRelayPort(broker.getPort());
+        relay.setSystemHeartbeatSendInterval(0);
+        relay.setSystemHeartbeatReceiveInterval(0);
+        relay.start();
+        relays.add(relay);
+        return new Node(relay, clientInbound, brokerChannel, received);
+    }
+
+    private record Node(StompBrokerRelayMessageHandler relay,
+                        ExecutorSubscribableChannel clientInbound,
+                        ExecutorSubscribableChannel brokerChannel,
+                        BlockingQueue<Message<?>> received) {
+
+        void send(StompCommand command, String sessionId, Consumer<StompHeaderAccessor> headers) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+            accessor.setSessionId(sessionId);
+            headers.accept(accessor);
+            clientInbound.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        /**
+         * 클라이언트로 나간 메시지 중 해당 명령의 다음 메시지 (5초 대기)
+         */
+        Message<?> next(StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                Message<?> message = received.poll(100, TimeUnit.MILLISECONDS);
+                if (message != null && StompHeaderAccessor.wrap(message).getCommand() == command) {
+                    return message;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.moyam.chatbot.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.bot.repository.BotOptionMapper;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheConfigTest {
+
+    private final ScenarioStepMapper stepMapper = mock(ScenarioStepMapper.class);
+
+    /**
+     * 빈 초기화(afterPropertiesSet)까지 마친 캐시 매니저 (초기화 전에는 getCache 가 null)
+     */
+    private CacheManager cacheManager(CacheProperties properties) {
+        CacheManager cacheManager = new CacheConfig(mock(ScenarioMapper.class), stepMapper, mock(BotMapper.class),
+                mock(BotOptionMapper.class)).cacheManager(properties);
+        ((SimpleCacheManager) cacheManager).afterPropertiesSet();
+        return cacheManager;
+    }
+
+    @Test
+    void 캐시별_설정이_기본값과_합쳐진다() {
+        // Given
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec steps = new CacheProperties.Spec();
+        steps.setMaximumWeight(500L);
+        steps.setRefreshAfterWrite(Duration.ofMinutes(5));
+        properties.getSpecs().put("scenarioSteps", steps);
+
+        // When
+        CacheManager cacheManager = cacheManager(properties);
+
+        // Then
+        Cache<Object, Object> stepCache = ((CaffeineCache) cacheManager.getCache("scenarioSteps")).getNativeCache();
+        assertThat(stepCache).isInstanceOf(LoadingCache.class);
+        assertThat(stepCache.policy().eviction().orElseThrow().isWeighted()).isTrue();
+        assertThat(stepCache.policy().expireAfterWrite().orElseThrow().getExpiresAfter()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(stepCache.policy().refreshAfterWrite()).isPresent();
+
+        Cache<Object, Object> botCache = ((CaffeineCache) cacheManager.getCache("bots")).getNativeCache();
+        assertThat(botCache).isNotInstanceOf(LoadingCache.class);
+        assertThat(botCache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(1000L);
+    }
+
+    @Test
+    void 없는_단계도_캐시된다() {
+        // Given
+        CacheProperties properties = new CacheProperties();
+        properties.getSpecs().put("scenarioSteps", new CacheProperties.Spec());
+        org.springframework.cache.Cache cache = cacheManager(properties).getCache("scenarioSteps");
+
+        // When
+        cache.put(999L, null);
+
+        // Then
+        assertThat(cache.get(999L)).isNotNull();
+        assertThat(cache.get(999L).get()).isNull();
+    }
+
+    @Test
+    void 새로고침_로더는_DB_값을_다시_읽는다() throws Exception {
+        // Given
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+        properties.getSpecs().put("scenarioSteps", spec);
+        CaffeineCache cache = (CaffeineCache) cacheManager(properties).getCache("scenarioSteps");
+        ScenarioStep updated = ScenarioStep.builder().id(1L).content("수정됨").build();
+        when(stepMapper.findById(1L)).thenReturn(Optional.of(updated));
+        cache.put(1L, ScenarioStep.builder().id(1L).content("원본").build());
+
+        // When
+        ((LoadingCache<Object, Object>) cache.getNativeCache()).refresh(1L).get();
+
+        // Then
+        assertThat(cache.get(1L).get()).isSameAs(updated);
+    }
+}
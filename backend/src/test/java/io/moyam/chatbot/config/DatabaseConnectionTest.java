@@ -35,8 +35,8 @@ class DatabaseConnectionTest {
         try (Connection connection = dataSource.getConnection()) {
             var metaData = connection.getMetaData();
 
-            // 주요 테이블 존재 확인
-            var tables = metaData.getTables(null, "public", null, new String[]{"TABLE"});
+            // 주요 테이블 존재 확인 (messages 는 월별 파티션 부모 테이블)
+            var tables = metaData.getTables(null, "public", null, new String[]{"TABLE", "PARTITIONED TABLE"});
             var tableNames = new java.util.ArrayList<String>();
 
             while (tables.next()) {
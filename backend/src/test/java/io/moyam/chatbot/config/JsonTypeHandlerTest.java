@@ -0,0 +1,97 @@
+package io.moyam.chatbot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JsonTypeHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void 컬럼_바이트를_Map_으로_읽는다() throws Exception {
+        // Given
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getBytes("conditions")).thenReturn(
+                "{\"type\":\"user_choice\",\"label\":\"일정\"}".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        Map<String, Object> result = new JsonTypeHandler(objectMapper).getNullableResult(rs, "conditions");
+
+        // Then
+        assertThat(result).containsEntry("type", "user_choice").containsEntry("label", "일정");
+    }
+
+    @Test
+    void 바이너리_전송_버전_바이트는_건너뛴다() throws Exception {
+        // Given
+        byte[] text = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] binary = new byte[text.length + 1];
+        binary[0] = 1;
+        System.arraycopy(text, 0, binary, 1, text.length);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getBytes(1)).thenReturn(binary);
+
+        // When
+        Map<String, Object> result = new JsonTypeHandler(objectMapper).getNullableResult(rs, 1);
+
+        // Then
+        assertThat(result).containsEntry("a", 1);
+    }
+
+    @Test
+    void 빈_컬럼은_null() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getBytes("metadata")).thenReturn("  ".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new JsonTypeHandler(objectMapper).getNullableResult(rs, "metadata")).isNull();
+        assertThat(new JsonTypeHandler(objectMapper).getNullableResult(rs, "missing")).isNull();
+    }
+
+    @Test
+    void 컨텍스트_스냅샷을_타입으로_직접_바인딩한다() throws Exception {
+        // Given
+        ConversationContextTypeHandler handler = new ConversationContextTypeHandler(objectMapper);
+        ConversationContext context = ConversationContext.builder()
+                .scenarioId(1L)
+                .currentStepId(3L)
+                .variables(Map.of("userName", "홍길동"))
+                .visitedSteps(List.of("1", "2"))
+                .lastInteraction(LocalDateTime.of(2024, 5, 1, 9, 30))
+                .build();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        handler.setNonNullParameter(ps, 1, context, null);
+        String json = objectMapper.writeValueAsString(context);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getBytes("context_data")).thenReturn(json.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        ConversationContext restored = handler.getNullableResult(rs, "context_data");
+
+        // Then
+        verify(ps).setObject(eq(1), anyString(), eq(Types.OTHER));
+        assertThat(restored.getCurrentStepId()).isEqualTo(3L);
+        assertThat(restored.getVariables()).containsEntry("userName", "홍길동");
+        assertThat(restored.getVisitedSteps()).containsExactly("1", "2");
+        assertThat(restored.getLastInteraction()).isEqualTo(LocalDateTime.of(2024, 5, 1, 9, 30));
+    }
+}
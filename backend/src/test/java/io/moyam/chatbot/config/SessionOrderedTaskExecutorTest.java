@@ -0,0 +1,169 @@
+package io.moyam.chatbot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionOrderedTaskExecutorTest {
+
+    /**
+     * 테스트용 작업: key 를 세션 키로 사용
+     */
+    private record KeyedTask(String key, Runnable body) implements Runnable {
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+
+    /**
+     * 테스트용 인바운드 메시지 처리 작업
+     */
+    private record InboundTask(Message<?> message) implements MessageHandlingRunnable {
+        @Override
+        public MessageHandler getMessageHandler() {
+            return received -> { };
+        }
+
+        @Override
+        public Message<?> getMessage() {
+            return message;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
+    private final SessionOrderedTaskExecutor executor =
+            new SessionOrderedTaskExecutor(3, task -> task instanceof KeyedTask keyed ? keyed.key() : null);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 같은_세션의_작업은_순서대로_하나씩_실행된다() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(100);
+        SessionOrderedTaskExecutor unbounded =
+                new SessionOrderedTaskExecutor(1_000, task -> ((KeyedTask) task).key());
+
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            unbounded.execute(new KeyedTask("session-1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(sequence);
+                running.decrementAndGet();
+                done.countDown();
+            }));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).isSorted().hasSize(100);
+        assertThat(maxRunning.get()).isEqualTo(1);
+        unbounded.shutdown();
+    }
+
+    @Test
+    void 다른_세션은_병렬로_실행된다() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch finished = new CountDownLatch(2);
+        Runnable waitForOther = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        };
+
+        executor.execute(new KeyedTask("session-1", waitForOther));
+        executor.execute(new KeyedTask("session-2", waitForOther));
+
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    void 세션_대기열이_가득_차면_거부한다() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(new KeyedTask("session-1", () -> {
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 3; i++) {
+            executor.execute(new KeyedTask("session-1", () -> { }));
+        }
+        assertThat(executor.getQueuedCount()).isEqualTo(3);
+        assertThatThrownBy(() -> executor.execute(new KeyedTask("session-1", () -> { })))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+    }
+
+    @Test
+    void 세션_키가_없는_작업은_순서_보장_없이_실행된다() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("ws-inbound-");
+        assertThat(executor.getActiveSessionCount()).isZero();
+    }
+
+    @Test
+    void 시작_프레임과_메시지_프레임은_같은_세션_키를_쓴다() {
+        // When & Then
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound("/app/chat/abc/start", "stomp-1"))).isEqualTo("abc");
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound("/app/chat/abc", "stomp-1"))).isEqualTo("abc");
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound("/app/chat/abc", "stomp-2"))).isEqualTo("abc");
+    }
+
+    @Test
+    void 채팅_목적지가_아니면_STOMP_세션_ID_를_쓴다() {
+        // When & Then
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound("/topic/chat/abc", "stomp-1"))).isEqualTo("stomp-1");
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound("/app/chat/", "stomp-1"))).isEqualTo("stomp-1");
+        assertThat(SessionOrderedTaskExecutor.sessionKey(inbound(null, "stomp-1"))).isEqualTo("stomp-1");
+        assertThat(SessionOrderedTaskExecutor.sessionKey(() -> { })).isNull();
+    }
+
+    private static InboundTask inbound(String destination, String stompSessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setDestination(destination);
+        accessor.setSessionId(stompSessionId);
+        return new InboundTask(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,186 @@
+package io.moyam.chatbot.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 STOMP 브로커 대역 (테스트용)
+ * CONNECT/SUBSCRIBE/UNSUBSCRIBE/SEND/DISCONNECT 만 처리하고, SEND 는 같은 destination 의 모든 구독에 MESSAGE 로 전달한다.
+ */
+class StompBrokerStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    StompBrokerStandIn() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                executor.execute(connection::read);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void publish(String destination, String body) {
+        for (Connection connection : connections) {
+            connection.subscriptions.forEach((subscriptionId, subscribed) -> {
+                if (subscribed.equals(destination)) {
+                    connection.send("MESSAGE", Map.of(
+                            "destination", destination,
+                            "subscription", subscriptionId,
+                            "message-id", String.valueOf(messageIds.incrementAndGet())), body);
+                }
+            });
+        }
+    }
+
+    private record Frame(String command, Map<String, String> headers, String body) {
+    }
+
+    private final class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        /**
+         * 구독 ID -> destination
+         */
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = socket.getInputStream();
+            this.out = socket.getOutputStream();
+        }
+
+        private void read() {
+            try {
+                Frame frame;
+                while ((frame = readFrame()) != null) {
+                    handle(frame);
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                connections.remove(this);
+                close();
+            }
+        }
+
+        private void handle(Frame frame) {
+            Map<String, String> headers = frame.headers();
+            switch (frame.command()) {
+                case "CONNECT", "STOMP" -> send("CONNECTED", Map.of("version", "1.2", "heart-beat", "0,0"), "");
+                case "SUBSCRIBE" -> subscriptions.put(headers.get("id"), headers.get("destination"));
+                case "UNSUBSCRIBE" -> subscriptions.remove(headers.get("id"));
+                case "SEND" -> publish(headers.get("destination"), frame.body());
+                default -> {
+                }
+            }
+            if (headers.containsKey("receipt")) {
+                send("RECEIPT", Map.of("receipt-id", headers.get("receipt")), "");
+            }
+            if ("DISCONNECT".equals(frame.command())) {
+                close();
+            }
+        }
+
+        /**
+         * NULL 로 끝나는 프레임 하나 읽기 (프레임 사이 heart-beat 개행은 건너뜀)
+         */
+        private Frame readFrame() throws IOException {
+            int b;
+            do {
+                b = in.read();
+                if (b == -1) {
+                    return null;
+                }
+            } while (b == '\n' || b == '\r');
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            while (b != 0) {
+                buffer.write(b);
+                b = in.read();
+                if (b == -1) {
+                    return null;
+                }
+            }
+
+            String text = buffer.toString(StandardCharsets.UTF_8).replace("\r\n", "\n");
+            int split = text.indexOf("\n\n");
+            String head = split >= 0 ? text.substring(0, split) : text;
+            String body = split >= 0 ? text.substring(split + 2) : "";
+
+            String[] lines = head.split("\n");
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) {
+                    headers.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1));
+                }
+            }
+            return new Frame(lines[0], headers, body);
+        }
+
+        private synchronized void send(String command, Map<String, String> headers, String body) {
+            byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+            StringBuilder frame = new StringBuilder(command).append('\n');
+            headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+            frame.append("content-length:").append(payload.length).append("\n\n");
+            try {
+                out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+                out.write(payload);
+                out.write(0);
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+}
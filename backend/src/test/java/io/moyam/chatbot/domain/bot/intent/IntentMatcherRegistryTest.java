@@ -0,0 +1,65 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import io.moyam.chatbot.domain.bot.model.BotOption;
+import io.moyam.chatbot.domain.bot.service.BotOptionService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IntentMatcherRegistryTest {
+
+    private final BotOptionService botOptionService = mock(BotOptionService.class);
+    private final IntentMatcherRegistry registry = new IntentMatcherRegistry(botOptionService);
+
+    @Test
+    void 기본_키워드는_기존_우선순위대로_판별한다() {
+        when(botOptionService.getOptions(1L)).thenReturn(List.of());
+
+        assertThat(registry.match(1L, "안녕, 시작할게요")).contains(ChatIntent.START);   // 시작 > 인사
+        assertThat(registry.match(1L, "Hello")).contains(ChatIntent.GREETING);
+        assertThat(registry.match(1L, " ? ")).contains(ChatIntent.HELP);
+        assertThat(registry.match(1L, "1")).contains(ChatIntent.START);
+        assertThat(registry.match(1L, "10")).isEmpty();                                // '=1' 은 전체 일치만
+        assertThat(registry.match(1L, "감사합니다 bye")).contains(ChatIntent.THANKS);
+        assertThat(registry.match(1L, "날씨 어때")).isEmpty();
+        assertThat(registry.match(null, "도움말")).contains(ChatIntent.HELP);
+    }
+
+    @Test
+    void 봇_옵션의_키워드와_우선순위를_사용한다() {
+        when(botOptionService.getOptions(2L)).thenReturn(List.of(
+                option("intent.greeting.keywords", "hola, 반가워"),
+                option("intent.greeting.priority", "1"),
+                option("intent.goodbye.keywords", "")));
+
+        assertThat(registry.match(2L, "반가워요 시작")).contains(ChatIntent.GREETING);
+        assertThat(registry.match(2L, "안녕")).isEmpty();          // 기본 인사 키워드 대체
+        assertThat(registry.match(2L, "bye")).isEmpty();           // 비활성
+    }
+
+    @Test
+    void 옵션_목록이_바뀌면_새로_컴파일하고_같으면_재사용한다() {
+        List<BotOption> before = List.of();
+        List<BotOption> after = List.of(option("intent.help.keywords", "sos"));
+        when(botOptionService.getOptions(3L)).thenReturn(before);
+
+        IntentMatcher first = registry.matcherFor(3L);
+        assertThat(registry.matcherFor(3L)).isSameAs(first);
+        assertThat(registry.match(3L, "sos")).isEmpty();
+
+        // When: 옵션 저장으로 캐시가 갱신됨
+        when(botOptionService.getOptions(3L)).thenReturn(after);
+
+        // Then
+        assertThat(registry.matcherFor(3L)).isNotSameAs(first);
+        assertThat(registry.match(3L, "SOS")).contains(ChatIntent.HELP);
+    }
+
+    private static BotOption option(String key, String value) {
+        return BotOption.builder().botId(2L).optionKey(key).optionValue(value).build();
+    }
+}
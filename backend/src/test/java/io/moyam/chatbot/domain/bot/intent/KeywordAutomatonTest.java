@@ -0,0 +1,32 @@
+package io.moyam.chatbot.domain.bot.intent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+    @Test
+    void 포함된_키워드_중_가장_높은_순위를_찾는다() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(Map.of(
+                "he", 3, "she", 2, "his", 1, "hers", 0, "안녕", 4));
+
+        assertThat(automaton.bestRank("ushers")).isEqualTo(0);     // she, he, hers
+        assertThat(automaton.bestRank("USHE")).isEqualTo(2);       // 대소문자 무시
+        assertThat(automaton.bestRank("ahishe")).isEqualTo(1);
+        assertThat(automaton.bestRank("네 안녕하세요")).isEqualTo(4);
+        assertThat(automaton.bestRank("hx")).isEqualTo(KeywordAutomaton.NO_MATCH);
+        assertThat(automaton.bestRank("")).isEqualTo(KeywordAutomaton.NO_MATCH);
+    }
+
+    @Test
+    void 실패_링크로_겹친_키워드를_놓치지_않는다() {
+        // "abcd" 를 따라가다 실패하면 접미사 "bc" 에서 이어서 "bce" 를 찾아야 한다
+        KeywordAutomaton automaton = KeywordAutomaton.compile(Map.of("abcd", 0, "bce", 1));
+
+        assertThat(automaton.bestRank("abce")).isEqualTo(1);
+        assertThat(automaton.bestRank("xabcdx")).isEqualTo(0);
+    }
+}
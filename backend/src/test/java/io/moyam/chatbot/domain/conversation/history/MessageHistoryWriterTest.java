@@ -0,0 +1,132 @@
+package io.moyam.chatbot.domain.conversation.history;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.config.HistoryProperties;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.repository.MessageMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageHistoryWriterTest {
+
+    private final MessageMapper messageMapper = mock(MessageMapper.class);
+    private final ConversationMapper conversationMapper = mock(ConversationMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MessageHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 큐가_계속_가득_차_있으면_요청_스레드에서_직접_저장한다() throws Exception {
+        // Given: 큐 1칸, 기록 스레드는 첫 메시지의 대화 조회에서 멈춰 있음
+        HistoryProperties properties = new HistoryProperties();
+        properties.setQueueCapacity(1);
+        properties.setMaxBatchSize(1);
+        properties.setOfferTimeout(Duration.ofMillis(10));
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        when(conversationMapper.findBySessionId(anyString())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("message-history-writer")) {
+                writerBlocked.countDown();
+                release.await();
+            }
+            return Optional.of(Conversation.builder().id(7L).build());
+        });
+        writer = new MessageHistoryWriter(properties, messageMapper, conversationMapper,
+                mock(ScenarioMapper.class), meterRegistry);
+        writer.start();
+
+        writer.record("s1", null, Message.SenderType.USER, Message.MessageType.TEXT, "첫 번째");
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record("s1", null, Message.SenderType.USER, Message.MessageType.TEXT, "두 번째");
+
+        // When: 큐가 찬 상태에서 세 번째 메시지
+        writer.record("s1", null, Message.SenderType.BOT, Message.MessageType.TEXT, "세 번째");
+
+        // Then: 누락 없이 바로 저장됨
+        ArgumentCaptor<Message> written = ArgumentCaptor.forClass(Message.class);
+        verify(messageMapper).insert(written.capture());
+        assertThat(written.getValue().getContent()).isEqualTo("세 번째");
+        assertThat(written.getValue().getConversationId()).isEqualTo(7L);
+        assertThat(meterRegistry.get("chatbot.history.queue.overflow").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chatbot.history.messages").tag("result", "dropped").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void 저장에_실패한_메시지는_버리지_않고_다시_저장한다() {
+        // Given: 첫 대화 조회는 DB 오류
+        when(conversationMapper.findBySessionId("s1"))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(Optional.of(Conversation.builder().id(7L).build()));
+        writer = startWriter();
+
+        // When
+        writer.record("s1", null, Message.SenderType.USER, Message.MessageType.TEXT, "안녕하세요");
+
+        // Then: 재시도에서 저장됨
+        ArgumentCaptor<List<Message>> written = ArgumentCaptor.captor();
+        verify(messageMapper, timeout(5_000)).insertBatch(written.capture());
+        assertThat(written.getValue()).extracting(Message::getContent).containsExactly("안녕하세요");
+        assertThat(written.getValue().get(0).getConversationId()).isEqualTo(7L);
+        assertThat(meterRegistry.get("chatbot.history.retries").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chatbot.history.messages").tag("result", "failed").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void 종료할_때까지_저장하지_못한_메시지만_실패로_집계한다() {
+        // Given: INSERT 가 계속 실패
+        when(conversationMapper.findBySessionId("s1")).thenReturn(Optional.of(Conversation.builder().id(7L).build()));
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(messageMapper).insertBatch(anyList());
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(messageMapper).insert(any());
+        writer = startWriter();
+        writer.record("s1", null, Message.SenderType.USER, Message.MessageType.TEXT, "안녕하세요");
+        verify(messageMapper, timeout(5_000).atLeast(2)).insertBatch(anyList());   // 재시도 중
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(meterRegistry.get("chatbot.history.messages").tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("chatbot.history.retry.size").gauge().value()).isZero();
+    }
+
+    private MessageHistoryWriter startWriter() {
+        HistoryProperties properties = new HistoryProperties();
+        properties.setFlushInterval(Duration.ofMillis(10));
+        properties.setRetryInterval(Duration.ofMillis(10));
+        MessageHistoryWriter started = new MessageHistoryWriter(properties, messageMapper, conversationMapper,
+                mock(ScenarioMapper.class), meterRegistry);
+        started.start();
+        return started;
+    }
+}
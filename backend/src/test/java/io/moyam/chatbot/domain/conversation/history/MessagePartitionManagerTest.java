@@ -0,0 +1,163 @@
+package io.moyam.chatbot.domain.conversation.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.config.MessagePartitionProperties;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.MessagePartitionMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessagePartitionManagerTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-15T00:00:00Z"), ZONE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final MessagePartitionMapper partitionMapper = mock(MessagePartitionMapper.class);
+    private final MessagePartitionProperties properties = new MessagePartitionProperties();
+
+    @TempDir
+    Path archiveDir;
+
+    private MessagePartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPremakeMonths(2);
+        properties.setRetentionMonths(3);
+        properties.setArchiveDir(archiveDir);
+        manager = new MessagePartitionManager(properties, partitionMapper, mock(PlatformTransactionManager.class),
+                objectMapper, new SimpleMeterRegistry(), CLOCK);
+        when(partitionMapper.tryLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void 없는_미래_파티션만_만든다() {
+        // Given: 이번 달(2026-10) 파티션만 있음
+        when(partitionMapper.findPartitions()).thenReturn(List.of("messages_2026_10", "messages_default"));
+
+        // When
+        manager.maintain();
+
+        // Then
+        verify(partitionMapper, never()).createPartition("messages_2026_10", "2026-10-01", "2026-11-01");
+        verify(partitionMapper).createPartition("messages_2026_11", "2026-11-01", "2026-12-01");
+        verify(partitionMapper).createPartition("messages_2026_12", "2026-12-01", "2027-01-01");
+        verify(partitionMapper, never()).detachPartition(anyString());
+    }
+
+    @Test
+    void 보관_기간이_지난_파티션은_압축_파일로_내보낸_뒤_분리하고_삭제한다() throws Exception {
+        // Given: 보관 3개월 -> 2026-08 부터 유지, 2026-07 은 보관 대상
+        when(partitionMapper.findPartitions()).thenReturn(List.of(
+                "messages_2026_07", "messages_2026_08", "messages_2026_10", "messages_2026_11", "messages_2026_12",
+                "messages_default"));
+        Cursor<Message> cursor = cursorOf(List.of(message(1L, "안녕하세요"), message(2L, "문의드립니다")));
+        when(partitionMapper.streamPartition("messages_2026_07")).thenReturn(cursor);
+
+        // When
+        manager.maintain();
+
+        // Then
+        verify(partitionMapper).detachPartition("messages_2026_07");
+        verify(partitionMapper).dropTable("messages_2026_07");
+        verify(partitionMapper, never()).detachPartition("messages_2026_08");
+        verify(partitionMapper, never()).detachPartition("messages_default");
+
+        Path archive = archiveDir.resolve("messages_2026_07" + MessagePartitionManager.ARCHIVE_SUFFIX);
+        List<String> lines = readGzipLines(archive);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(1), Message.class).getContent()).isEqualTo("문의드립니다");
+    }
+
+    @Test
+    void 내보내기에_실패하면_파티션을_삭제하지_않는다() {
+        // Given
+        when(partitionMapper.findPartitions()).thenReturn(List.of("messages_2026_01", "messages_2026_10"));
+        doThrow(new IllegalStateException("connection reset")).when(partitionMapper).streamPartition("messages_2026_01");
+
+        // When
+        manager.maintain();
+
+        // Then
+        verify(partitionMapper, never()).detachPartition(anyString());
+        verify(partitionMapper, never()).dropTable(anyString());
+    }
+
+    @Test
+    void messages_가_파티션_테이블이_아니면_기동하지_않는다() {
+        // Given: 전환 스크립트를 실행하지 않은 DB
+        when(partitionMapper.isPartitioned()).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(manager::start)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("sql/migration/messages_partitioning.sql");
+        verify(partitionMapper, never()).createPartition(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 월_파티션_이름만_해석한다() {
+        assertThat(MessagePartitionManager.monthOf("messages_2026_07")).isEqualTo(YearMonth.of(2026, 7));
+        assertThat(MessagePartitionManager.monthOf("messages_default")).isNull();
+        assertThat(MessagePartitionManager.partitionName(YearMonth.of(2027, 1))).isEqualTo("messages_2027_01");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<Message> cursorOf(List<Message> messages) {
+        Cursor<Message> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(messages.iterator());
+        return cursor;
+    }
+
+    private static Message message(Long id, String content) {
+        return Message.builder()
+                .id(id)
+                .conversationId(1L)
+                .senderType(Message.SenderType.USER)
+                .messageType(Message.MessageType.TEXT)
+                .content(content)
+                .isRead(false)
+                .createdAt(LocalDateTime.of(2026, 7, 1, 9, 0).plusMinutes(id))
+                .build();
+    }
+
+    private static List<String> readGzipLines(Path file) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.moyam.chatbot.domain.conversation.history;
+
+import io.moyam.chatbot.domain.conversation.repository.MessagePartitionMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 이전 messages 테이블을 전환 스크립트로 월 파티션 테이블로 바꾼다
+ * 운영 스키마에 영향이 없도록 임시 스키마에 예전 정의로 테이블을 만들어 실행한다.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class MessagePartitionMigrationTest {
+
+    private final String schema = "migration_" + UUID.randomUUID().toString().replace("-", "");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MessagePartitionMapper partitionMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+    }
+
+    @Test
+    void 기존_메시지를_월_파티션으로_옮기고_id_시퀀스를_이어간다() throws Exception {
+        // Given: 파티션 이전 정의의 messages (created_at 이 빈 행 포함)
+        execute("""
+                CREATE TABLE conversations (id int8 PRIMARY KEY);
+                INSERT INTO conversations VALUES (1);
+                CREATE TABLE messages (
+                    id bigserial NOT NULL,
+                    conversation_id int8 NOT NULL,
+                    sender_type varchar(10) NOT NULL,
+                    "content" text NOT NULL,
+                    message_type varchar(20) DEFAULT 'TEXT'::character varying NULL,
+                    metadata jsonb DEFAULT '{}'::jsonb NULL,
+                    is_read bool DEFAULT false NULL,
+                    created_at timestamp DEFAULT CURRENT_TIMESTAMP NULL,
+                    CONSTRAINT messages_pkey PRIMARY KEY (id)
+                );
+                CREATE INDEX idx_messages_unread ON messages USING btree (is_read) WHERE (is_read = false);
+                ALTER TABLE messages ADD CONSTRAINT messages_conversation_id_fkey
+                    FOREIGN KEY (conversation_id) REFERENCES conversations(id) ON DELETE CASCADE;
+                INSERT INTO messages (conversation_id, sender_type, content, created_at) VALUES
+                    (1, 'USER', '안녕하세요', '2025-01-15 10:00'),
+                    (1, 'BOT', '무엇을 도와드릴까요?', '2025-03-02 10:00'),
+                    (1, 'USER', '시각 없음', NULL);
+                """);
+
+        // When
+        execute(new ClassPathResource("sql/migration/messages_partitioning.sql").getContentAsString(StandardCharsets.UTF_8));
+        execute("""
+                DROP TABLE messages_legacy;
+                INSERT INTO messages (conversation_id, sender_type, content) VALUES (1, 'USER', '전환 후');
+                """);
+
+        // Then: 현재 스키마로 한정한 조회가 임시 스키마의 파티션만 돌려줌
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> partitions = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL search_path TO " + schema);
+            assertThat(partitionMapper.isPartitioned()).isTrue();
+            return partitionMapper.findPartitions();
+        });
+        assertThat(partitions).contains("messages_2025_01", "messages_2025_02", "messages_2025_03", "messages_default");
+
+        String messages = schema + ".messages";
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM " + messages + " ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + schema + ".messages_default", Long.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + messages + " WHERE created_at IS NULL", Long.class)).isZero();
+
+        // 대화를 지우면 새 외래 키로 메시지도 삭제
+        jdbcTemplate.update("DELETE FROM " + schema + ".conversations");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + messages, Long.class)).isZero();
+    }
+
+    /**
+     * 스크립트를 임시 스키마에서 실행 (커넥션을 풀에 돌려주기 전에 search_path 복구)
+     */
+    private void execute(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+            statement.execute("SET search_path TO " + schema);
+            try {
+                statement.execute(sql);
+            } finally {
+                statement.execute("ROLLBACK");
+                statement.execute("RESET search_path");
+            }
+        }
+    }
+}
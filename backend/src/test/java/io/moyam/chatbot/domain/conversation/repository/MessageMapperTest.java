@@ -0,0 +1,131 @@
+package io.moyam.chatbot.domain.conversation.repository;
+
+import io.moyam.chatbot.domain.bot.model.Bot;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.user.model.User;
+import io.moyam.chatbot.domain.user.repository.UserMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@Rollback
+class MessageMapperTest {
+
+    @Autowired
+    private MessageMapper messageMapper;
+
+    @Autowired
+    private ConversationMapper conversationMapper;
+
+    @Autowired
+    private BotMapper botMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private Long conversationId;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("message-" + UUID.randomUUID() + "@moyam.io")
+                .passwordHash("hashedPassword123")
+                .name("메시지 테스터")
+                .isActive(true)
+                .build();
+        userMapper.insert(user);
+
+        Bot bot = Bot.builder()
+                .userId(user.getId())
+                .name("메시지 테스트 봇")
+                .isActive(true)
+                .build();
+        botMapper.insert(bot);
+
+        Conversation conversation = Conversation.builder()
+                .botId(bot.getId())
+                .status(Conversation.ConversationStatus.ACTIVE)
+                .sessionId("message-mapper-" + UUID.randomUUID())
+                .build();
+        conversationMapper.insert(conversation);
+        conversationId = conversation.getId();
+    }
+
+    @Test
+    void 배치로_저장한_메시지를_다시_읽는다() {
+        // Given
+        messageMapper.insertBatch(List.of(
+                message(Message.SenderType.USER, Message.MessageType.TEXT, "안녕하세요", 0),
+                message(Message.SenderType.BOT, Message.MessageType.QUICK_REPLY, "무엇을 도와드릴까요?", 1),
+                message(Message.SenderType.SYSTEM, Message.MessageType.TEXT, "상담이 종료되었습니다.", 2)));
+
+        // When
+        List<Message> messages = messageMapper.findByConversationId(conversationId);
+
+        // Then: enum 컬럼이 각자의 타입으로 읽힘
+        assertThat(messages)
+                .extracting(Message::getSenderType, Message::getMessageType, Message::getContent)
+                .containsExactly(
+                        tuple(Message.SenderType.USER, Message.MessageType.TEXT, "안녕하세요"),
+                        tuple(Message.SenderType.BOT, Message.MessageType.QUICK_REPLY, "무엇을 도와드릴까요?"),
+                        tuple(Message.SenderType.SYSTEM, Message.MessageType.TEXT, "상담이 종료되었습니다."));
+    }
+
+    @Test
+    void 페이지와_스트림도_같은_순서로_읽는다() throws Exception {
+        // Given
+        messageMapper.insertBatch(List.of(
+                message(Message.SenderType.USER, Message.MessageType.TEXT, "첫 번째", 0),
+                message(Message.SenderType.BOT, Message.MessageType.TEXT, "두 번째", 1),
+                message(Message.SenderType.USER, Message.MessageType.TEXT, "세 번째", 2)));
+
+        // When
+        List<Message> firstPage = messageMapper.findPageByConversationId(conversationId, null, null, 2);
+        Message last = firstPage.get(firstPage.size() - 1);
+        List<Message> secondPage = messageMapper.findPageByConversationId(
+                conversationId, last.getCreatedAt(), last.getId(), 2);
+        List<Message> streamed = new ArrayList<>();
+        try (Cursor<Message> cursor = messageMapper.streamByConversationId(conversationId)) {
+            cursor.forEach(streamed::add);
+        }
+
+        // Then
+        assertThat(firstPage).extracting(Message::getContent).containsExactly("첫 번째", "두 번째");
+        assertThat(secondPage).extracting(Message::getContent).containsExactly("세 번째");
+        assertThat(secondPage.get(0).getSenderType()).isEqualTo(Message.SenderType.USER);
+        assertThat(streamed).extracting(Message::getSenderType).containsExactly(
+                Message.SenderType.USER, Message.SenderType.BOT, Message.SenderType.USER);
+    }
+
+    private Message message(Message.SenderType senderType, Message.MessageType messageType, String content,
+                            int offsetMillis) {
+        return Message.builder()
+                .conversationId(conversationId)
+                .senderType(senderType)
+                .messageType(messageType)
+                .content(content)
+                .isRead(false)
+                .createdAt(now.plus(offsetMillis, ChronoUnit.MILLIS))
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package io.moyam.chatbot.domain.conversation.service;
+
+import io.moyam.chatbot.domain.conversation.model.KeysetCursor;
+import io.moyam.chatbot.domain.conversation.model.KeysetPage;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.repository.MessageMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConversationHistoryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private MessageMapper messageMapper;
+    private ConversationHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        messageMapper = mock(MessageMapper.class);
+        historyService = new ConversationHistoryService(mock(ConversationMapper.class), messageMapper);
+    }
+
+    @Test
+    void 한_건_더_읽히면_마지막_항목으로_다음_커서를_만든다() {
+        // Given: size=2 요청에 3건 반환
+        when(messageMapper.findPageByConversationId(eq(1L), isNull(), isNull(), eq(3)))
+                .thenReturn(messages(1, 3));
+
+        // When
+        KeysetPage<Message> page = historyService.getMessages(1L, null, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(Message::getId).containsExactly(1L, 2L);
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getTimestamp()).isEqualTo(BASE.plusSeconds(2));
+    }
+
+    @Test
+    void 커서_이후부터_조회하고_마지막_페이지면_커서가_없다() {
+        // Given
+        KeysetCursor after = new KeysetCursor(BASE.plusSeconds(2), 2L);
+        when(messageMapper.findPageByConversationId(1L, after.getTimestamp(), 2L, 3))
+                .thenReturn(messages(3, 1));
+
+        // When
+        KeysetPage<Message> page = historyService.getMessages(1L, after, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(Message::getId).containsExactly(3L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 페이지_크기는_최대값으로_제한된다() {
+        // Given
+        when(messageMapper.findPageByConversationId(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        historyService.getMessages(1L, null, 10_000);
+
+        // Then
+        verify(messageMapper).findPageByConversationId(1L, null, null, ConversationHistoryService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void 커서_문자열은_왕복_변환되고_잘못된_값은_거부된다() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(BASE.plusNanos(123_000), 42L);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded.getTimestamp()).isEqualTo(cursor.getTimestamp());
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Message> messages(long firstId, int count) {
+        List<Message> messages = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            messages.add(Message.builder()
+                    .id(id)
+                    .conversationId(1L)
+                    .content("메시지 " + id)
+                    .createdAt(BASE.plusSeconds(id))
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,109 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class CaffeineConversationContextStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ConversationContextPersister persister = mock(ConversationContextPersister.class);
+
+    @TempDir
+    Path tempDir;
+
+    private CaffeineConversationContextStore store(ContextSnapshotFile snapshotFile) {
+        return new CaffeineConversationContextStore(100, Duration.ofMinutes(30), persister,
+                new SimpleMeterRegistry(), snapshotFile);
+    }
+
+    @Test
+    void 종료_시_스냅샷을_쓰고_재기동_후_첫_접근_시_복원한다() {
+        // Given
+        ContextSnapshotFile snapshotFile = new ContextSnapshotFile(tempDir.resolve("snapshot.bin"), objectMapper);
+        CaffeineConversationContextStore before = store(snapshotFile);
+        before.put("session-1", context(3L, "홍길동"));
+        before.put("session-2", context(5L, "김철수"));
+        before.shutdown();
+        assertThat(Files.exists(snapshotFile.getPath())).isTrue();
+
+        // When
+        CaffeineConversationContextStore after = store(snapshotFile);
+
+        // Then
+        assertThat(after.size()).isEqualTo(2);
+        ConversationContext restored = after.get("session-1");
+        assertThat(restored.getCurrentStepId()).isEqualTo(3L);
+        assertThat(restored.getVariables()).containsEntry("userName", "홍길동");
+        assertThat(restored.getVisitedSteps()).containsExactly("1", "2");
+        assertThat(restored.getScenarioVersion()).isNull();
+        assertThat(after.get("session-1")).isSameAs(restored);
+        assertThat(after.getOrCreate("session-2", id -> context(99L, "new")).getCurrentStepId()).isEqualTo(5L);
+        verifyNoInteractions(persister);
+    }
+
+    @Test
+    void 삭제된_세션은_복원되지_않고_남은_세션은_다음_스냅샷으로_이어진다() {
+        // Given
+        ContextSnapshotFile snapshotFile = new ContextSnapshotFile(tempDir.resolve("snapshot.bin"), objectMapper);
+        CaffeineConversationContextStore first = store(snapshotFile);
+        first.put("session-1", context(3L, "홍길동"));
+        first.put("session-2", context(5L, "김철수"));
+        first.shutdown();
+
+        // When: 재기동 후 session-1 은 종료, session-2 는 접근 없이 다시 재기동
+        CaffeineConversationContextStore second = store(snapshotFile);
+        second.remove("session-1");
+        second.shutdown();
+        CaffeineConversationContextStore third = store(snapshotFile);
+
+        // Then
+        assertThat(third.get("session-1")).isNull();
+        assertThat(third.get("session-2").getCurrentStepId()).isEqualTo(5L);
+    }
+
+    @Test
+    void 형식이_다른_파일은_무시한다() throws Exception {
+        Path path = tempDir.resolve("snapshot.bin");
+        Files.write(path, new byte[]{1, 2, 3});
+
+        CaffeineConversationContextStore store = store(new ContextSnapshotFile(path, objectMapper));
+
+        assertThat(store.size()).isZero();
+        assertThat(store.get("session-1")).isNull();
+    }
+
+    private static ConversationContext context(Long stepId, String userName) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("userName", userName);
+        return ConversationContext.builder()
+                .scenarioId(1L)
+                .currentStepId(stepId)
+                .scenarioVersion(7L)
+                .variables(variables)
+                .systemVariables(new HashMap<>())
+                .visitedSteps(new ArrayList<>(List.of("1", "2")))
+                .lastInteraction(LocalDateTime.of(2024, 5, 1, 9, 30))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.service.ScenarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * events 저장소로 실제 DB 에 턴을 저장 (스냅샷 주기 1: 턴마다 conversations 도 갱신)
+ * 테스트 트랜잭션(@Transactional)으로 감싸면 서비스의 트랜잭션 설정이 가려지므로 직접 정리한다.
+ */
+@SpringBootTest(properties = {
+        "chatbot.context-store.type=events",
+        "chatbot.context-store.event-log.snapshot-interval=1"
+})
+@ActiveProfiles("dev")
+class EventLogContextStoreTurnTest {
+
+    private final String sessionId = "events-turn-" + UUID.randomUUID();
+
+    @Autowired
+    private ScenarioService scenarioService;
+
+    @Autowired
+    private ConversationMapper conversationMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM conversation_events WHERE session_id = ?", sessionId);
+        jdbcTemplate.update("DELETE FROM conversations WHERE session_id = ?", sessionId);
+    }
+
+    @Test
+    void 한_턴의_변경이_이벤트와_스냅샷으로_저장된다() {
+        // Given: 시나리오 시작
+        ScenarioExecutionResult started = scenarioService.startScenario(sessionId, 1L);
+        assertThat(started.getErrorMessage()).isNull();
+        long eventsAfterStart = countEvents();
+
+        // When: 사용자 입력 한 번
+        ScenarioExecutionResult result =
+                scenarioService.executeStep(sessionId, started.getCurrentStep().getId(), "홍길동");
+
+        // Then: 변경분이 이벤트로 추가되고 스냅샷 버전 = 마지막 순번
+        assertThat(result.getErrorMessage()).isNull();
+        assertThat(countEvents()).isGreaterThan(eventsAfterStart);
+        StoredContext stored = conversationMapper.findStoredContext(sessionId).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(maxSeq());
+        assertThat(stored.getContext().getCurrentStepId()).isEqualTo(result.getContext().getCurrentStepId());
+        assertThat(stored.getContext().getVariables()).containsEntry("lastInput", "홍길동");
+    }
+
+    @Test
+    void 컨텍스트_초기화는_RESET_이벤트로_저장된다() {
+        // Given
+        scenarioService.startScenario(sessionId, 1L);
+
+        // When
+        scenarioService.clearContext(sessionId);
+
+        // Then
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT event_type FROM conversation_events WHERE session_id = ? ORDER BY seq",
+                String.class, sessionId);
+        assertThat(types).last().isEqualTo("RESET");
+        assertThat(scenarioService.getContext(sessionId)).isNull();
+    }
+
+    private long countEvents() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM conversation_events WHERE session_id = ?", Long.class, sessionId);
+    }
+
+    private long maxSeq() {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(seq) FROM conversation_events WHERE session_id = ?", Long.class, sessionId);
+    }
+}
@@ -0,0 +1,176 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent;
+import io.moyam.chatbot.domain.conversation.model.ConversationEvent.EventType;
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationEventMapper;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventLogConversationContextStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ConversationMapper conversationMapper = mock(ConversationMapper.class);
+    private final ConversationEventMapper eventMapper = mock(ConversationEventMapper.class);
+    private final ScenarioMapper scenarioMapper = mock(ScenarioMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventLogConversationContextStore store = new EventLogConversationContextStore(
+            conversationMapper, eventMapper, scenarioMapper, objectMapper,
+            10, 1_000, Duration.ofMinutes(30), TransactionOperations.withoutTransaction(), meterRegistry);
+
+    @Test
+    void 바뀐_부분만_이벤트로_추가하고_재적용하면_같은_상태가_된다() {
+        // Given: 순번 4 까지 반영된 스냅샷 (읽을 때마다 새로 역직렬화되는 것처럼)
+        when(conversationMapper.findStoredContext("s1")).thenAnswer(invocation -> Optional.of(stored(context(3L), 4L)));
+        when(eventMapper.findAfter("s1", 4L)).thenReturn(List.of());
+
+        // When: 단계 이동 + 선택 + 변수 수집
+        ConversationContext context = store.get("s1");
+        context.setCurrentStepId(5L);
+        context.getVisitedSteps().add("3");
+        context.getVariables().put(ContextEvents.LAST_CHOICE, "1");
+        context.getVariables().put(ContextEvents.LAST_CHOICE_LABEL, "상담");
+        context.getVariables().put("phone", "010-0000-0000");
+        context.setUserName("홍길동");
+        store.put("s1", context);
+
+        // Then
+        List<ConversationEvent> events = captureAppended();
+        assertThat(events).extracting(ConversationEvent::getEventType).containsExactly(
+                EventType.STEP_ENTERED, EventType.CHOICE_MADE, EventType.VARIABLE_SET, EventType.VARIABLE_SET);
+        assertThat(events).extracting(ConversationEvent::getSeq).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(context.getContextVersion()).isEqualTo(8L);
+
+        // 스냅샷(4) + 이벤트 재적용 결과가 저장한 컨텍스트와 같음
+        when(eventMapper.findAfter("s1", 4L)).thenReturn(events);
+        ConversationContext replayed = store.get("s1");
+        assertThat(replayed.getCurrentStepId()).isEqualTo(5L);
+        assertThat(replayed.getVisitedSteps()).containsExactly("1", "3");
+        assertThat(replayed.getVariables()).isEqualTo(context.getVariables());
+        assertThat(replayed.getUserName()).isEqualTo("홍길동");
+        assertThat(replayed.getContextVersion()).isEqualTo(8L);
+    }
+
+    @Test
+    void 다른_노드가_같은_순번을_먼저_쓰면_충돌로_거부한다() {
+        // Given
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(context(3L), 4L)));
+        when(eventMapper.findAfter("s1", 4L)).thenReturn(List.of());
+        when(eventMapper.insertBatch(any())).thenThrow(new DuplicateKeyException("conversation_events_pkey"));
+        ConversationContext context = store.get("s1");
+        context.setCurrentStepId(5L);
+
+        // When & Then
+        assertThatThrownBy(() -> store.put("s1", context))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(context.getContextVersion()).isEqualTo(4L);
+        assertThat(meterRegistry.get("chatbot.context.conflicts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 스냅샷_주기를_넘으면_context_data_를_갱신한다() {
+        // Given: 순번 9 (주기 10)
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(context(3L), 9L)));
+        when(eventMapper.findAfter("s1", 9L)).thenReturn(List.of());
+        when(conversationMapper.updateContextSnapshot(eq("s1"), any(), anyLong(), any())).thenReturn(1);
+
+        // When
+        ConversationContext context = store.get("s1");
+        context.setCurrentStepId(5L);
+        store.put("s1", context);
+
+        // Then
+        verify(conversationMapper).updateContextSnapshot(eq("s1"), eq(context), eq(10L), any());
+        assertThat(meterRegistry.get("chatbot.context.snapshots").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 처음_보는_세션은_빈_행을_만들고_전체를_한_이벤트로_기록한다() {
+        // Given
+        when(conversationMapper.findStoredContext("new")).thenReturn(Optional.empty());
+        when(eventMapper.findAfter("new", 0L)).thenReturn(List.of());
+        when(scenarioMapper.findById(1L)).thenReturn(Optional.of(Scenario.builder().id(1L).botId(7L).build()));
+
+        // When
+        ConversationContext context = store.getOrCreate("new", id -> context(1L));
+
+        // Then
+        verify(conversationMapper).insertEmptyStoredContext(eq(7L), eq("new"), eq(context), any());
+        assertThat(captureAppended()).extracting(ConversationEvent::getEventType)
+                .containsExactly(EventType.CONTEXT_STARTED);
+        assertThat(context.getContextVersion()).isEqualTo(1L);
+        verify(conversationMapper, never()).updateContextSnapshot(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void RESET_이후에는_컨텍스트가_없다() {
+        // Given
+        ConversationEvent reset = ConversationEvent.builder()
+                .sessionId("s1").seq(5L).eventType(EventType.RESET).occurredAt(LocalDateTime.now()).build();
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(context(3L), 4L)));
+        when(eventMapper.findAfter("s1", 4L)).thenReturn(List.of(reset));
+
+        // When & Then
+        assertThat(store.get("s1")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ConversationEvent> captureAppended() {
+        ArgumentCaptor<List<ConversationEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventMapper).insertBatch(captor.capture());
+        // 저장소와 같은 경로(JSONB)를 거친 것처럼 payload 를 복사
+        List<ConversationEvent> events = new ArrayList<>();
+        for (ConversationEvent event : captor.getValue()) {
+            events.add(objectMapper.convertValue(event, ConversationEvent.class));
+        }
+        return events;
+    }
+
+    private static StoredContext stored(ConversationContext context, long version) {
+        StoredContext stored = new StoredContext();
+        stored.setContext(context);
+        stored.setVersion(version);
+        return stored;
+    }
+
+    private static ConversationContext context(Long stepId) {
+        ConversationContext context = new ConversationContext();
+        context.setScenarioId(1L);
+        context.setCurrentStepId(stepId);
+        context.setVariables(new HashMap<>());
+        context.setVisitedSteps(new ArrayList<>(List.of("1")));
+        context.setLastInteraction(LocalDateTime.now());
+        return context;
+    }
+}
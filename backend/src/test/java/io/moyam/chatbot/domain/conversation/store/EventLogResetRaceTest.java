@@ -0,0 +1,94 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.service.ScenarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 저장소 초기화(RESET)가 다른 쓰기와 같은 seq 를 다툴 때
+ * 재시도는 저장점 안에서 실행되어 바깥 트랜잭션이 중단되지 않아야 한다.
+ * 테스트 트랜잭션(@Transactional)으로 감싸면 두 트랜잭션의 경합을 만들 수 없으므로 직접 정리한다.
+ */
+@SpringBootTest(properties = "chatbot.context-store.type=events")
+@ActiveProfiles("dev")
+class EventLogResetRaceTest {
+
+    private final String sessionId = "reset-race-" + UUID.randomUUID();
+
+    @Autowired
+    private ScenarioService scenarioService;
+
+    @Autowired
+    private ConversationContextStore contextStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM conversation_events WHERE session_id = ?", sessionId);
+        jdbcTemplate.update("DELETE FROM conversations WHERE session_id = ?", sessionId);
+    }
+
+    @Test
+    void 같은_seq_를_다투면_저장점에서_다시_시도하고_바깥_트랜잭션은_커밋된다() throws Exception {
+        // Given: 대화 행과 이벤트가 있고, 다른 트랜잭션이 다음 seq 를 잡은 채 커밋을 미룸
+        ScenarioExecutionResult started = scenarioService.startScenario(sessionId, 1L);
+        assertThat(started.getErrorMessage()).isNull();
+        long lastSeq = lastSeq();
+
+        CountDownLatch inserted = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> competitor = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("""
+                            INSERT INTO conversation_events (session_id, seq, event_type)
+                            VALUES (?, ?, 'RESET')""", sessionId, lastSeq + 1);
+                    inserted.countDown();
+                    sleep(1_000);   // 그 사이 본 트랜잭션의 INSERT 가 같은 키에서 대기
+                }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When: 턴 트랜잭션 안에서 초기화 (첫 시도는 대기 후 중복 키)
+        transactionTemplate.executeWithoutResult(status -> contextStore.remove(sessionId));
+        competitor.get(10, TimeUnit.SECONDS);
+
+        // Then: 재시도한 RESET 이 다음 seq 로 커밋됨
+        List<Long> resets = jdbcTemplate.queryForList("""
+                SELECT seq FROM conversation_events
+                WHERE session_id = ? AND event_type = 'RESET' ORDER BY seq""", Long.class, sessionId);
+        assertThat(resets).containsExactly(lastSeq + 1, lastSeq + 2);
+        assertThat(contextStore.get(sessionId)).isNull();
+    }
+
+    private long lastSeq() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(seq), 0) FROM conversation_events WHERE session_id = ?", Long.class, sessionId);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.service.ScenarioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * jdbc 저장소로 실제 DB 에 턴을 저장
+ * 테스트 트랜잭션(@Transactional)으로 감싸면 서비스의 트랜잭션 설정이 가려지므로 직접 정리한다.
+ */
+@SpringBootTest(properties = "chatbot.context-store.type=jdbc")
+@ActiveProfiles("dev")
+class JdbcContextStoreTurnTest {
+
+    private final String sessionId = "jdbc-turn-" + UUID.randomUUID();
+
+    @Autowired
+    private ScenarioService scenarioService;
+
+    @Autowired
+    private ConversationMapper conversationMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM conversations WHERE session_id = ?", sessionId);
+    }
+
+    @Test
+    void 한_턴의_컨텍스트가_conversations_에_저장된다() {
+        // Given: 시나리오 시작 (대화 행 생성)
+        ScenarioExecutionResult started = scenarioService.startScenario(sessionId, 1L);
+        assertThat(started.getErrorMessage()).isNull();
+        StoredContext afterStart = conversationMapper.findStoredContext(sessionId).orElseThrow();
+
+        // When: 사용자 입력 한 번
+        ScenarioExecutionResult result =
+                scenarioService.executeStep(sessionId, started.getCurrentStep().getId(), "홍길동");
+
+        // Then
+        assertThat(result.getErrorMessage()).isNull();
+        StoredContext stored = conversationMapper.findStoredContext(sessionId).orElseThrow();
+        assertThat(stored.getVersion()).isGreaterThan(afterStart.getVersion());
+        assertThat(stored.getContext().getCurrentStepId()).isEqualTo(result.getContext().getCurrentStepId());
+        assertThat(stored.getContext().getVariables()).containsEntry("lastInput", "홍길동");
+    }
+
+    @Test
+    void 컨텍스트_초기화도_저장된다() {
+        // Given
+        scenarioService.startScenario(sessionId, 1L);
+
+        // When
+        scenarioService.clearContext(sessionId);
+
+        // Then
+        assertThat(conversationMapper.findStoredContext(sessionId).orElseThrow().getContext()).isNull();
+    }
+}
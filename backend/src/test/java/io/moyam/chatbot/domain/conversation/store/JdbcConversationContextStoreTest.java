@@ -0,0 +1,112 @@
+package io.moyam.chatbot.domain.conversation.store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.model.StoredContext;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JdbcConversationContextStoreTest {
+
+    private final ConversationMapper conversationMapper = mock(ConversationMapper.class);
+    private final ScenarioMapper scenarioMapper = mock(ScenarioMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcConversationContextStore store = new JdbcConversationContextStore(
+            conversationMapper, scenarioMapper, Duration.ofMinutes(30), meterRegistry);
+
+    @Test
+    void 읽은_버전으로만_저장하고_성공하면_버전이_오른다() {
+        // Given
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(context(3L), 4L)));
+        when(conversationMapper.updateStoredContext(eq("s1"), any(), eq(4L), any())).thenReturn(1);
+
+        // When
+        ConversationContext context = store.get("s1");
+        context.setCurrentStepId(4L);
+        store.put("s1", context);
+
+        // Then
+        assertThat(context.getContextVersion()).isEqualTo(5L);
+        assertThat(context.getScenarioVersion()).isNull();   // 그래프 버전은 인스턴스마다 다름
+        verify(conversationMapper).updateStoredContext(eq("s1"), eq(context), eq(4L), any());
+    }
+
+    @Test
+    void 다른_노드가_먼저_저장했으면_충돌로_거부한다() {
+        // Given
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(context(3L), 4L)));
+        when(conversationMapper.updateStoredContext(eq("s1"), any(), eq(4L), any())).thenReturn(0);
+        ConversationContext context = store.get("s1");
+
+        // When & Then
+        assertThatThrownBy(() -> store.put("s1", context))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(context.getContextVersion()).isEqualTo(4L);
+        assertThat(meterRegistry.get("chatbot.context.conflicts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 처음_보는_세션은_시나리오의_봇으로_행을_만든다() {
+        // Given
+        when(conversationMapper.findStoredContext("new")).thenReturn(Optional.empty());
+        when(scenarioMapper.findById(1L)).thenReturn(Optional.of(Scenario.builder().id(1L).botId(7L).build()));
+        when(conversationMapper.insertStoredContext(eq(7L), eq("new"), any(), any())).thenReturn(1);
+
+        // When
+        ConversationContext context = store.getOrCreate("new", id -> context(1L));
+
+        // Then
+        assertThat(context.getContextVersion()).isEqualTo(1L);
+        verify(conversationMapper).insertStoredContext(eq(7L), eq("new"), eq(context), any());
+    }
+
+    @Test
+    void 비워진_세션은_남은_행의_버전으로_다시_저장한다() {
+        // Given: 초기화되었거나 메시지 기록만 있는 세션 (context_data = {})
+        when(conversationMapper.findStoredContext("s1")).thenReturn(Optional.of(stored(null, 9L)));
+        when(conversationMapper.updateStoredContext(eq("s1"), any(), eq(9L), any())).thenReturn(1);
+
+        // When
+        ConversationContext context = store.getOrCreate("s1", id -> context(1L));
+
+        // Then
+        assertThat(store.get("s1")).isNull();
+        assertThat(context.getContextVersion()).isEqualTo(10L);
+        verify(conversationMapper, never()).insertStoredContext(anyLong(), any(), any(), any());
+    }
+
+    private static StoredContext stored(ConversationContext context, long version) {
+        StoredContext stored = new StoredContext();
+        stored.setContext(context);
+        stored.setVersion(version);
+        return stored;
+    }
+
+    private static ConversationContext context(Long stepId) {
+        return ConversationContext.builder()
+                .scenarioId(1L)
+                .currentStepId(stepId)
+                .scenarioVersion(2L)
+                .variables(new HashMap<>())
+                .lastInteraction(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledScenarioTest {
+
+    @Test
+    void 간선이_직접_참조로_연결된다() {
+        // Given
+        ScenarioStep start = ScenarioStep.builder()
+                .id(1L).scenarioId(1L).orderIndex(1).isStartStep(true)
+                .stepType(ScenarioStep.StepType.MESSAGE).content("이름?")
+                .nextStepId(2L)
+                .build();
+        ScenarioStep menu = ScenarioStep.builder()
+                .id(2L).scenarioId(1L).orderIndex(2)
+                .stepType(ScenarioStep.StepType.QUESTION).content("메뉴")
+                .conditions(Map.of(
+                        "type", "user_choice",
+                        "choices", List.of(
+                                Map.of("value", "schedule", "label", "일정 관리", "next_step", 1),
+                                Map.of("value", "external", "label", "외부", "next_step", 999))))
+                .build();
+
+        // When
+        CompiledScenario compiled = CompiledScenario.compile(1L, List.of(menu, start));
+
+        // Then
+        assertThat(compiled.size()).isEqualTo(2);
+        assertThat(compiled.getStartStep().getId()).isEqualTo(1L);
+        assertThat(compiled.getStepAt(0).getId()).isEqualTo(1L);
+
+        CompiledStep startStep = compiled.getStep(1L);
+        assertThat(startStep.getNext().getTarget()).isSameAs(compiled.getStep(2L));
+
+        CompiledStep menuStep = compiled.getStep(2L);
+        StepCondition.UserChoice choice = (StepCondition.UserChoice) menuStep.getCondition();
+        assertThat(choice.edgeFor("schedule").getTarget()).isSameAs(startStep);
+        assertThat(choice.labelFor("schedule")).isEqualTo("일정 관리");
+
+        // 다른 시나리오를 가리키는 간선은 ID 만 유지
+        StepEdge external = choice.edgeFor("external");
+        assertThat(external.isResolved()).isFalse();
+        assertThat(external.getTargetId()).isEqualTo(999L);
+    }
+}
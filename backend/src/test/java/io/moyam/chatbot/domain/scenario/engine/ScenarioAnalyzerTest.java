@@ -0,0 +1,114 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.EdgeTarget;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.Issue;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.IssueType;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioAnalysis.StepInfo;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ScenarioAnalyzerTest {
+
+    @Test
+    void 끊어진_간선은_표시되고_외부_시나리오_간선은_유지된다() {
+        // Given: 888 은 다른 시나리오에 있고 999 는 어디에도 없음
+        ScenarioStep menu = step(1L, 1, ScenarioStep.StepType.QUESTION, null, Map.of(
+                "type", "user_choice",
+                "choices", List.of(
+                        Map.of("value", "other", "label", "다른 메뉴", "next_step", 888),
+                        Map.of("value", "broken", "label", "없는 단계", "next_step", 999))));
+        menu.setIsStartStep(true);
+
+        // When
+        CompiledScenario compiled = CompiledScenario.compile(1L, 1L, List.of(menu), stepId -> stepId == 888L);
+
+        // Then
+        ScenarioAnalysis analysis = compiled.getAnalysis();
+        assertThat(analysis.valid()).isFalse();
+        assertThat(analysis.issues()).extracting(Issue::type, Issue::targetId)
+                .containsExactly(tuple(IssueType.DANGLING_EDGE, 999L));
+        assertThat(analysis.steps().get(0).edges()).extracting(ScenarioAnalysis.Edge::target)
+                .containsExactly(EdgeTarget.EXTERNAL, EdgeTarget.DANGLING);
+
+        StepCondition.UserChoice choice = (StepCondition.UserChoice) compiled.getStep(1L).getCondition();
+        assertThat(choice.edgeFor("broken").isDangling()).isTrue();
+        assertThat(choice.edgeFor("other").isDangling()).isFalse();
+    }
+
+    @Test
+    void 입력_없이_도는_순환과_도달_불가_단계를_찾는다() {
+        // Given: 1(시작, 질문) -> 2(메시지) -> 3(조건) -> 2 순환, 4 는 아무도 가리키지 않음
+        ScenarioStep ask = step(1L, 1, ScenarioStep.StepType.QUESTION, 2L, null);
+        ask.setIsStartStep(true);
+        ScenarioStep notice = step(2L, 2, ScenarioStep.StepType.MESSAGE, 3L, null);
+        ScenarioStep check = step(3L, 3, ScenarioStep.StepType.CONDITION, null, Map.of(
+                "type", "conditional",
+                "rules", List.of(Map.of("condition", "age >= 20", "next_step", 2)),
+                "default_step", 2));
+        ScenarioStep orphan = step(4L, 4, ScenarioStep.StepType.MESSAGE, null, null);
+
+        // When
+        ScenarioAnalysis analysis = CompiledScenario.compile(1L, 1L, List.of(ask, notice, check, orphan), id -> false)
+                .getAnalysis();
+
+        // Then
+        assertThat(analysis.errors()).singleElement().satisfies(issue -> {
+            assertThat(issue.type()).isEqualTo(IssueType.INPUT_FREE_CYCLE);
+            assertThat(issue.stepIds()).containsExactly(2L, 3L);
+        });
+        assertThat(analysis.issues()).filteredOn(issue -> issue.type() == IssueType.UNREACHABLE_STEP)
+                .extracting(Issue::stepIds).containsExactly(List.of(4L));
+
+        StepInfo first = analysis.steps().get(0);
+        assertThat(first.requiresInput()).isTrue();
+        assertThat(first.expectedInput()).isEqualTo(ScenarioStep.InputType.TEXT);
+        StepInfo last = analysis.steps().get(3);
+        assertThat(last.terminal()).isTrue();
+        assertThat(last.reachable()).isFalse();
+    }
+
+    @Test
+    void 입력을_기다리는_단계가_끼면_순환이_아니다() {
+        // Given: 1(메시지) -> 2(선택) -> 1
+        ScenarioStep intro = step(1L, 1, ScenarioStep.StepType.MESSAGE, 2L, null);
+        intro.setIsStartStep(true);
+        ScenarioStep menu = step(2L, 2, ScenarioStep.StepType.MESSAGE, null, Map.of(
+                "type", "user_choice",
+                "choices", List.of(Map.of("value", "again", "label", "처음으로", "next_step", 1))));
+
+        // When
+        ScenarioAnalysis analysis = CompiledScenario.compile(1L, 1L, List.of(intro, menu), id -> false).getAnalysis();
+
+        // Then
+        assertThat(analysis.valid()).isTrue();
+        assertThat(analysis.issues()).isEmpty();
+        assertThat(analysis.steps().get(1).expectedInput()).isEqualTo(ScenarioStep.InputType.CHOICE);
+    }
+
+    @Test
+    void 시작_단계가_없으면_오류다() {
+        // When
+        ScenarioAnalysis analysis = CompiledScenario.compile(1L, List.of(
+                step(1L, 1, ScenarioStep.StepType.MESSAGE, null, null))).getAnalysis();
+
+        // Then
+        assertThat(analysis.errors()).extracting(Issue::type).containsExactly(IssueType.MISSING_START_STEP);
+        assertThat(analysis.startStepId()).isNull();
+    }
+
+    private static ScenarioStep step(Long id, int order, ScenarioStep.StepType type, Long next,
+                                     Map<String, Object> conditions) {
+        return ScenarioStep.builder()
+                .id(id).scenarioId(1L).orderIndex(order)
+                .stepType(type).content("단계 " + id)
+                .nextStepId(next)
+                .conditions(conditions)
+                .build();
+    }
+}
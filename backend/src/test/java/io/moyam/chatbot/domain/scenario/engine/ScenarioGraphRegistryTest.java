@@ -0,0 +1,130 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScenarioGraphRegistryTest {
+
+    private final StubStepMapper stepMapper = new StubStepMapper();
+    private final ScenarioGraphRegistry registry = new ScenarioGraphRegistry(stepMapper, Duration.ofMinutes(5));
+
+    @Test
+    void 발행하면_새_버전으로_교체되고_고정된_대화는_이전_버전을_본다() {
+        // Given
+        stepMapper.save(step(1L, "안녕하세요", 2L));
+        stepMapper.save(step(2L, "메뉴", null));
+        CompiledStep pinned = registry.findStep(1L);
+        long pinnedVersion = pinned.getScenarioVersion();
+
+        // When
+        stepMapper.save(step(1L, "반갑습니다", 2L));
+        CompiledScenario published = registry.publish(10L);
+
+        // Then
+        assertThat(published.getVersion()).isGreaterThan(pinnedVersion);
+        assertThat(registry.findStep(1L).getStep().getContent()).isEqualTo("반갑습니다");
+        assertThat(registry.findStep(1L, pinnedVersion)).isSameAs(pinned);
+        assertThat(registry.findStep(2L, pinnedVersion).getScenarioVersion()).isEqualTo(pinnedVersion);
+        assertThat(registry.findStep(1L, published.getVersion()).getStep().getContent()).isEqualTo("반갑습니다");
+    }
+
+    @Test
+    void 삭제된_단계는_고정된_버전에서만_조회된다() {
+        // Given
+        stepMapper.save(step(1L, "안녕하세요", 2L));
+        stepMapper.save(step(2L, "메뉴", null));
+        long pinnedVersion = registry.findStep(2L).getScenarioVersion();
+
+        // When
+        stepMapper.delete(2L);
+        registry.publish(10L);
+
+        // Then
+        assertThat(registry.findStep(2L)).isNull();
+        assertThat(registry.findStep(2L, pinnedVersion).getStep().getContent()).isEqualTo("메뉴");
+    }
+
+    @Test
+    void 내린_시나리오도_진행_중인_대화는_마무리할_수_있다() {
+        // Given
+        stepMapper.save(step(1L, "안녕하세요", null));
+        long pinnedVersion = registry.findStep(1L).getScenarioVersion();
+
+        // When
+        stepMapper.delete(1L);
+        registry.unpublish(10L);
+
+        // Then
+        assertThat(registry.getPublished(10L)).isNull();
+        assertThat(registry.findStep(1L)).isNull();
+        assertThat(registry.findStep(1L, pinnedVersion)).isNotNull();
+    }
+
+    private static ScenarioStep step(Long id, String content, Long nextStepId) {
+        return ScenarioStep.builder()
+                .id(id).scenarioId(10L).orderIndex(id.intValue()).isStartStep(id == 1L)
+                .stepType(ScenarioStep.StepType.MESSAGE).content(content)
+                .nextStepId(nextStepId)
+                .build();
+    }
+
+    private static class StubStepMapper implements ScenarioStepMapper {
+
+        private final Map<Long, ScenarioStep> steps = new ConcurrentHashMap<>();
+
+        void save(ScenarioStep step) {
+            steps.put(step.getId(), step);
+        }
+
+        void delete(Long id) {
+            steps.remove(id);
+        }
+
+        @Override
+        public void insert(ScenarioStep scenarioStep) {
+            save(scenarioStep);
+        }
+
+        @Override
+        public Optional<ScenarioStep> findById(Long id) {
+            return Optional.ofNullable(steps.get(id));
+        }
+
+        @Override
+        public List<ScenarioStep> findByScenarioId(Long scenarioId) {
+            return new ArrayList<>(steps.values().stream()
+                    .filter(step -> scenarioId.equals(step.getScenarioId()))
+                    .toList());
+        }
+
+        @Override
+        public void update(ScenarioStep scenarioStep) {
+            save(scenarioStep);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            delete(id);
+        }
+
+        @Override
+        public Optional<ScenarioStep> findStartStep(Long scenarioId) {
+            return findByScenarioId(scenarioId).stream().filter(step -> Boolean.TRUE.equals(step.getIsStartStep())).findFirst();
+        }
+
+        @Override
+        public Optional<ScenarioStep> findNextStep(Long currentStepId) {
+            return findById(currentStepId).map(ScenarioStep::getNextStepId).flatMap(this::findById);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.moyam.chatbot.domain.scenario.engine;
+
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StepConditionTest {
+
+    @Test
+    void 선택지는_불변_목록과_조회_맵으로_해석된다() {
+        StepCondition condition = StepCondition.parse(Map.of(
+                "type", "user_choice",
+                "choices", List.of(
+                        Map.of("value", "memo", "label", "메모 작성", "emoji", "📝", "next_step", 201),
+                        Map.of("value", "back", "label", "뒤로"))));
+
+        assertThat(condition).isInstanceOf(StepCondition.UserChoice.class);
+        StepCondition.UserChoice choice = (StepCondition.UserChoice) condition;
+
+        assertThat(choice.options()).extracting(ChoiceOption::getValue).containsExactly("memo", "back");
+        assertThat(choice.options().get(0).getEmoji()).isEqualTo("📝");
+        assertThat(choice.options().get(0).getNextStepId()).isEqualTo(201L);
+        assertThat(choice.edgeFor("memo").getTargetId()).isEqualTo(201L);
+        assertThat(choice.edgeFor("back")).isNull();
+        assertThat(choice.edgeFor(null)).isNull();
+        assertThatThrownBy(() -> choice.options().add(new ChoiceOption()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void 규칙은_순서대로_컴파일되고_기본_간선을_가진다() {
+        StepCondition condition = StepCondition.parse(Map.of(
+                "type", "conditional",
+                "rules", List.of(
+                        Map.of("condition", "${userType} == 'premium'", "next_step", 10),
+                        Map.of("condition", "${age} >= 20", "next_step", 20)),
+                "default_step", 30));
+
+        StepCondition.Conditional conditional = (StepCondition.Conditional) condition;
+        assertThat(conditional.rules()).hasSize(2);
+        assertThat(conditional.rules().get(0).expression().evaluate(Map.of("userType", "premium"))).isTrue();
+        assertThat(conditional.rules().get(1).edge().getTargetId()).isEqualTo(20L);
+        assertThat(conditional.defaultEdge().getTargetId()).isEqualTo(30L);
+        assertThat(conditional.edges()).extracting(StepEdge::getTargetId).containsExactly(10L, 20L, 30L);
+    }
+
+    @Test
+    void 변수_매핑은_type_과_별도로_해석된다() {
+        Map<String, Object> conditions = Map.of(
+                "variable_mapping", Map.of(
+                        "target", "userName",
+                        "validation", "required|min:2",
+                        "message", "성함을 입력해주세요."));
+
+        assertThat(StepCondition.parse(conditions)).isNull();
+        StepCondition.VariableMapping mapping = StepCondition.parseVariableMapping(conditions, null);
+        assertThat(mapping.target()).isEqualTo("userName");
+        assertThat(mapping.message()).isEqualTo("성함을 입력해주세요.");
+        assertThat(mapping.rules().validate("홍길동")).isTrue();
+        assertThat(mapping.rules().validate("홍")).isFalse();
+    }
+
+    @Test
+    void 알_수_없는_type_은_null() {
+        assertThat(StepCondition.parse(Map.of("type", "unknown"))).isNull();
+        assertThat(StepCondition.parse(null)).isNull();
+        assertThat(StepCondition.parseVariableMapping(Map.of(), null)).isNull();
+    }
+}
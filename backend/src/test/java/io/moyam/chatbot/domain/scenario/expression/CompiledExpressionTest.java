@@ -0,0 +1,53 @@
+package io.moyam.chatbot.domain.scenario.expression;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledExpressionTest {
+
+    private final ExpressionClock wednesdayAfternoon = ExpressionClock.fixed(LocalDateTime.of(2025, 1, 15, 14, 30));
+    private final ExpressionClock saturdayNight = ExpressionClock.fixed(LocalDateTime.of(2025, 1, 18, 22, 0));
+
+    @Test
+    void 변수_비교와_논리연산() {
+        CompiledExpression expression = CompiledExpression.compile("${userType} == 'premium' && hour >= 9 && hour <= 18");
+
+        assertThat(expression.evaluate(Map.of("userType", "premium"), wednesdayAfternoon)).isTrue();
+        assertThat(expression.evaluate(Map.of("userType", "basic"), wednesdayAfternoon)).isFalse();
+        assertThat(expression.evaluate(Map.of("userType", "premium"), saturdayNight)).isFalse();
+    }
+
+    @Test
+    void 내장_시간변수와_괄호_부정() {
+        CompiledExpression expression = CompiledExpression.compile("(hour < 9 || hour > 18) || !(weekend == false)");
+
+        assertThat(expression.evaluate(Map.of(), wednesdayAfternoon)).isFalse();
+        assertThat(expression.evaluate(Map.of(), saturdayNight)).isTrue();
+    }
+
+    @Test
+    void 문자열_숫자는_숫자로_비교된다() {
+        CompiledExpression expression = CompiledExpression.compile("${age} >= 20 and count != 0");
+
+        assertThat(expression.evaluate(Map.of("age", "25", "count", 3))).isTrue();
+        assertThat(expression.evaluate(Map.of("age", "abc", "count", 3))).isFalse();
+        assertThat(expression.evaluate(null)).isFalse();
+    }
+
+    @Test
+    void 잘못된_식은_컴파일_단계에서_거부된다() {
+        assertThatThrownBy(() -> CompiledExpression.compile("'a' < 3"))
+                .isInstanceOf(ExpressionSyntaxException.class);
+        assertThatThrownBy(() -> CompiledExpression.compile("hour >= 9 &&"))
+                .isInstanceOf(ExpressionSyntaxException.class);
+        assertThatThrownBy(() -> CompiledExpression.compile("hour"))
+                .isInstanceOf(ExpressionSyntaxException.class);
+
+        assertThat(CompiledExpression.compileOrFalse("${x} ==")).isSameAs(CompiledExpression.ALWAYS_FALSE);
+    }
+}
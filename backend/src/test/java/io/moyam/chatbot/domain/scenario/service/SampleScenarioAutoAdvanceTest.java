@@ -0,0 +1,52 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.StepMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샘플 시나리오(scenario_data_v2.0.sql)의 확인 메시지 단계가 입력 없이 다음 선택 단계로 이어지는지
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class SampleScenarioAutoAdvanceTest {
+
+    private final String sessionId = "sample-advance-" + UUID.randomUUID();
+
+    @Autowired
+    private ScenarioService scenarioService;
+
+    @AfterEach
+    void tearDown() {
+        scenarioService.clearContext(sessionId);
+    }
+
+    @Test
+    void 메모_저장_확인_메시지는_선택_단계까지_이어서_보낸다() {
+        // Given: 이름 입력 -> 메뉴에서 메모 -> 새 메모 작성
+        scenarioService.startScenario(sessionId, 1L);
+        scenarioService.executeStep(sessionId, 1L, "홍길동");
+        scenarioService.executeStep(sessionId, 2L, "memo");
+        scenarioService.executeStep(sessionId, 201L, "create_memo");
+
+        // When: 메모 내용 입력
+        ScenarioExecutionResult result = scenarioService.executeStep(sessionId, 202L, "장보기");
+
+        // Then: 203(확인) 을 지나 204(선택) 에서 입력을 기다림
+        assertThat(result.getErrorMessage()).isNull();
+        assertThat(result.getCurrentStep().getId()).isEqualTo(204L);
+        assertThat(result.getChoices()).isNotEmpty();
+        assertThat(result.getPrecedingMessages()).extracting(passed -> passed.getStep().getId())
+                .containsExactly(203L);
+        assertThat(result.getPrecedingMessages()).extracting(StepMessage::getProcessedMessage)
+                .singleElement().asString().contains("홍길동님의 메모: \"장보기\"");
+    }
+}
@@ -0,0 +1,117 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.config.ScenarioProperties;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.model.StepMessage;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScenarioAutoAdvanceTest {
+
+    private final ScenarioStepMapper stepMapper = mock(ScenarioStepMapper.class);
+    private final ConversationContextStore contextStore = mock(ConversationContextStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScenarioProperties properties = new ScenarioProperties();
+    private final ScenarioService scenarioService;
+
+    ScenarioAutoAdvanceTest() {
+        ScenarioGraphRegistry graphRegistry = new ScenarioGraphRegistry(stepMapper);
+        ScenarioMetrics metrics = new ScenarioMetrics(meterRegistry, contextStore);
+        scenarioService = new ScenarioService(mock(ScenarioMapper.class), stepMapper,
+                new ConditionEvaluator(graphRegistry, metrics), new MessageTemplateProcessor(metrics),
+                new VariableCollector(), graphRegistry, contextStore, metrics, mock(ScenarioPublisher.class),
+                properties, TransactionOperations.withoutTransaction());
+
+        when(contextStore.getOrCreate(eq("s1"), any())).thenAnswer(invocation -> {
+            Function<String, ConversationContext> factory = invocation.getArgument(1);
+            return factory.apply("s1");
+        });
+    }
+
+    @Test
+    void 입력이_필요_없는_MESSAGE_단계는_한_턴에_이어서_진행한다() {
+        // Given: 1(안내) -> 2(안내) -> 3(질문)
+        givenSteps(
+                step(1L, ScenarioStep.StepType.MESSAGE, null, 2L, true),
+                step(2L, ScenarioStep.StepType.MESSAGE, null, 3L, false),
+                step(3L, ScenarioStep.StepType.QUESTION, ScenarioStep.InputType.TEXT, null, false));
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, null);
+
+        // Then
+        assertThat(result.getCurrentStep().getId()).isEqualTo(3L);
+        assertThat(result.getPrecedingMessages()).extracting(passed -> passed.getStep().getId())
+                .containsExactly(1L, 2L);
+        assertThat(result.getPrecedingMessages()).extracting(StepMessage::getProcessedMessage)
+                .containsExactly("단계 1", "단계 2");
+        assertThat(result.getContext().getCurrentStepId()).isEqualTo(3L);
+        assertThat(result.getContext().getVisitedSteps()).containsExactly("1", "2");
+        assertThat(meterRegistry.get("chatbot.scenario.auto_advanced").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 입력_유형이_지정된_MESSAGE_단계는_입력을_기다린다() {
+        // Given: 샘플 시나리오처럼 input_type 이 있는 안내 단계
+        givenSteps(
+                step(1L, ScenarioStep.StepType.MESSAGE, ScenarioStep.InputType.CHOICE, 2L, true),
+                step(2L, ScenarioStep.StepType.QUESTION, ScenarioStep.InputType.TEXT, null, false));
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, null);
+
+        // Then
+        assertThat(result.getCurrentStep().getId()).isEqualTo(1L);
+        assertThat(result.getPrecedingMessages()).isEmpty();
+    }
+
+    @Test
+    void 입력_없는_순환은_최대_단계_수에서_멈춘다() {
+        // Given: 1 <-> 2 순환
+        properties.setMaxAutoAdvanceSteps(3);
+        givenSteps(
+                step(1L, ScenarioStep.StepType.MESSAGE, null, 2L, true),
+                step(2L, ScenarioStep.StepType.MESSAGE, null, 1L, false));
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, null);
+
+        // Then
+        assertThat(result.getPrecedingMessages()).hasSize(3);
+        assertThat(result.getCurrentStep().getId()).isEqualTo(2L);
+    }
+
+    private void givenSteps(ScenarioStep... steps) {
+        when(stepMapper.findByScenarioId(1L)).thenReturn(List.of(steps));
+        when(stepMapper.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return List.of(steps).stream().filter(step -> step.getId().equals(id)).findFirst();
+        });
+    }
+
+    private static ScenarioStep step(Long id, ScenarioStep.StepType type, ScenarioStep.InputType inputType,
+                                     Long next, boolean start) {
+        return ScenarioStep.builder()
+                .id(id).scenarioId(1L).orderIndex(id.intValue())
+                .stepType(type).inputType(inputType).content("단계 " + id)
+                .nextStepId(next).isStartStep(start)
+                .build();
+    }
+}
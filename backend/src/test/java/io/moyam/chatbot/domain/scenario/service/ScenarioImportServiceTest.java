@@ -0,0 +1,138 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.moyam.chatbot.domain.bot.model.Bot;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImport;
+import io.moyam.chatbot.domain.scenario.model.ScenarioImportResult;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioImportMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScenarioImportServiceTest {
+
+    private static final String DOCUMENT = """
+            {
+              "botId": 7,
+              "scenarios": [{
+                "name": "예약",
+                "steps": [
+                  {"ref": 1, "stepType": "MESSAGE", "content": "안녕하세요", "nextStep": 2},
+                  {"ref": 2, "stepType": "QUESTION", "content": "메뉴", "inputType": "CHOICE",
+                   "conditions": {"type": "user_choice", "choices": [
+                     {"value": "again", "label": "처음으로", "next_step": 1},
+                     {"value": "end", "label": "종료", "next_step": 3}]}},
+                  {"ref": 3, "stepType": "MESSAGE", "content": "감사합니다"}
+                ]
+              }]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ScenarioImportMapper importMapper = mock(ScenarioImportMapper.class);
+    private final BotMapper botMapper = mock(BotMapper.class);
+    private final ScenarioPublisher scenarioPublisher = mock(ScenarioPublisher.class);
+    private final ScenarioImportService service =
+            new ScenarioImportService(objectMapper, importMapper, botMapper, scenarioPublisher);
+
+    @Test
+    void 문서의_단계_참조를_발급한_ID_로_바꿔_저장한다() throws Exception {
+        // Given
+        when(botMapper.findById(7L)).thenReturn(Optional.of(new Bot()));
+        when(importMapper.allocateScenarioIds(1)).thenReturn(List.of(100L));
+        when(importMapper.allocateStepIds(3)).thenReturn(List.of(501L, 502L, 503L));
+
+        // When
+        ScenarioImportResult result = service.importScenarios(service.parse(DOCUMENT.getBytes(StandardCharsets.UTF_8), false));
+
+        // Then
+        assertThat(result.getScenarioIds()).containsExactly(100L);
+        assertThat(result.getStepIds()).isEqualTo(Map.of(1L, 501L, 2L, 502L, 3L, 503L));
+
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(importMapper).insertSteps(rows.capture());
+        List<Map<String, Object>> steps = objectMapper.readValue(rows.getValue(), new TypeReference<>() {});
+        assertThat(steps).extracting(step -> step.get("id")).containsExactly(501, 502, 503);
+        assertThat(steps.get(0)).containsEntry("nextStepId", 502).containsEntry("isStartStep", true)
+                .containsEntry("scenarioId", 100);
+        assertThat(steps.get(1)).containsEntry("isStartStep", false).containsEntry("orderIndex", 2);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> choices = (List<Map<String, Object>>)
+                ((Map<String, Object>) steps.get(1).get("conditions")).get("choices");
+        assertThat(choices).extracting(choice -> choice.get("next_step")).containsExactly(501, 503);
+
+        verify(importMapper).insertScenarios(any());
+        verify(importMapper).linkStartSteps(List.of(100L));
+        verify(scenarioPublisher).publishAfterCommit(100L);
+    }
+
+    @Test
+    void 문서에_없는_단계를_가리키면_아무것도_저장하지_않는다() {
+        // Given
+        when(botMapper.findById(7L)).thenReturn(Optional.of(new Bot()));
+        ScenarioImport document = service.parse(
+                DOCUMENT.replace("\"next_step\": 3", "\"next_step\": 9").getBytes(StandardCharsets.UTF_8), false);
+
+        // When & Then
+        assertThatThrownBy(() -> service.importScenarios(document))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown step 9");
+        verify(importMapper, never()).allocateStepIds(anyInt());
+        verify(importMapper, never()).insertSteps(any());
+        verify(scenarioPublisher, never()).publishAfterCommit(anyLong());
+    }
+
+    @Test
+    void YAML_문서도_같은_형식으로_읽는다() {
+        // Given
+        String yaml = """
+                botId: 7
+                scenarios:
+                  - name: 안내
+                    steps:
+                      - id: 10
+                        stepType: MESSAGE
+                        content: 안녕하세요
+                        nextStepId: 11
+                      - id: 11
+                        stepType: MESSAGE
+                        content: 끝
+                """;
+
+        // When
+        ScenarioImport document = service.parse(yaml.getBytes(StandardCharsets.UTF_8), true);
+
+        // Then
+        assertThat(document.getBotId()).isEqualTo(7L);
+        assertThat(document.getScenarios().get(0).getSteps())
+                .extracting(ScenarioImport.StepDefinition::getRef, ScenarioImport.StepDefinition::getNextStep)
+                .containsExactly(
+                        tuple(10L, 11L),
+                        tuple(11L, null));
+    }
+
+    @Test
+    void 형식이_잘못된_본문은_IllegalArgumentException() {
+        assertThatThrownBy(() -> service.parse("{".getBytes(StandardCharsets.UTF_8), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScenarioMetricsTest {
+
+    private final ConversationContextStore contextStore = mock(ConversationContextStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 활성_세션_게이지는_스크레이프마다_저장소를_조회하지_않는다() {
+        // Given
+        when(contextStore.size()).thenReturn(42L, 43L);
+        new ScenarioMetrics(meterRegistry, contextStore);
+        Gauge gauge = meterRegistry.get("chatbot.sessions.active").gauge();
+
+        // When
+        double first = gauge.value();
+        double second = gauge.value();
+        double third = gauge.value();
+
+        // Then
+        assertThat(first).isEqualTo(42.0);
+        assertThat(second).isEqualTo(42.0);
+        assertThat(third).isEqualTo(42.0);
+        verify(contextStore, times(1)).size();
+    }
+
+    @Test
+    void 세션_수_조회에_실패해도_게이지는_값을_돌려준다() {
+        // Given
+        when(contextStore.size()).thenThrow(new IllegalStateException("connection refused"));
+        new ScenarioMetrics(meterRegistry, contextStore);
+
+        // When & Then
+        assertThat(meterRegistry.get("chatbot.sessions.active").gauge().value()).isZero();
+    }
+}
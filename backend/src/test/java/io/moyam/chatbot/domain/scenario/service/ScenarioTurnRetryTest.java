@@ -0,0 +1,184 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moyam.chatbot.config.ScenarioProperties;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.conversation.store.ConversationContextStore;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioStepMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 공유 저장소 충돌 시 턴 재시도: 시도마다 새 트랜잭션에서 컨텍스트를 다시 읽는다
+ * 턴 트랜잭션은 DB 저장소일 때만 열고, 공통 명령은 턴당 한 번만 저장한다.
+ */
+class ScenarioTurnRetryTest {
+
+    private static final OptimisticLockingFailureException CONFLICT =
+            new OptimisticLockingFailureException("updated concurrently");
+
+    private final ScenarioStepMapper stepMapper = mock(ScenarioStepMapper.class);
+    private final ConversationContextStore contextStore = mock(ConversationContextStore.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScenarioService scenarioService;
+
+    ScenarioTurnRetryTest() {
+        ScenarioGraphRegistry graphRegistry = new ScenarioGraphRegistry(stepMapper);
+        ScenarioMetrics metrics = new ScenarioMetrics(meterRegistry, contextStore);
+        scenarioService = new ScenarioService(mock(ScenarioMapper.class), stepMapper,
+                new ConditionEvaluator(graphRegistry, metrics), new MessageTemplateProcessor(metrics),
+                new VariableCollector(), graphRegistry, contextStore, metrics, mock(ScenarioPublisher.class),
+                new ScenarioProperties(), new TransactionTemplate(transactionManager));
+
+        // 1(질문) -> 2(질문)
+        List<ScenarioStep> steps = List.of(
+                step(1L, 2L, true),
+                step(2L, null, false));
+        when(stepMapper.findByScenarioId(1L)).thenReturn(steps);
+        when(stepMapper.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return steps.stream().filter(step -> step.getId().equals(id)).findFirst();
+        });
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(contextStore.isTransactional()).thenReturn(true);
+        // 읽을 때마다 저장소의 최신 상태(새 객체)를 돌려줌
+        when(contextStore.get("s1")).thenAnswer(invocation -> storedContext());
+    }
+
+    @Test
+    void 충돌하면_롤백하고_새_트랜잭션에서_다시_읽어_처리한다() {
+        // Given: 첫 저장은 다른 노드와 충돌
+        doThrow(CONFLICT).doNothing().when(contextStore).put(eq("s1"), any());
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, "안녕하세요");
+
+        // Then
+        assertThat(result.getErrorMessage()).isNull();
+        assertThat(result.getCurrentStep().getId()).isEqualTo(2L);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(contextStore, times(2)).get("s1");
+
+        ArgumentCaptor<ConversationContext> saved = ArgumentCaptor.forClass(ConversationContext.class);
+        verify(contextStore, times(2)).put(eq("s1"), saved.capture());
+        assertThat(saved.getAllValues().get(0)).isNotSameAs(saved.getAllValues().get(1));
+        ConversationContext committed = saved.getAllValues().get(1);
+        assertThat(committed.getVisitedSteps()).containsExactly("1");   // 입력은 다시 읽은 컨텍스트에 한 번만 반영
+        assertThat(committed.getCurrentStepId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 계속_충돌하면_최대_횟수_후_오류_결과를_돌려준다() {
+        // Given
+        doThrow(CONFLICT).when(contextStore).put(eq("s1"), any());
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, "안녕하세요");
+
+        // Then
+        assertThat(result.getErrorMessage()).isNotNull();
+        verify(transactionManager, times(3)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void 충돌이_없으면_한_트랜잭션에서_끝난다() {
+        // Given
+        doNothing().when(contextStore).put(eq("s1"), any());
+
+        // When
+        scenarioService.executeStep("s1", 1L, "안녕하세요");
+
+        // Then
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void 메모리_저장소면_트랜잭션을_열지_않는다() {
+        // Given
+        when(contextStore.isTransactional()).thenReturn(false);
+
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, "안녕하세요");
+
+        // Then
+        assertThat(result.getCurrentStep().getId()).isEqualTo(2L);
+        verify(contextStore, times(1)).put(eq("s1"), any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void 메뉴_명령은_대상_단계를_실행하고_한_번만_저장한다() {
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, "메뉴");
+
+        // Then
+        assertThat(result.getErrorMessage()).isNull();
+        assertThat(result.getCurrentStep().getId()).isEqualTo(2L);
+        verify(contextStore, times(1)).put(eq("s1"), any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(meterRegistry.get("chatbot.scenario.turn").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료_명령은_턴_트랜잭션_밖에서_컨텍스트를_지운다() {
+        // When
+        ScenarioExecutionResult result = scenarioService.executeStep("s1", 1L, "종료");
+
+        // Then
+        assertThat(result.getErrorMessage()).isNull();
+        verify(contextStore).remove("s1");
+        verify(contextStore, never()).put(any(), any());
+        verify(transactionManager, never()).getTransaction(any());
+        assertThat(meterRegistry.get("chatbot.scenario.turn").timer().count()).isEqualTo(1);
+    }
+
+    private static ConversationContext storedContext() {
+        return ConversationContext.builder()
+                .scenarioId(1L)
+                .currentStepId(1L)
+                .variables(new HashMap<>())
+                .systemVariables(new HashMap<>())
+                .visitedSteps(new ArrayList<>())
+                .contextVersion(4L)
+                .build();
+    }
+
+    private static ScenarioStep step(Long id, Long next, boolean start) {
+        return ScenarioStep.builder()
+                .id(id).scenarioId(1L).orderIndex(id.intValue())
+                .stepType(ScenarioStep.StepType.QUESTION).inputType(ScenarioStep.InputType.TEXT)
+                .content("단계 " + id)
+                .nextStepId(next).isStartStep(start)
+                .build();
+    }
+}
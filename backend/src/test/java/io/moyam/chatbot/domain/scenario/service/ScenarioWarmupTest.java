@@ -0,0 +1,74 @@
+package io.moyam.chatbot.domain.scenario.service;
+
+import io.moyam.chatbot.config.WarmupProperties;
+import io.moyam.chatbot.domain.bot.service.BotOptionService;
+import io.moyam.chatbot.domain.scenario.engine.CompiledScenario;
+import io.moyam.chatbot.domain.scenario.engine.ScenarioGraphRegistry;
+import io.moyam.chatbot.domain.scenario.model.Scenario;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.repository.ScenarioMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScenarioWarmupTest {
+
+    private final ScenarioMapper scenarioMapper = mock(ScenarioMapper.class);
+    private final ScenarioGraphRegistry graphRegistry = mock(ScenarioGraphRegistry.class);
+    private final ScenarioService scenarioService = mock(ScenarioService.class);
+    private final BotOptionService botOptionService = mock(BotOptionService.class);
+
+    @Test
+    void 기본_시나리오_봇의_시나리오와_옵션을_모두_로딩한_뒤_ready() {
+        // Given
+        Scenario main = Scenario.builder().id(1L).botId(7L).isDefault(true).build();
+        Scenario sub = Scenario.builder().id(2L).botId(7L).isDefault(false).build();
+        when(scenarioMapper.findDefaults()).thenReturn(List.of(main));
+        when(scenarioMapper.findByBotId(7L)).thenReturn(List.of(main, sub));
+        when(graphRegistry.getScenario(1L)).thenReturn(CompiledScenario.compile(1L, List.of(step(10L, 1L, true), step(11L, 1L, false))));
+        when(graphRegistry.getScenario(2L)).thenReturn(CompiledScenario.compile(2L, List.of(step(20L, 2L, false))));
+
+        ScenarioWarmup warmup = new ScenarioWarmup(new WarmupProperties(), scenarioMapper, graphRegistry,
+                scenarioService, botOptionService);
+        ScenarioWarmupHealthIndicator indicator = new ScenarioWarmupHealthIndicator(warmup);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        // When
+        warmup.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmup.getScenarioCount()).isEqualTo(2);
+        assertThat(warmup.getStepCount()).isEqualTo(3);
+        verify(scenarioService).getStartScenarioStep(1L);
+        verify(scenarioService, never()).getStartScenarioStep(2L);
+        verify(botOptionService).getOptions(7L);
+    }
+
+    @Test
+    void 워밍업이_실패해도_ready_로_전환된다() {
+        when(scenarioMapper.findDefaults()).thenThrow(new IllegalStateException("db down"));
+
+        ScenarioWarmup warmup = new ScenarioWarmup(new WarmupProperties(), scenarioMapper, graphRegistry,
+                scenarioService, botOptionService);
+        warmup.run(new DefaultApplicationArguments());
+
+        assertThat(warmup.isCompleted()).isTrue();
+        assertThat(warmup.getFailureCount()).isEqualTo(1);
+    }
+
+    private static ScenarioStep step(Long id, Long scenarioId, boolean start) {
+        return ScenarioStep.builder()
+                .id(id).scenarioId(scenarioId).orderIndex(id.intValue()).isStartStep(start)
+                .stepType(ScenarioStep.StepType.MESSAGE).content("step " + id)
+                .build();
+    }
+}
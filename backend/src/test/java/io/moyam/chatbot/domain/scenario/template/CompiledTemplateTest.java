@@ -0,0 +1,43 @@
+package io.moyam.chatbot.domain.scenario.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateTest {
+
+    @Test
+    void 리터럴과_변수_슬롯으로_분리된다() {
+        CompiledTemplate template = CompiledTemplate.parse("${userName}님의 ${today} 일정");
+
+        assertThat(template.isConstant()).isFalse();
+        assertThat(template.getVariableNames()).containsExactly("userName", "today");
+        assertThat(template.render(null, (name, context) -> name.toUpperCase()))
+                .isEqualTo("USERNAME님의 TODAY 일정");
+    }
+
+    @Test
+    void 참조된_변수만_해석된다() {
+        List<String> resolved = new ArrayList<>();
+        CompiledTemplate template = CompiledTemplate.parse("메모: \"${memoContent}\"");
+
+        template.render(null, (name, context) -> {
+            resolved.add(name);
+            return "장보기";
+        });
+
+        assertThat(resolved).containsExactly("memoContent");
+    }
+
+    @Test
+    void 변수가_없으면_원본을_그대로_반환한다() {
+        String source = "안녕하세요! ${} 는 치환하지 않습니다 ${unterminated";
+        CompiledTemplate template = CompiledTemplate.parse(source);
+
+        assertThat(template.isConstant()).isTrue();
+        assertThat(template.render(null, (name, context) -> "x")).isSameAs(source);
+    }
+}
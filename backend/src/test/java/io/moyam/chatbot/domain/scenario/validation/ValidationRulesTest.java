@@ -0,0 +1,61 @@
+package io.moyam.chatbot.domain.scenario.validation;
+
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationRulesTest {
+
+    @Test
+    void 길이_규칙이_순서대로_적용된다() {
+        ValidationRules rules = ValidationRules.compile("required|min:2|max:10", ScenarioStep.InputType.TEXT);
+
+        assertThat(rules.size()).isEqualTo(3);
+        assertThat(rules.validate("홍길동")).isTrue();
+        assertThat(rules.validate("")).isFalse();
+        assertThat(rules.validate("홍")).isFalse();
+        assertThat(rules.validate("가나다라마바사아자차카")).isFalse();
+    }
+
+    @Test
+    void 정규식은_캐시된_Pattern_을_공유한다() {
+        ValidationRules first = ValidationRules.compile("regex:^[0-9]{4}$", null);
+        long cached = PatternCache.size();
+        ValidationRules second = ValidationRules.compile("regex:^[0-9]{4}$", null);
+
+        assertThat(PatternCache.size()).isEqualTo(cached);
+        assertThat(first.validate("2025")).isTrue();
+        assertThat(second.validate("20a5")).isFalse();
+    }
+
+    @Test
+    void 입력_유형에_맞는_규칙이_자동_적용된다() {
+        assertThat(ValidationRules.compile(null, ScenarioStep.InputType.EMAIL).validate("user@moyam.io")).isTrue();
+        assertThat(ValidationRules.compile(null, ScenarioStep.InputType.EMAIL).validate("user@")).isFalse();
+        assertThat(ValidationRules.compile(null, ScenarioStep.InputType.PHONE).validate("010-1234-5678")).isTrue();
+        assertThat(ValidationRules.compile(null, ScenarioStep.InputType.PHONE).validate("전화번호")).isFalse();
+        assertThat(ValidationRules.compile("number", null).validate("1,234.5")).isTrue();
+        assertThat(ValidationRules.compile("number", null).validate("12a")).isFalse();
+        assertThat(ValidationRules.compile(null, ScenarioStep.InputType.TEXT)).isSameAs(ValidationRules.NONE);
+    }
+
+    @Test
+    void 잘못된_규칙은_항상_실패하고_알_수_없는_규칙은_무시한다() {
+        assertThat(ValidationRules.compile("min:abc", null).validate("아무거나")).isFalse();
+        assertThat(ValidationRules.compile("regex:([a-z", null).validate("abc")).isFalse();
+        assertThat(ValidationRules.compile("unknown|required", null).validate("값")).isTrue();
+    }
+
+    @Test
+    void 과도한_백트래킹_정규식은_시간_제한으로_실패한다() {
+        ValidationRules rules = ValidationRules.compile("regex:(.*a){15}$", null);
+        String evil = "a".repeat(40) + "b";
+
+        long start = System.nanoTime();
+        assertThat(rules.validate(evil)).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(InputRules.REGEX_TIMEOUT_NANOS * 20);
+
+        assertThat(rules.validate("a".repeat(InputRules.MAX_REGEX_INPUT_LENGTH + 1))).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+package io.moyam.chatbot.interfaces.api.conversation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.moyam.chatbot.domain.bot.model.Bot;
+import io.moyam.chatbot.domain.bot.repository.BotMapper;
+import io.moyam.chatbot.domain.conversation.model.Conversation;
+import io.moyam.chatbot.domain.conversation.model.Message;
+import io.moyam.chatbot.domain.conversation.repository.ConversationMapper;
+import io.moyam.chatbot.domain.conversation.repository.MessageMapper;
+import io.moyam.chatbot.domain.user.model.User;
+import io.moyam.chatbot.domain.user.repository.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 대화 이력 API 를 실제 DB 로 확인 (페이지와 NDJSON 내보내기가 같은 행을 같은 순서로 돌려주는지)
+ * 내보내기는 비동기 스레드에서 읽으므로 테스트 트랜잭션 대신 직접 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class ConversationHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private BotMapper botMapper;
+
+    @Autowired
+    private ConversationMapper conversationMapper;
+
+    @Autowired
+    private MessageMapper messageMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+    private Long userId;
+    private Long botId;
+    private final List<Long> conversationIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("history-" + UUID.randomUUID() + "@moyam.io")
+                .passwordHash("hashedPassword123")
+                .name("이력 테스터")
+                .isActive(true)
+                .build();
+        userMapper.insert(user);
+        userId = user.getId();
+
+        Bot bot = Bot.builder()
+                .userId(userId)
+                .name("이력 테스트 봇")
+                .isActive(true)
+                .build();
+        botMapper.insert(bot);
+        botId = bot.getId();
+
+        for (int i = 0; i < 3; i++) {
+            Conversation conversation = Conversation.builder()
+                    .botId(botId)
+                    .status(Conversation.ConversationStatus.ACTIVE)
+                    .sessionId("history-" + UUID.randomUUID())
+                    .lastMessageAt(base.plusMinutes(i))
+                    .build();
+            conversationMapper.insert(conversation);
+            conversationIds.add(conversation.getId());
+        }
+
+        // 메시지가 한 번도 없었던 대화 (목록과 내보내기 모두 제외)
+        Conversation empty = Conversation.builder()
+                .botId(botId)
+                .status(Conversation.ConversationStatus.ACTIVE)
+                .sessionId("history-" + UUID.randomUUID())
+                .build();
+        conversationMapper.insert(empty);
+        jdbcTemplate.update("UPDATE conversations SET last_message_at = NULL WHERE id = ?", empty.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 사용자 -> 봇 -> 대화 -> 메시지 순으로 연쇄 삭제
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void 대화_목록_페이지와_내보내기가_같은_대화를_돌려준다() throws Exception {
+        // When
+        JsonNode first = getJson("/api/bots/" + botId + "/conversations?size=2");
+        JsonNode second = getJson("/api/bots/" + botId + "/conversations?size=2&cursor="
+                + first.get("nextCursor").asText());
+        List<JsonNode> exported = export("/api/bots/" + botId + "/conversations/export");
+
+        // Then: 최근 메시지 순
+        List<Long> paged = new ArrayList<>();
+        first.get("items").forEach(item -> paged.add(item.get("id").asLong()));
+        second.get("items").forEach(item -> paged.add(item.get("id").asLong()));
+        assertThat(paged).containsExactly(conversationIds.get(2), conversationIds.get(1), conversationIds.get(0));
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+        assertThat(exported).extracting(line -> line.get("id").asLong()).containsExactlyElementsOf(paged);
+        assertThat(exported).extracting(line -> line.get("status").asText()).containsOnly("ACTIVE");
+    }
+
+    @Test
+    void 메시지_페이지와_내보내기가_같은_메시지를_같은_순서로_돌려준다() throws Exception {
+        // Given
+        Long conversationId = conversationIds.get(0);
+        messageMapper.insertBatch(List.of(
+                message(conversationId, Message.SenderType.USER, "안녕하세요", 0),
+                message(conversationId, Message.SenderType.BOT, "무엇을 도와드릴까요?", 1),
+                message(conversationId, Message.SenderType.USER, "일정 확인", 2)));
+
+        // When
+        JsonNode first = getJson("/api/conversations/" + conversationId + "/messages?size=2");
+        JsonNode second = getJson("/api/conversations/" + conversationId + "/messages?size=2&cursor="
+                + first.get("nextCursor").asText());
+        List<JsonNode> exported = export("/api/conversations/" + conversationId + "/messages/export");
+
+        // Then: 오래된 순
+        List<String> paged = new ArrayList<>();
+        first.get("items").forEach(item -> paged.add(item.get("content").asText()));
+        second.get("items").forEach(item -> paged.add(item.get("content").asText()));
+        assertThat(paged).containsExactly("안녕하세요", "무엇을 도와드릴까요?", "일정 확인");
+        assertThat(exported).extracting(line -> line.get("content").asText()).containsExactlyElementsOf(paged);
+        assertThat(exported).extracting(line -> line.get("senderType").asText())
+                .containsExactly("USER", "BOT", "USER");
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private Message message(Long conversationId, Message.SenderType senderType, String content, int offsetSeconds) {
+        return Message.builder()
+                .conversationId(conversationId)
+                .senderType(senderType)
+                .messageType(Message.MessageType.TEXT)
+                .content(content)
+                .isRead(false)
+                .createdAt(base.plusSeconds(offsetSeconds))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package io.moyam.chatbot.interfaces.api.websocket.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.moyam.chatbot.domain.conversation.model.ConversationContext;
+import io.moyam.chatbot.domain.scenario.model.ChoiceOption;
+import io.moyam.chatbot.domain.scenario.model.ScenarioExecutionResult;
+import io.moyam.chatbot.domain.scenario.model.ScenarioStep;
+import io.moyam.chatbot.domain.scenario.model.StepMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatResponseMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ChatResponseMessageConverter converter = new ChatResponseMessageConverter(objectMapper);
+
+    @Test
+    void 고정_응답은_일반_직렬화와_같은_JSON_을_만든다() throws Exception {
+        // Given
+        ChatResponsePreset preset = ChatResponsePreset.of("info", "안녕하세요!\n\"무엇을\" 도와드릴까요?",
+                ChoiceOption.builder().value("help").label("도움말").build());
+        ChatResponse response = preset.forSession("session-1");
+
+        // When: 두 번째 전송은 미리 만든 본문 재사용
+        write(preset.forSession("session-0"));
+        JsonNode written = objectMapper.readTree(write(response));
+
+        // Then
+        ChatResponse plain = response.toBuilder().preset(null).build();
+        assertThat(written).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(plain)));
+        assertThat(written.get("sessionId").asText()).isEqualTo("session-1");
+        assertThat(written.get("choices").get(0).has("emoji")).isFalse();
+        assertThat(written.has("nextStepId")).isFalse();
+    }
+
+    @Test
+    void 시나리오_응답은_옵션을_켠_경우만_변수를_포함한다() throws Exception {
+        // Given
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("userName", "홍길동");
+        ScenarioExecutionResult result = ScenarioExecutionResult.builder()
+                .currentStep(ScenarioStep.builder().id(3L).content("{{userName}}님 안녕하세요").build())
+                .processedMessage("홍길동님 안녕하세요")
+                .context(ConversationContext.builder().scenarioId(1L).variables(variables).build())
+                .choices(List.of())
+                .build();
+
+        // When
+        JsonNode lean = objectMapper.readTree(write(ChatResponse.fromScenarioResult(result, "s1")));
+        JsonNode debug = objectMapper.readTree(write(ChatResponse.fromScenarioResult(result, "s1", true)));
+
+        // Then
+        assertThat(lean.get("message").asText()).isEqualTo("홍길동님 안녕하세요");
+        assertThat(lean.has("variables")).isFalse();
+        assertThat(lean.has("processedMessage")).isFalse();
+        assertThat(lean.has("choices")).isFalse();
+        assertThat(debug.get("variables").get("userName").asText()).isEqualTo("홍길동");
+    }
+
+    @Test
+    void 자동으로_지나간_단계가_있으면_한_프레임에_배열로_보낸다() throws Exception {
+        // Given
+        ScenarioExecutionResult result = ScenarioExecutionResult.builder()
+                .currentStep(ScenarioStep.builder().id(3L).content("이름을 알려주세요").build())
+                .context(ConversationContext.builder().scenarioId(1L).build())
+                .precedingMessages(List.of(
+                        StepMessage.builder().step(ScenarioStep.builder().id(1L).content("안녕하세요").build()).build(),
+                        StepMessage.builder().step(ScenarioStep.builder().id(2L).build()).processedMessage("안내").build()))
+                .build();
+
+        // When
+        JsonNode frame = objectMapper.readTree(write(ChatResponse.fromScenarioResult(result, "s1")));
+        JsonNode single = objectMapper.readTree(write(ChatResponse.info("안내", "s1")));
+
+        // Then
+        assertThat(frame.isArray()).isTrue();
+        assertThat(frame).extracting(node -> node.get("currentStepId").asLong()).containsExactly(1L, 2L, 3L);
+        assertThat(frame).extracting(node -> node.get("message").asText())
+                .containsExactly("안녕하세요", "안내", "이름을 알려주세요");
+        assertThat(frame.get(0).get("sessionId").asText()).isEqualTo("s1");
+        assertThat(single.isObject()).isTrue();
+    }
+
+    private byte[] write(ChatResponse response) {
+        Message<?> message = converter.toMessage(response, null);
+        assertThat(message).isNotNull();
+        return (byte[]) message.getPayload();
+    }
+}
@@ -30,8 +30,10 @@ export const useChatStore = defineStore('chat', {
 
           // 메시지 구독
           this.stompClient?.subscribe(`/topic/chat/${this.sessionId}`, (response) => {
-            const chatResponse = JSON.parse(response.body)
-            this.handleServerMessage(chatResponse)
+            // 한 턴에 여러 단계를 지나가면 응답 배열이 한 프레임으로 옴
+            const payload = JSON.parse(response.body)
+            const chatResponses = Array.isArray(payload) ? payload : [payload]
+            chatResponses.forEach((chatResponse) => this.handleServerMessage(chatResponse))
           })
         },
         (error) => {